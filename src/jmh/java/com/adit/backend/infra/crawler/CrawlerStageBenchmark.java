@@ -0,0 +1,117 @@
+package com.adit.backend.infra.crawler;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.infra.crawler.platform.GenericWebCrawlingStrategy;
+import com.adit.backend.infra.crawler.platform.NaverCrawlingStrategy;
+import com.adit.backend.infra.crawler.support.CrawlerFixtures;
+
+/**
+ * 크롤링 단계별 성능 (파싱, 추출, WebContentCrawler 정적 단계)
+ * <p>
+ * 추출 단계는 일반 웹 전략 설정(본문 = body, 이미지 = .entry-content)으로 각 저장 페이지에 적용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CrawlerStageBenchmark {
+
+	private static final SinglePassExtractor.Plan PLAN = new SinglePassExtractor.Plan(
+		WebContentCrawler.compile(GenericWebCrawlingStrategy.TITLE_TAG),
+		WebContentCrawler.compile(GenericWebCrawlingStrategy.TEXT_TAG),
+		GenericWebCrawlingStrategy.MINIMUM_RECOGNIZED_CHARACTER, true);
+	private static final Evaluator CONTENT = WebContentCrawler.compile(GenericWebCrawlingStrategy.CONTENT_TAG);
+	private static final Evaluator IFRAME = WebContentCrawler.compile(NaverCrawlingStrategy.IFRAME_TAG);
+	private static final Document OUTER_DOCUMENT = Jsoup.parse(
+		"<html><body><iframe id=\"mainFrame\" src=\"/PostView.naver?blogId=sample&logNo=1\"></iframe></body></html>");
+
+	@Param({"naver", "tistory", "brunch", "generic"})
+	private String page;
+
+	private byte[] html;
+	private Document document;
+	private String title;
+	private String body;
+	private String content;
+	private List<String> imageSrcList;
+
+	@Setup
+	public void setUp() {
+		html = CrawlerFixtures.html(page);
+		document = CrawlerFixtures.document(page);
+		StringBuilder builder = new StringBuilder();
+		SinglePassExtractor.Page extracted = SinglePassExtractor.extract(document, document.body(),
+			document.select(CONTENT), PLAN, builder);
+		title = extracted.title();
+		body = builder.toString();
+		content = WebContentCrawler.preprocessText(WebContentCrawler.titledContent(title, body));
+		imageSrcList = extracted.imageSrcList();
+	}
+
+	@Benchmark
+	public Document parse() {
+		return Jsoup.parse(new String(html, StandardCharsets.UTF_8), CrawlerFixtures.originUrl(page));
+	}
+
+	@Benchmark
+	public SinglePassExtractor.Page singlePassExtract() {
+		Elements imageRoots = document.select(CONTENT);
+		return SinglePassExtractor.extract(document, document.body(), imageRoots, PLAN, new StringBuilder());
+	}
+
+	/**
+	 * 파싱과 추출을 함께 수행 (parse + singlePassExtract 와 비교)
+	 */
+	@Benchmark
+	public SinglePassExtractor.Page streamingExtract() throws IOException {
+		try (InputStreamReader reader = new InputStreamReader(new ByteArrayInputStream(html), StandardCharsets.UTF_8)) {
+			return StreamingExtractor.extract(reader, CrawlerFixtures.originUrl(page), PLAN, CONTENT,
+				Integer.MAX_VALUE, new StringBuilder());
+		}
+	}
+
+	@Benchmark
+	public Evaluator compile() {
+		return WebContentCrawler.compile(GenericWebCrawlingStrategy.TEXT_TAG);
+	}
+
+	@Benchmark
+	public String titledContent() {
+		return WebContentCrawler.titledContent(title, body);
+	}
+
+	@Benchmark
+	public String preprocessText() {
+		return WebContentCrawler.preprocessText(WebContentCrawler.titledContent(title, body));
+	}
+
+	@Benchmark
+	public CrawlCompletionResponse crawlCompletionResponse() {
+		WebContentCrawler.requireTitle(CrawlerFixtures.originUrl(page), title);
+		return WebContentCrawler.getCrawlCompletionResponse(content, imageSrcList);
+	}
+
+	@Benchmark
+	public String resolveIframeUrl() {
+		return WebContentCrawler.resolveIframeUrl(OUTER_DOCUMENT, IFRAME, NaverCrawlingStrategy.BASE_URL);
+	}
+}
@@ -0,0 +1,52 @@
+package com.adit.backend.infra.crawler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.infra.crawler.common.WebCrawlingStrategy;
+import com.adit.backend.infra.crawler.support.CrawlerFixtures;
+import com.adit.backend.infra.crawler.support.CrawlerTestContext;
+
+/**
+ * 플랫폼 전략별 extractContents 성능 (저장 페이지, 네트워크 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CrawlingStrategyBenchmark {
+
+	@Param({"naver", "tistory", "brunch", "generic"})
+	private String page;
+
+	private CrawlerTestContext context;
+	private WebCrawlingStrategy strategy;
+	private Document document;
+
+	@Setup
+	public void setUp() {
+		context = CrawlerTestContext.create(false);
+		strategy = context.strategyFor(CrawlerFixtures.originUrl(page));
+		document = CrawlerFixtures.document(page);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public CrawlCompletionResponse extractContents() {
+		return strategy.extractContents(document.clone());
+	}
+}
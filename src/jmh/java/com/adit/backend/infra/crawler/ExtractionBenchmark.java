@@ -0,0 +1,132 @@
+package com.adit.backend.infra.crawler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.adit.backend.infra.crawler.platform.BrunchCrawlingStrategy;
+import com.adit.backend.infra.crawler.platform.NaverCrawlingStrategy;
+import com.adit.backend.infra.crawler.platform.TistoryCrawlingStrategy;
+import com.adit.backend.infra.crawler.support.CrawlerFixtures;
+
+/**
+ * 본문 추출 성능 비교 (선택자별 select + text() 반복 vs SinglePassExtractor 단일 순회)
+ * <p>
+ * 저장된 네이버·티스토리·브런치 페이지(src/test/resources/pages)를 사용하며, 기존 방식이 불필요 요소를 DOM 에서 제거하므로
+ * 두 방식 모두 매 호출마다 복제한 문서를 대상으로 한다. 할당량 비교는 -prof gc 결과를 참고한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExtractionBenchmark {
+
+	private static final Evaluator PLACE = WebContentCrawler.compile(
+		"a.place, a.se-map-info.__se_link, div.se-map-info.__se_link");
+	private static final Evaluator UNNECESSARY = WebContentCrawler.compile("script, style, button, input, textarea, "
+		+ "div.another_category, dic.category, div.recommend_list, div.profile, div#postListBottom, div.wrap_postcomment, "
+		+ "div.item_type_opengraph, div.lnb,div.search, div.search-tab-all div.inner50");
+	private static final Evaluator IMAGE = WebContentCrawler.compile("img");
+
+	@Param({"naver", "tistory", "brunch"})
+	private String page;
+
+	private Document document;
+	private Evaluator content;
+	private SinglePassExtractor.Plan plan;
+
+	@Setup
+	public void setUp() {
+		document = CrawlerFixtures.document(page);
+		switch (page) {
+			case "naver" -> {
+				content = WebContentCrawler.compile(NaverCrawlingStrategy.CONTENT_TAG);
+				plan = plan(NaverCrawlingStrategy.TITLE_TAG, NaverCrawlingStrategy.TEXT_TAG,
+					NaverCrawlingStrategy.MINIMUM_RECOGNIZED_CHARACTER, true);
+			}
+			case "tistory" -> {
+				content = WebContentCrawler.compile(TistoryCrawlingStrategy.DEFAULT_CONTENT_TAG);
+				plan = plan(TistoryCrawlingStrategy.TITLE_TAG, TistoryCrawlingStrategy.TEXT_TAG,
+					TistoryCrawlingStrategy.MINIMUM_RECOGNIZED_CHARACTER, false);
+			}
+			case "brunch" -> {
+				content = WebContentCrawler.compile(BrunchCrawlingStrategy.DEFAULT_CONTENT_TAG);
+				plan = plan(BrunchCrawlingStrategy.TITLE_TAG, BrunchCrawlingStrategy.TEXT_TAG,
+					BrunchCrawlingStrategy.MINIMUM_RECOGNIZED_CHARACTER, true);
+			}
+			default -> throw new IllegalArgumentException(page);
+		}
+	}
+
+	/**
+	 * 기존 방식: 제목·불필요 요소·본문 블록·이미지·장소마다 select 후 요소별 text()
+	 */
+	@Benchmark
+	public String legacyMultiSelect() {
+		Document target = document.clone();
+		StringBuilder contentBuilder = new StringBuilder();
+		String title = target.select(plan.title()).text();
+		if (!title.isEmpty()) {
+			contentBuilder.append("제목: ").append(title).append("\n\n");
+		}
+		Elements contentElements = target.select(content);
+		Element mainContent = contentElements.first();
+		if (mainContent != null) {
+			mainContent.select(UNNECESSARY).remove();
+			for (Element element : mainContent.select(plan.text())) {
+				String text = element.text().trim();
+				if (text.length() > plan.minRecognizedChar()) {
+					contentBuilder.append(text).append("\n");
+				}
+			}
+		}
+		List<String> imageSrcList = new ArrayList<>();
+		for (Element root : contentElements) {
+			for (Element img : root.select(IMAGE)) {
+				String src = SinglePassExtractor.imageSrcOf(img);
+				if (!src.isEmpty()) {
+					imageSrcList.add(src);
+				}
+			}
+		}
+		StringBuilder placeBuilder = new StringBuilder();
+		if (plan.collectPlaces()) {
+			for (Element place : target.select(PLACE)) {
+				String text = place.text().trim();
+				if (!text.isEmpty()) {
+					placeBuilder.append(text).append("\n");
+				}
+			}
+		}
+		return contentBuilder.append(placeBuilder).append(imageSrcList.size()).toString();
+	}
+
+	@Benchmark
+	public String singlePass() {
+		Document target = document.clone();
+		Elements contentElements = target.select(content);
+		StringBuilder body = new StringBuilder();
+		SinglePassExtractor.Page result = SinglePassExtractor.extract(target, contentElements.first(),
+			contentElements, plan, body);
+		return WebContentCrawler.titledContent(result.title(), body) + result.placeInfo()
+			+ result.imageSrcList().size();
+	}
+
+	private static SinglePassExtractor.Plan plan(String title, String text, int minRecognizedChar,
+		boolean collectPlaces) {
+		return new SinglePassExtractor.Plan(WebContentCrawler.compile(title), WebContentCrawler.compile(text),
+			minRecognizedChar, collectPlaces);
+	}
+}
@@ -0,0 +1,75 @@
+package com.adit.backend.infra.crawler;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.adit.backend.infra.crawler.util.TextNormalizer;
+
+/**
+ * 본문 전처리 성능 비교 (기존 replaceAll 체인 vs TextNormalizer)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TextNormalizerBenchmark {
+
+	private static final String[] FRAGMENTS = {
+		"오늘은 성수동에 새로 생긴 카페에 다녀왔어요. ", "분위기가 정말 좋았고 ", "[광고] ", "(내돈내산) ",
+		"주소: 서울 성동구 연무장길 12 ", "https://blog.naver.com/sample/223344556677 ", "#성수카페 #데이트 ",
+		"\uD83D\uDE0A\uD83D\uDC4D ", "★★★★☆ ", "\n\n", "영업시간 11:00 - 21:00\n", "{{template}} ",
+		"공지 목록 전체보기\n", "저작자 표시 변경 금지 불가\n", "Lorem ipsum dolor sit amet. ", "   \t "
+	};
+
+	@Param({"2000", "20000"})
+	private int length;
+
+	private String text;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(20250101L);
+		StringBuilder builder = new StringBuilder(length + 64);
+		while (builder.length() < length) {
+			builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+		}
+		text = builder.toString();
+	}
+
+	@Benchmark
+	public String legacyReplaceAllChain() {
+		return text
+			.replaceAll("\\{\\{[^}]+\\}\\}", "")
+			.replaceAll("저작자[^\\n]*변경[^\\n]*불가", "")
+			.replaceAll("공지\\s*목록[^\\n]*\\n?", "")
+			.replaceAll("댓글쓰기[^\\n]*다음", "")
+			.replaceAll("URL[^\\n]*신고하기", "")
+			.replaceAll("\\[.*?\\]", "")
+			.replaceAll("\\(.*?\\)", "")
+			.replaceAll("[\\uD83C-\\uDBFF\\uDC00-\\uDFFF]", "")
+			.replaceAll("[\\u2600-\\u27BF]", "")
+			.replaceAll("[^\\p{L}\\p{N}\\p{P}\\s]", "")
+			.replaceAll("\\b(https?|ftp|file)://\\S+\\b", "")
+			.replaceAll("<[^>]+>", "")
+			.replaceAll("#\\w+", "")
+			.replaceAll("\\[.*?\\]", "")
+			.replaceAll("\\(.*?\\)", "")
+			.replaceAll("[\\p{So}\\p{Sk}]", "")
+			.replaceAll("[\\r\\n]+", "\n")
+			.replaceAll("\\s{2,}", " ")
+			.trim();
+	}
+
+	@Benchmark
+	public String textNormalizer() {
+		return TextNormalizer.normalize(text);
+	}
+}
@@ -0,0 +1,71 @@
+package com.adit.backend.infra.crawler.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.infra.crawler.support.CrawlerStubServer;
+import com.adit.backend.infra.crawler.support.CrawlerTestContext;
+
+/**
+ * 로컬 stub 서버 대상 crawlAsync 전체 경로 처리량·지연 시간 (HTTP 수신, 파싱, 추출, 중복 요청 합류 포함)
+ * <p>
+ * 요청마다 다른 쿼리 파라미터를 붙여 중복 요청 합류 없이 각각 크롤링한다. 캐시는 꺼져 있다.
+ * 지연 시간 분포는 SampleTime 모드의 백분위 결과를 참고한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class CrawlAsyncBenchmark {
+
+	@Param({"naver", "tistory", "brunch", "generic"})
+	private String page;
+
+	/**
+	 * stub 서버 응답 지연 (ms)
+	 */
+	@Param({"0", "50"})
+	private long latencyMillis;
+
+	@Param({"true", "false"})
+	private boolean streaming;
+
+	private CrawlerStubServer stubServer;
+	private CrawlerTestContext context;
+	private String url;
+	private final AtomicLong sequence = new AtomicLong();
+
+	@Setup
+	public void setUp() throws IOException {
+		stubServer = CrawlerStubServer.start(Duration.ofMillis(latencyMillis));
+		context = CrawlerTestContext.create(streaming);
+		url = stubServer.url(page);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+		stubServer.close();
+	}
+
+	@Benchmark
+	public CrawlCompletionResponse crawlAsync() {
+		return context.crawlingService()
+			.crawlAsync(url + "?n=" + sequence.incrementAndGet())
+			.join();
+	}
+}
@@ -1,14 +1,21 @@
 package com.adit.backend.domain.ai.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.adit.backend.domain.ai.dto.request.BatchSummaryRequest;
 import com.adit.backend.domain.ai.dto.request.ContentExtractionRequest;
+import com.adit.backend.domain.ai.dto.response.BatchSummaryResponse;
 import com.adit.backend.domain.ai.dto.response.ContentListResponse;
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.domain.ai.service.BatchSummaryService;
 import com.adit.backend.domain.ai.service.ContentService;
 import com.adit.backend.domain.ai.service.OpenAiService;
 import com.adit.backend.global.common.ApiResponse;
@@ -20,6 +27,7 @@ import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @RestController
@@ -30,16 +38,43 @@ public class OpenAiController {
 
 	private final OpenAiService openAiService;
 	private final ContentService contentService;
+	private final BatchSummaryService batchSummaryService;
 
 	@Operation(
 		summary = "URL 기반 문화/외식 정보 분석",
 		description = "입력된 URL의 웹 페이지를 크롤링하여 OpenAI를 통해 문화/외식 관련 정보를 추출하고 구조화된 데이터로 반환합니다."
 	)
 	@PostMapping("/summary")
-	public ResponseEntity<ApiResponse<ContentListResponse>> summaryPage(
+	public CompletableFuture<ResponseEntity<ApiResponse<ContentListResponse>>> summaryPage(
 		@Parameter(description = "분석할 웹 페이지 URL 정보", required = true)
 		@Valid @RequestBody final ContentExtractionRequest request) {
-		return ResponseEntity.ok(ApiResponse.success(openAiService.summaryContent(request.url())));
+		return openAiService.summaryContent(request.url())
+			.thenApply(response -> ResponseEntity.ok(ApiResponse.success(response)));
+	}
+
+	@Operation(
+		summary = "URL 기반 문화/외식 정보 분석 (스트리밍)",
+		description = "분석 결과를 SSE로 전송합니다. 장소 정보가 하나씩 완성될 때마다 content 이벤트를 보내고, "
+			+ "이후 images(이미지 URL 목록), complete(전체 건수) 이벤트로 종료합니다. 실패 시 error 이벤트를 보냅니다."
+	)
+	@PostMapping(value = "/summary/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public Flux<ServerSentEvent<Object>> summaryPageStream(
+		@Parameter(description = "분석할 웹 페이지 URL 정보", required = true)
+		@Valid @RequestBody final ContentExtractionRequest request) {
+		return openAiService.streamSummaryContent(request.url());
+	}
+
+	@Operation(
+		summary = "다중 URL 기반 문화/외식 정보 분석",
+		description = "여러 URL을 중복 제거 후 병렬로 분석하여, 완료되는 순서대로 URL별 결과를 NDJSON 또는 SSE(Accept: text/event-stream)로 전송합니다. "
+			+ "실패한 URL은 해당 항목의 error 에 원인이 담기며 나머지 URL의 처리는 계속됩니다."
+	)
+	@PostMapping(value = "/summary/batch",
+		produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+	public Flux<BatchSummaryResponse> summaryPages(
+		@Parameter(description = "분석할 웹 페이지 URL 목록 (최대 20개)", required = true)
+		@Valid @RequestBody final BatchSummaryRequest request) {
+		return batchSummaryService.summaryContents(request.urls());
 	}
 
 	@Operation(
@@ -47,9 +82,10 @@ public class OpenAiController {
 		description = "입력된 URL의 웹 페이지 크롤링을 수행하여 추출된 원본 컨텐츠를 반환합니다."
 	)
 	@PostMapping("/crawl")
-	public ResponseEntity<ApiResponse<CrawlCompletionResponse>> crawlPage(
+	public CompletableFuture<ResponseEntity<ApiResponse<CrawlCompletionResponse>>> crawlPage(
 		@Parameter(description = "크롤링할 웹 페이지 URL 정보", required = true)
 		@Valid @RequestBody final ContentExtractionRequest request) {
-		return ResponseEntity.ok(ApiResponse.success(contentService.extractContents(request.url()).join()));
+		return contentService.extractContents(request.url())
+			.thenApply(response -> ResponseEntity.ok(ApiResponse.success(response)));
 	}
 }
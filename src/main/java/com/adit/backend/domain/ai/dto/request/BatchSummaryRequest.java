@@ -0,0 +1,13 @@
+package com.adit.backend.domain.ai.dto.request;
+
+import java.util.List;
+
+import org.hibernate.validator.constraints.URL;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record BatchSummaryRequest(
+	@NotEmpty @Size(max = 20) List<@URL String> urls
+) {
+}
@@ -0,0 +1,21 @@
+package com.adit.backend.domain.ai.dto.response;
+
+import com.adit.backend.global.error.ErrorResponse;
+
+/**
+ * 다중 URL 요약의 개별 결과 (실패한 항목은 error 에 원인을 담고 나머지 항목은 계속 처리된다)
+ */
+public record BatchSummaryResponse(
+	String url,
+	boolean success,
+	ContentListResponse data,
+	ErrorResponse error
+) {
+	public static BatchSummaryResponse success(String url, ContentListResponse data) {
+		return new BatchSummaryResponse(url, true, data, null);
+	}
+
+	public static BatchSummaryResponse failure(String url, ErrorResponse error) {
+		return new BatchSummaryResponse(url, false, null, error);
+	}
+}
@@ -1,6 +1,9 @@
 package com.adit.backend.domain.ai.dto.response;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import lombok.Builder;
 
@@ -9,4 +12,25 @@ public record ContentListResponse(
 	List<ContentResponse> contentResponseList,
 	List<String> imageSrcList
 ) {
+	/**
+	 * 본문 조각별 요약 결과를 하나로 합친다 (이름·위치가 같은 항목은 먼저 나온 항목을 유지하고 비어 있는 필드만 보완)
+	 */
+	public static ContentListResponse merge(List<ContentListResponse> partials, List<String> imageSrcList) {
+		Map<String, ContentResponse> merged = new LinkedHashMap<>();
+		for (ContentListResponse partial : partials) {
+			if (partial == null || partial.contentResponseList() == null) {
+				continue;
+			}
+			for (ContentResponse content : partial.contentResponseList()) {
+				if (content == null) {
+					continue;
+				}
+				merged.merge(content.dedupKey(), content, ContentResponse::complement);
+			}
+		}
+		return ContentListResponse.builder()
+			.contentResponseList(new ArrayList<>(merged.values()))
+			.imageSrcList(imageSrcList)
+			.build();
+	}
 }
@@ -1,5 +1,8 @@
 package com.adit.backend.domain.ai.dto.response;
 
+import java.util.Locale;
+import java.util.Objects;
+
 import com.adit.backend.domain.ai.enums.ContentType;
 
 
@@ -9,4 +12,26 @@ public record ContentResponse(
 	String location,
 	String period
 ) {
+	/**
+	 * 비어 있는 필드를 other 의 값으로 채운 항목 반환
+	 */
+	public ContentResponse complement(ContentResponse other) {
+		return new ContentResponse(
+			name != null ? name : other.name(),
+			type != null ? type : other.type(),
+			location != null ? location : other.location(),
+			period != null ? period : other.period()
+		);
+	}
+
+	/**
+	 * 중복 판별 키 (공백·대소문자를 무시한 이름과 위치)
+	 */
+	public String dedupKey() {
+		return normalize(name) + "|" + normalize(location);
+	}
+
+	private static String normalize(String value) {
+		return Objects.toString(value, "").replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+	}
 }
@@ -0,0 +1,47 @@
+package com.adit.backend.domain.ai.gateway;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * AI 제공자 호출 게이트웨이 설정 (ai.gateway.*)
+ *
+ * @param maxConcurrentCalls 동시에 진행할 수 있는 최대 모델 호출 수
+ * @param acquireTimeout     호출 허가(동시 호출 수, 분당 요청·토큰 한도)를 기다리는 최대 시간
+ * @param requestsPerMinute  분당 요청 수 한도 (RPM)
+ * @param tokensPerMinute    분당 토큰 수 한도 (TPM, 입력 추정치 + 최대 출력 토큰 기준)
+ * @param maxAttempts        429/5xx 응답 시 첫 호출을 포함한 최대 시도 횟수
+ * @param initialBackoff     첫 재시도 대기 시간 (이후 두 배씩 증가, 0~100% 지터 적용)
+ * @param maxBackoff         재시도 대기 시간 상한
+ * @param failureThreshold   회로를 여는 연속 실패 횟수
+ * @param openDuration       회로가 열린 뒤 시험 호출을 허용하기까지의 시간
+ * @param mock               로컬 검증용 가짜 모델 설정
+ */
+@ConfigurationProperties(prefix = "ai.gateway")
+public record AiGatewayProperties(
+	@DefaultValue("16") int maxConcurrentCalls,
+	@DefaultValue("30s") Duration acquireTimeout,
+	@DefaultValue("500") int requestsPerMinute,
+	@DefaultValue("200000") int tokensPerMinute,
+	@DefaultValue("3") int maxAttempts,
+	@DefaultValue("500ms") Duration initialBackoff,
+	@DefaultValue("8s") Duration maxBackoff,
+	@DefaultValue("5") int failureThreshold,
+	@DefaultValue("30s") Duration openDuration,
+	@DefaultValue Mock mock
+) {
+
+	/**
+	 * @param enabled     true 이면 OpenAI 대신 가짜 모델 사용
+	 * @param latency     응답 지연 시간
+	 * @param failureRate 503 오류를 반환할 확률 (0.0 ~ 1.0)
+	 */
+	public record Mock(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue("1s") Duration latency,
+		@DefaultValue("0.0") double failureRate
+	) {
+	}
+}
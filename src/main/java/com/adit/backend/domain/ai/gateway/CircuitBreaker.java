@@ -0,0 +1,87 @@
+package com.adit.backend.domain.ai.gateway;
+
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 제공자 회로 차단기
+ * <p>
+ * 일시적 오류(429/5xx, 네트워크 오류)가 연속으로 failureThreshold 번 발생하면 회로를 열어 openDuration 동안 호출을 즉시 거절한다.
+ * 시간이 지나면 시험 호출 하나만 통과시키고, 성공하면 닫고 실패하면 다시 연다.
+ */
+@Slf4j
+final class CircuitBreaker {
+
+	enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final long openNanos;
+	private final LongSupplier clock;
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAt;
+
+	CircuitBreaker(int failureThreshold, long openNanos, LongSupplier clock) {
+		this.failureThreshold = failureThreshold;
+		this.openNanos = openNanos;
+		this.clock = clock;
+	}
+
+	/**
+	 * 호출 가능 여부 (열린 상태에서 대기 시간이 지났으면 시험 호출 하나를 허용)
+	 */
+	synchronized boolean tryAcquire() {
+		return switch (state) {
+			case CLOSED -> true;
+			case HALF_OPEN -> false;
+			case OPEN -> {
+				if (clock.getAsLong() - openedAt < openNanos) {
+					yield false;
+				}
+				state = State.HALF_OPEN;
+				log.info("[AI] 회로 차단기 시험 호출 허용");
+				yield true;
+			}
+		};
+	}
+
+	/**
+	 * 제공자가 응답한 경우 (정상 응답 또는 재시도 대상이 아닌 4xx)
+	 */
+	synchronized void onSuccess() {
+		if (state != State.CLOSED) {
+			log.info("[AI] 회로 차단기 닫힘");
+		}
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+	}
+
+	/**
+	 * 일시적 오류가 발생한 경우
+	 */
+	synchronized void onFailure() {
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+			state = State.OPEN;
+			openedAt = clock.getAsLong();
+			log.warn("[AI] 회로 차단기 열림 (연속 실패: {})", consecutiveFailures);
+		}
+	}
+
+	/**
+	 * 시험 호출이 제공자 응답 없이 끝난 경우(취소 등) 다음 시험 호출을 허용
+	 */
+	synchronized void onAbandoned() {
+		if (state == State.HALF_OPEN) {
+			state = State.OPEN;
+			openedAt = clock.getAsLong() - openNanos;
+		}
+	}
+
+	synchronized State state() {
+		return state;
+	}
+}
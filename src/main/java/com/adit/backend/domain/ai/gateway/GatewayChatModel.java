@@ -0,0 +1,228 @@
+package com.adit.backend.domain.ai.gateway;
+
+import static com.adit.backend.global.error.GlobalErrorCode.*;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import com.adit.backend.domain.ai.exception.AiException;
+import com.adit.backend.domain.ai.util.TokenEstimator;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * AI 제공자 호출 게이트웨이
+ * <p>
+ * 실제 모델(OpenAI 또는 가짜 모델)을 감싸 모든 호출(call/stream)에 다음을 적용한다.
+ * <ul>
+ *   <li>회로 차단기: 제공자 장애가 이어지면 대기 없이 즉시 실패</li>
+ *   <li>분당 요청·토큰 한도: 입력 추정 토큰 + 최대 출력 토큰으로 예약하고, 응답의 실제 사용량으로 보정</li>
+ *   <li>동시 호출 수 상한</li>
+ *   <li>스트리밍 429/5xx·네트워크 오류 재시도: 지수 백오프 + 지터 (첫 응답 조각을 받기 전까지만)</li>
+ * </ul>
+ * call 은 한 번만 시도한다. 블로킹 호출의 재시도는 호출 스레드를 재우지 않도록 {@link RetryScheduler#submit} 이 예약한다.
+ * 한도를 기다리다 acquireTimeout 을 넘기면 AI_SERVER_BUSY, 회로가 열려 있으면 AI_PROVIDER_UNAVAILABLE 로 실패한다.
+ */
+@Slf4j
+public class GatewayChatModel implements ChatModel {
+
+	private final ChatModel delegate;
+	private final AiGatewayProperties properties;
+	private final int completionTokens;
+	private final Semaphore callPermits;
+	private final TokenBucketRateLimiter rateLimiter;
+	private final CircuitBreaker circuitBreaker;
+	private final RetryScheduler retryScheduler;
+	private final LongSupplier clock;
+
+	/**
+	 * @param completionTokens 호출당 예약할 출력 토큰 수 (모델의 최대 출력 토큰 설정)
+	 */
+	public GatewayChatModel(ChatModel delegate, AiGatewayProperties properties, RetryScheduler retryScheduler,
+		int completionTokens) {
+		this(delegate, properties, retryScheduler, completionTokens, System::nanoTime);
+	}
+
+	GatewayChatModel(ChatModel delegate, AiGatewayProperties properties, RetryScheduler retryScheduler,
+		int completionTokens, LongSupplier clock) {
+		this.delegate = delegate;
+		this.properties = properties;
+		this.retryScheduler = retryScheduler;
+		this.completionTokens = completionTokens;
+		this.clock = clock;
+		this.callPermits = new Semaphore(properties.maxConcurrentCalls(), true);
+		this.rateLimiter = new TokenBucketRateLimiter(properties.requestsPerMinute(), properties.tokensPerMinute(),
+			clock);
+		this.circuitBreaker = new CircuitBreaker(properties.failureThreshold(), properties.openDuration().toNanos(),
+			clock);
+	}
+
+	@Override
+	public ChatResponse call(Prompt prompt) {
+		return callOnce(prompt, estimateTokens(prompt));
+	}
+
+	@Override
+	public Flux<ChatResponse> stream(Prompt prompt) {
+		long estimatedTokens = estimateTokens(prompt);
+		return streamOnce(prompt, estimatedTokens, 1);
+	}
+
+	@Override
+	public ChatOptions getDefaultOptions() {
+		return delegate.getDefaultOptions();
+	}
+
+	private ChatResponse callOnce(Prompt prompt, long estimatedTokens) {
+		Permit permit = enter(estimatedTokens);
+		try {
+			ChatResponse response = delegate.call(prompt);
+			permit.responded();
+			settle(estimatedTokens, response);
+			return response;
+		} catch (RuntimeException e) {
+			permit.failed(e);
+			throw e;
+		} finally {
+			permit.release();
+		}
+	}
+
+	/**
+	 * 허가 대기는 블로킹이므로 boundedElastic 에서 구독하며, 재시도는 아직 아무 조각도 내보내지 않은 경우에만 한다
+	 */
+	private Flux<ChatResponse> streamOnce(Prompt prompt, long estimatedTokens, int attempt) {
+		return Flux.defer(() -> {
+			AtomicBoolean emitted = new AtomicBoolean();
+			return Flux.using(() -> enter(estimatedTokens),
+					permit -> delegate.stream(prompt)
+						.doOnNext(response -> {
+							if (emitted.compareAndSet(false, true)) {
+								permit.responded();
+							}
+						})
+						.doOnError(permit::failed),
+					Permit::release)
+				.subscribeOn(Schedulers.boundedElastic())
+				.onErrorResume(throwable -> !emitted.get() && retryScheduler.shouldRetry(throwable, attempt),
+					throwable -> retryStream(prompt, estimatedTokens, attempt, throwable));
+		});
+	}
+
+	private Flux<ChatResponse> retryStream(Prompt prompt, long estimatedTokens, int attempt, Throwable throwable) {
+		long backoff = retryScheduler.backoffMillis(attempt);
+		log.warn("[AI] 제공자 스트리밍 실패, {}ms 후 재시도 ({}/{}): {}", backoff, attempt, properties.maxAttempts(),
+			throwable.getMessage());
+		return Mono.delay(Duration.ofMillis(backoff))
+			.thenMany(streamOnce(prompt, estimatedTokens, attempt + 1));
+	}
+
+	/**
+	 * 회로 차단기 -> 분당 한도 -> 동시 호출 수 순서로 호출 허가를 얻는다.
+	 * 분당 한도를 예약한 뒤 동시 호출 허가를 얻지 못하면 예약한 요청·토큰을 되돌린다
+	 */
+	private Permit enter(long estimatedTokens) {
+		if (!circuitBreaker.tryAcquire()) {
+			log.warn("[AI] 회로 차단기 열림 - 제공자 호출 거절");
+			throw new AiException(AI_PROVIDER_UNAVAILABLE);
+		}
+		long timeout = properties.acquireTimeout().toNanos();
+		long deadline = clock.getAsLong() + timeout;
+		boolean reserved = false;
+		try {
+			long wait = rateLimiter.reserve(estimatedTokens, timeout);
+			if (wait < 0) {
+				log.warn("[AI] 분당 요청·토큰 한도 초과 (예상 토큰: {})", estimatedTokens);
+				throw new AiException(AI_SERVER_BUSY);
+			}
+			reserved = true;
+			if (wait > 0) {
+				log.debug("[AI] 분당 한도로 {}ms 대기", TimeUnit.NANOSECONDS.toMillis(wait));
+				TimeUnit.NANOSECONDS.sleep(wait);
+			}
+			if (!callPermits.tryAcquire(Math.max(0, deadline - clock.getAsLong()), TimeUnit.NANOSECONDS)) {
+				log.warn("[AI] 동시 호출 수 초과 ({})", properties.maxConcurrentCalls());
+				throw new AiException(AI_SERVER_BUSY);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			abandon(reserved, estimatedTokens);
+			throw new AiException(AI_SERVER_BUSY);
+		} catch (AiException e) {
+			abandon(reserved, estimatedTokens);
+			throw e;
+		}
+		return new Permit();
+	}
+
+	private void abandon(boolean reserved, long estimatedTokens) {
+		if (reserved) {
+			rateLimiter.cancel(estimatedTokens);
+		}
+		circuitBreaker.onAbandoned();
+	}
+
+	/**
+	 * 응답의 실제 토큰 사용량으로 분당 토큰 한도를 보정
+	 */
+	private void settle(long estimatedTokens, ChatResponse response) {
+		if (response == null || response.getMetadata() == null) {
+			return;
+		}
+		Usage usage = response.getMetadata().getUsage();
+		Number totalTokens = usage == null ? null : usage.getTotalTokens();
+		if (totalTokens != null && totalTokens.longValue() > 0) {
+			rateLimiter.adjustTokens(totalTokens.longValue() - estimatedTokens);
+		}
+	}
+
+	private long estimateTokens(Prompt prompt) {
+		return TokenEstimator.estimate(prompt.getContents()) + (long)completionTokens;
+	}
+
+	/**
+	 * 한 번의 시도가 가진 동시 호출 허가. 제공자 응답 여부를 회로 차단기에 한 번만 반영한다
+	 */
+	private final class Permit {
+
+		private final AtomicBoolean recorded = new AtomicBoolean();
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private void responded() {
+			if (recorded.compareAndSet(false, true)) {
+				circuitBreaker.onSuccess();
+			}
+		}
+
+		private void failed(Throwable throwable) {
+			if (recorded.compareAndSet(false, true)) {
+				if (RetryScheduler.isTransient(throwable)) {
+					circuitBreaker.onFailure();
+				} else {
+					circuitBreaker.onSuccess();
+				}
+			}
+		}
+
+		private void release() {
+			if (released.compareAndSet(false, true)) {
+				if (recorded.compareAndSet(false, true)) {
+					circuitBreaker.onAbandoned();
+				}
+				callPermits.release();
+			}
+		}
+	}
+}
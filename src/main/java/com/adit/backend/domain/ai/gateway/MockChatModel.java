@@ -0,0 +1,58 @@
+package com.adit.backend.domain.ai.gateway;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.TransientAiException;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 로컬 검증용 가짜 모델 (ai.gateway.mock.enabled=true)
+ * <p>
+ * OpenAI 를 호출하지 않고 설정된 지연 후 빈 요약 결과를 반환하며, failureRate 확률로 503 오류를 낸다.
+ * 게이트웨이의 동시 호출 수·분당 한도·재시도·회로 차단 동작을 실제 비용 없이 확인하는 데 사용한다.
+ */
+@Slf4j
+public class MockChatModel implements ChatModel {
+
+	private static final String RESPONSE = "{\"contentResponseList\":[]}";
+
+	private final AiGatewayProperties.Mock properties;
+
+	public MockChatModel(AiGatewayProperties.Mock properties) {
+		this.properties = properties;
+		log.warn("[AI] 가짜 모델 사용 중 (지연: {}, 실패율: {})", properties.latency(), properties.failureRate());
+	}
+
+	@Override
+	public ChatResponse call(Prompt prompt) {
+		try {
+			Thread.sleep(properties.latency().toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return respond();
+	}
+
+	@Override
+	public Flux<ChatResponse> stream(Prompt prompt) {
+		return Mono.delay(properties.latency())
+			.map(ignored -> respond())
+			.flux();
+	}
+
+	private ChatResponse respond() {
+		if (ThreadLocalRandom.current().nextDouble() < properties.failureRate()) {
+			throw new TransientAiException("503 - mock provider unavailable");
+		}
+		return new ChatResponse(List.of(new Generation(new AssistantMessage(RESPONSE))));
+	}
+}
@@ -0,0 +1,127 @@
+package com.adit.backend.domain.ai.gateway;
+
+import static com.adit.backend.global.error.GlobalErrorCode.*;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.adit.backend.domain.ai.exception.AiException;
+import com.adit.backend.global.error.exception.BusinessException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 제공자 호출 재시도 정책
+ * <p>
+ * 429/5xx·네트워크 오류면 maxAttempts 까지 지수 백오프 + 지터 후 다시 시도한다. 블로킹 호출은 대기하는 동안 작업 스레드를
+ * 점유하지 않도록, 다음 시도를 지연 실행으로 예약했다가 같은 executor 에 다시 제출한다.
+ */
+@Slf4j
+public class RetryScheduler {
+
+	private final AiGatewayProperties properties;
+
+	public RetryScheduler(AiGatewayProperties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * call 을 executor 에서 실행하고, 일시적 오류면 백오프 후 다시 제출한다.
+	 * 첫 제출이 거절되면 RejectedExecutionException 을 그대로 던지고, 재시도 제출이 거절되면 AI_SERVER_BUSY 로 실패한다.
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<T> call, Executor executor) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		executor.execute(() -> attempt(call, executor, 1, result));
+		return result;
+	}
+
+	private <T> void attempt(Supplier<T> call, Executor executor, int attempt, CompletableFuture<T> result) {
+		try {
+			result.complete(call.get());
+		} catch (RuntimeException e) {
+			if (!shouldRetry(e, attempt)) {
+				result.completeExceptionally(e);
+				return;
+			}
+			long backoff = backoffMillis(attempt);
+			log.warn("[AI] 제공자 호출 실패, {}ms 후 재시도 ({}/{}): {}", backoff, attempt, properties.maxAttempts(),
+				e.getMessage());
+			CompletableFuture.delayedExecutor(backoff, TimeUnit.MILLISECONDS).execute(() -> {
+				try {
+					executor.execute(() -> attempt(call, executor, attempt + 1, result));
+				} catch (RejectedExecutionException rejected) {
+					log.warn("[AI] 재시도 요청 대기열 초과");
+					result.completeExceptionally(new AiException(AI_SERVER_BUSY));
+				}
+			});
+		}
+	}
+
+	boolean shouldRetry(Throwable throwable, int attempt) {
+		return attempt < properties.maxAttempts() && isTransient(throwable);
+	}
+
+	/**
+	 * 지수 백오프 상한 안에서 0~100% 지터 (동시에 실패한 호출들이 같은 시각에 몰리지 않도록)
+	 */
+	long backoffMillis(int attempt) {
+		long base = Math.min(properties.maxBackoff().toMillis(),
+			properties.initialBackoff().toMillis() << Math.min(attempt - 1, 20));
+		return 1 + ThreadLocalRandom.current().nextLong(Math.max(base, 1));
+	}
+
+	/**
+	 * 재시도·회로 차단 대상 오류 여부 (429, 5xx, 연결·시간 초과)
+	 */
+	public static boolean isTransient(Throwable throwable) {
+		for (Throwable current = throwable; current != null; current = current.getCause()) {
+			if (current instanceof BusinessException) {
+				return false;
+			}
+			if (current instanceof TransientAiException || current instanceof ResourceAccessException
+				|| current instanceof WebClientRequestException || current instanceof IOException
+				|| current instanceof TimeoutException) {
+				return true;
+			}
+			if (current instanceof RestClientResponseException exception) {
+				return isRetryableStatus(exception.getStatusCode().value());
+			}
+			if (current instanceof WebClientResponseException exception) {
+				return isRetryableStatus(exception.getStatusCode().value());
+			}
+			if (current instanceof NonTransientAiException) {
+				// Spring AI 는 429 도 NonTransientAiException("429 - ...") 으로 던진다
+				return isRetryableStatus(statusOf(current.getMessage()));
+			}
+		}
+		return false;
+	}
+
+	private static boolean isRetryableStatus(int status) {
+		return status == 429 || status >= 500;
+	}
+
+	private static int statusOf(String message) {
+		if (message == null || message.length() < 3) {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(message.substring(0, 3));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.adit.backend.domain.ai.gateway;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 분당 요청 수(RPM)와 분당 토큰 수(TPM)를 함께 제한하는 토큰 버킷
+ * <p>
+ * 두 버킷 모두 1분에 걸쳐 한도만큼 균등하게 채워진다. 예약 방식이라 잔량이 부족해도 먼저 차감하고 기다릴 시간을 돌려주므로,
+ * 뒤따르는 요청은 앞선 요청이 만든 부족분만큼 더 기다리게 되어 도착 순서대로 처리된다.
+ */
+final class TokenBucketRateLimiter {
+
+	private static final long REFILL_PERIOD_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private final Bucket requests;
+	private final Bucket tokens;
+	private final LongSupplier clock;
+
+	TokenBucketRateLimiter(int requestsPerMinute, int tokensPerMinute, LongSupplier clock) {
+		this.clock = clock;
+		this.requests = new Bucket(requestsPerMinute, clock.getAsLong());
+		this.tokens = new Bucket(tokensPerMinute, clock.getAsLong());
+	}
+
+	/**
+	 * 요청 1건과 estimatedTokens 만큼 예약하고 기다려야 할 시간(나노초) 반환. maxWaitNanos 를 넘으면 예약하지 않고 -1 반환
+	 */
+	synchronized long reserve(long estimatedTokens, long maxWaitNanos) {
+		long now = clock.getAsLong();
+		requests.refill(now);
+		tokens.refill(now);
+		long wait = Math.max(requests.waitNanos(1), tokens.waitNanos(estimatedTokens));
+		if (wait > maxWaitNanos) {
+			return -1;
+		}
+		requests.take(1);
+		tokens.take(estimatedTokens);
+		return wait;
+	}
+
+	/**
+	 * 예약한 호출이 제공자에 닿기 전에 포기된 경우(동시 호출 허가 대기 초과 등) 예약한 요청 1건과 토큰을 되돌림
+	 */
+	synchronized void cancel(long estimatedTokens) {
+		long now = clock.getAsLong();
+		requests.refill(now);
+		tokens.refill(now);
+		requests.take(-1);
+		tokens.take(-estimatedTokens);
+	}
+
+	/**
+	 * 실제 사용량이 확인되면 추정치와의 차이만큼 토큰 버킷을 보정 (양수면 추가 차감, 음수면 반환)
+	 */
+	synchronized void adjustTokens(long delta) {
+		tokens.refill(clock.getAsLong());
+		tokens.take(delta);
+	}
+
+	private static final class Bucket {
+
+		private final double capacity;
+		private final double refillPerNano;
+		private double available;
+		private long lastRefill;
+
+		private Bucket(int perMinute, long now) {
+			this.capacity = perMinute;
+			this.refillPerNano = perMinute / (double)REFILL_PERIOD_NANOS;
+			this.available = perMinute;
+			this.lastRefill = now;
+		}
+
+		private void refill(long now) {
+			available = Math.min(capacity, available + (now - lastRefill) * refillPerNano);
+			lastRefill = now;
+		}
+
+		/**
+		 * 한도보다 큰 요청은 한도만큼만 필요하다고 보아 영원히 기다리지 않도록 한다
+		 */
+		private long waitNanos(long amount) {
+			double deficit = Math.min(amount, capacity) - available;
+			return deficit <= 0 ? 0 : (long)Math.ceil(deficit / refillPerNano);
+		}
+
+		private void take(long amount) {
+			available = Math.min(capacity, available - Math.min(amount, capacity));
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.adit.backend.domain.ai.service;
+
+import static com.adit.backend.global.error.GlobalErrorCode.*;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.adit.backend.domain.ai.dto.response.BatchSummaryResponse;
+import com.adit.backend.global.error.ErrorResponse;
+import com.adit.backend.global.error.exception.BusinessException;
+import com.adit.backend.infra.crawler.util.UrlNormalizer;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 다중 URL 요약 서비스
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchSummaryService {
+
+	private final OpenAiService openAiService;
+	@Value("${ai.summary.batch.concurrency:4}")
+	private int concurrency;
+
+	/**
+	 * 중복 URL 을 제거한 뒤 최대 concurrency 개씩 동시에 요약하고, 완료되는 순서대로 결과를 내보낸다
+	 */
+	public Flux<BatchSummaryResponse> summaryContents(final List<String> urls) {
+		Collection<String> distinctUrls = deduplicate(urls);
+		log.debug("[AI] 다중 URL 요약 시작 - 요청: {}, 중복 제거 후: {}", urls.size(), distinctUrls.size());
+		return Flux.fromIterable(distinctUrls)
+			.flatMap(url -> Mono.fromFuture(() -> openAiService.summaryContent(url))
+				.map(response -> BatchSummaryResponse.success(url, response))
+				.onErrorResume(throwable -> Mono.just(toFailure(url, throwable))), concurrency)
+			.doOnComplete(() -> log.debug("[AI] 다중 URL 요약 완료 - {} 건", distinctUrls.size()));
+	}
+
+	private Collection<String> deduplicate(List<String> urls) {
+		Map<String, String> distinct = new LinkedHashMap<>();
+		for (String url : urls) {
+			distinct.putIfAbsent(UrlNormalizer.normalize(url), url);
+		}
+		return distinct.values();
+	}
+
+	private BatchSummaryResponse toFailure(String url, Throwable throwable) {
+		Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+			? throwable.getCause() : throwable;
+		log.warn("[AI] 다중 URL 요약 항목 실패 - URL: {}, 원인: {}", url, cause.getMessage());
+		if (cause instanceof BusinessException businessException) {
+			return BatchSummaryResponse.failure(url,
+				ErrorResponse.of(businessException.getErrorCode(), businessException.getMessage(), url));
+		}
+		return BatchSummaryResponse.failure(url,
+			ErrorResponse.of(AI_PROCESSING_FAILED, AI_PROCESSING_FAILED.getMessage(), url));
+	}
+}
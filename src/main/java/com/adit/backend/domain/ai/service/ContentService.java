@@ -25,6 +25,10 @@ public class ContentService {
 		return crawlingService.crawlAsync(url);
 	}
 
+	public String platformOf(String url) {
+		return crawlingService.platformOf(url);
+	}
+
 	private void validateUrl(String url) {
 		if (!StringUtils.hasText(url) || !url.startsWith("http")) {
 			log.error("[검증되지 않은 URL] : {}", url);
@@ -2,22 +2,45 @@ package com.adit.backend.domain.ai.service;
 
 import static com.adit.backend.global.error.GlobalErrorCode.*;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.ai.converter.BeanOutputConverter;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 
 import com.adit.backend.domain.ai.dto.response.ContentListResponse;
+import com.adit.backend.domain.ai.dto.response.ContentResponse;
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
 import com.adit.backend.domain.ai.exception.AiException;
+import com.adit.backend.domain.ai.gateway.RetryScheduler;
+import com.adit.backend.domain.ai.util.AiMetrics;
+import com.adit.backend.domain.ai.util.JsonArrayStreamParser;
+import com.adit.backend.domain.ai.util.PromptPacker;
+import com.adit.backend.domain.ai.util.PromptRegistry;
+import com.adit.backend.domain.ai.util.TokenEstimator;
+import com.adit.backend.global.error.ErrorResponse;
+import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.global.error.exception.BusinessException;
+import com.adit.backend.global.util.KeyGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * AI 요약 서비스
@@ -27,69 +50,285 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class OpenAiService {
 
+	private static final String EVENT_CONTENT = "content";
+	private static final String EVENT_IMAGES = "images";
+	private static final String EVENT_COMPLETE = "complete";
+	private static final String EVENT_ERROR = "error";
+	private static final int STREAM_PART_CONCURRENCY = 4;
+	private static final String PROMPT_TEMPLATE = "culture-info-prompt";
+	private static final String SYSTEM_TEMPLATE = "culture-info-system";
+	// 스트리밍 응답에서 항목을 꺼낼 ContentListResponse 필드
+	private static final String CONTENT_LIST_FIELD = "contentResponseList";
+
 	private final ChatClient chatClient;
 	private final ContentService contentService;
-	@Value("classpath:/prompts/culture-info-prompt.st")
-	private Resource prompt;
-	@Value("classpath:/prompts/culture-info-system.st")
-	private Resource system;
+	private final SummaryCacheService summaryCacheService;
+	private final Executor aiTaskExecutor;
+	private final RetryScheduler aiRetryScheduler;
+	private final PromptPacker promptPacker;
+	private final ObjectMapper objectMapper;
+	private final PromptRegistry promptRegistry;
+	private final AiMetrics aiMetrics;
+	private String outputFormatHash;
+	private int outputFormatTokens;
 
 	/**
-	 * URL에서 데이터를 추출 및 요약
+	 * 출력 형식은 코드(응답 타입)로 정해지므로 한 번만 계산
 	 */
-	public ContentListResponse summaryContent(final String url) {
-		return contentService.extractContents(url)
+	@PostConstruct
+	void initOutputFormat() {
+		String format = converter().getFormat();
+		outputFormatHash = KeyGenerator.sha256Hex(format).substring(0, 12);
+		outputFormatTokens = TokenEstimator.estimate(format);
+	}
+
+	/**
+	 * 요약 캐시 버전 (템플릿 버전 + 출력 형식 해시, 템플릿을 다시 읽으면 함께 바뀜)
+	 */
+	private String promptVersion() {
+		return promptRegistry.version() + "-" + outputFormatHash;
+	}
+
+	/**
+	 * 본문 외에 매 호출마다 들어가는 프롬프트 토큰 수
+	 */
+	private int promptOverheadTokens() {
+		return promptRegistry.estimatedTokens(PROMPT_TEMPLATE) + promptRegistry.estimatedTokens(SYSTEM_TEMPLATE)
+			+ outputFormatTokens;
+	}
+
+	private BeanOutputConverter<ContentListResponse> converter() {
+		return promptRegistry.converter(ContentListResponse.class);
+	}
+
+	/**
+	 * URL에서 데이터를 추출 및 요약 (동일 URL·프롬프트 버전의 요약은 캐시에서 반환)
+	 */
+	public CompletableFuture<ContentListResponse> summaryContent(final String url) {
+		return summaryCacheService.getOrLoad(url, promptVersion(), () -> summarize(url));
+	}
+
+	private CompletableFuture<ContentListResponse> summarize(final String url) {
+		String platform = contentService.platformOf(url);
+		return extractContents(url, platform)
 			.thenCompose(extractedContent -> {
 				log.debug("[AI] 웹페이지 크롤링 완료 - URL: {}", url);
 				log.trace("[AI] 추출된 컨텐츠: {}", extractedContent);
-				return processWithAI(extractedContent);
+				return processWithAI(extractedContent, platform);
 			})
 			.exceptionally(throwable -> {
-				log.error("[AI] 토큰 사용량 초과 - URL: {}", url);
-				throw new AiException(EXCEEDING_TOKEN_USAGE);
-			}).join();
+				Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+				if (cause instanceof BusinessException businessException) {
+					log.error("[AI] 요약 실패 - URL: {}, 원인: {}", url, businessException.getMessage());
+					throw businessException;
+				}
+				log.error("[AI] 요약 실패 - URL: {}, 원인: {}", url, cause.getMessage());
+				throw new AiException(AI_PROCESSING_FAILED);
+			});
 	}
 
 	/**
-	 *  AI 요약
+	 * 크롤링 (캐시 적중 포함) 소요 시간 기록
 	 */
-	private CompletableFuture<ContentListResponse> processWithAI(CrawlCompletionResponse extractedContent) {
-		BeanOutputConverter<ContentListResponse> converter = new BeanOutputConverter<>(ContentListResponse.class);
-		PromptTemplate promptTemplate = generatePromptTemplate(extractedContent);
-		return CompletableFuture.supplyAsync(() -> {
-			try {
-				log.debug("[AI] AI 처리 시작");
-				String response = chatClient.prompt()
-					.system(system)
-					.user(promptTemplate.render() + converter.getFormat())
-					.call()
-					.content();
-				log.info("[AI] AI 요약 완료");
-				log.debug("[AI] AI 응답: {}", response);
-				return ContentListResponse.builder()
-					.contentResponseList(converter.convert(response).contentResponseList())
-					.imageSrcList(extractedContent.imageSrcList())
-					.build();
-			} catch (RuntimeException exception) {
-				log.error("[AI] AI 처리 실패 - 원인: {}", exception.getMessage());
-				throw new AiException(AI_PROCESSING_FAILED);
+	private CompletableFuture<CrawlCompletionResponse> extractContents(String url, String platform) {
+		Timer.Sample sample = aiMetrics.start();
+		return contentService.extractContents(url)
+			.whenComplete((contents, throwable) ->
+				aiMetrics.stop(sample, AiMetrics.STAGE_CRAWL, platform, throwable));
+	}
+
+	/**
+	 * URL 요약을 SSE 로 전송 (장소 정보가 하나씩 완성될 때마다 content 이벤트 전송)
+	 * <p>
+	 * 이벤트 순서는 content(0개 이상) -> images -> complete 이며, 실패하면 error 이벤트 후 종료한다.
+	 */
+	public Flux<ServerSentEvent<Object>> streamSummaryContent(final String url) {
+		return Mono.fromCallable(() -> summaryCacheService.find(url, promptVersion()))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMapMany(cached -> cached.map(this::replay).orElseGet(() -> streamFromModel(url)))
+			.onErrorResume(throwable -> Flux.just(errorEvent(url, throwable)));
+	}
+
+	private Flux<ServerSentEvent<Object>> replay(ContentListResponse cached) {
+		log.debug("[AI] 캐시된 요약 전송");
+		return Flux.fromIterable(cached.contentResponseList())
+			.map(content -> event(EVENT_CONTENT, content))
+			.concatWith(Flux.just(
+				event(EVENT_IMAGES, cached.imageSrcList()),
+				event(EVENT_COMPLETE, cached.contentResponseList().size())));
+	}
+
+	private Flux<ServerSentEvent<Object>> streamFromModel(String url) {
+		String platform = contentService.platformOf(url);
+		return Mono.fromFuture(() -> extractContents(url, platform))
+			.flatMapMany(extractedContent -> {
+				log.debug("[AI] 웹페이지 크롤링 완료 - URL: {}", url);
+				List<String> parts = promptPacker.pack(extractedContent.crawlingData(), promptOverheadTokens());
+				Map<String, ContentResponse> collected = new LinkedHashMap<>();
+				Flux<ServerSentEvent<Object>> contents = Flux.fromIterable(parts)
+					.flatMap(part -> streamWithAI(part, platform), STREAM_PART_CONCURRENCY)
+					.filter(content -> collected.putIfAbsent(content.dedupKey(), content) == null)
+					.map(content -> event(EVENT_CONTENT, content));
+				Flux<ServerSentEvent<Object>> completion = Mono.fromCallable(() -> {
+						ContentListResponse summary = ContentListResponse.builder()
+							.contentResponseList(new ArrayList<>(collected.values()))
+							.imageSrcList(extractedContent.imageSrcList())
+							.build();
+						summaryCacheService.save(url, promptVersion(), summary);
+						log.info("[AI] AI 스트리밍 요약 완료 - {} 건", collected.size());
+						return summary;
+					})
+					.subscribeOn(Schedulers.boundedElastic())
+					.flatMapMany(summary -> Flux.just(
+						event(EVENT_IMAGES, summary.imageSrcList()),
+						event(EVENT_COMPLETE, summary.contentResponseList().size())));
+				return contents.concatWith(completion);
+			});
+	}
+
+	/**
+	 *  ChatClient 스트리밍 응답에서 contentResponseList 원소가 완성될 때마다 방출
+	 */
+	private Flux<ContentResponse> streamWithAI(String content, String platform) {
+		String userPrompt = generatePrompt(content, platform);
+		return Flux.defer(() -> {
+				JsonArrayStreamParser parser = new JsonArrayStreamParser(CONTENT_LIST_FIELD);
+				return chatClient.prompt()
+					.system(promptRegistry.text(SYSTEM_TEMPLATE))
+					.user(userPrompt)
+					.advisors(advisor -> advisor.param(AiMetrics.PLATFORM_PARAM, platform))
+					.stream()
+					.content()
+					.concatMapIterable(parser::feed)
+					.mapNotNull(json -> toContentResponse(json, platform));
+			})
+			.onErrorMap(throwable -> !(throwable instanceof BusinessException), throwable -> {
+				log.error("[AI] AI 스트리밍 처리 실패 - 원인: {}", throwable.getMessage());
+				return new AiException(isTokenLimitExceeded(throwable) ? EXCEEDING_TOKEN_USAGE : AI_PROCESSING_FAILED);
+			});
+	}
+
+	private ContentResponse toContentResponse(String json, String platform) {
+		Timer.Sample sample = aiMetrics.start();
+		try {
+			ContentResponse contentResponse = objectMapper.readValue(json, ContentResponse.class);
+			aiMetrics.stop(sample, AiMetrics.STAGE_CONVERSION, platform, null);
+			return contentResponse;
+		} catch (JsonProcessingException e) {
+			aiMetrics.stop(sample, AiMetrics.STAGE_CONVERSION, platform, e);
+			log.warn("[AI] 스트리밍 항목 변환 실패, 건너뜀: {}", e.getOriginalMessage());
+			return null;
+		}
+	}
+
+	private ServerSentEvent<Object> errorEvent(String url, Throwable throwable) {
+		Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+		log.error("[AI] 스트리밍 요약 실패 - URL: {}, 원인: {}", url, cause.getMessage());
+		GlobalErrorCode errorCode = cause instanceof BusinessException businessException
+			? businessException.getErrorCode() : AI_PROCESSING_FAILED;
+		return event(EVENT_ERROR, ErrorResponse.of(errorCode, errorCode.getMessage(), url));
+	}
+
+	private static ServerSentEvent<Object> event(String name, Object data) {
+		return ServerSentEvent.builder(data).event(name).build();
+	}
+
+	/**
+	 *  AI 요약 (본문이 토큰 예산을 넘으면 조각별로 병렬 요약한 뒤 결과를 병합)
+	 */
+	private CompletableFuture<ContentListResponse> processWithAI(CrawlCompletionResponse extractedContent,
+		String platform) {
+		List<String> parts = promptPacker.pack(extractedContent.crawlingData(), promptOverheadTokens());
+		if (parts.size() == 1) {
+			return submitAI(parts.get(0), extractedContent.imageSrcList(), platform);
+		}
+
+		log.debug("[AI] 분할 요약 시작 - {} 개 조각", parts.size());
+		List<CompletableFuture<ContentListResponse>> partials = parts.stream()
+			.map(part -> submitAI(part, extractedContent.imageSrcList(), platform))
+			.toList();
+		return CompletableFuture.allOf(partials.toArray(CompletableFuture[]::new))
+			.thenApply(ignored -> ContentListResponse.merge(
+				partials.stream().map(CompletableFuture::join).toList(),
+				extractedContent.imageSrcList()));
+	}
+
+	/**
+	 *  전용 스레드 풀에서 AI 호출 (대기열이 가득 차면 즉시 거절, 429/5xx 면 백오프 후 풀에 다시 제출)
+	 */
+	private CompletableFuture<ContentListResponse> submitAI(String content, List<String> imageSrcList,
+		String platform) {
+		String userPrompt = generatePrompt(content, platform);
+		try {
+			return aiRetryScheduler.submit(() -> callAI(userPrompt, imageSrcList, platform), aiTaskExecutor);
+		} catch (RejectedExecutionException e) {
+			log.warn("[AI] AI 요청 대기열 초과");
+			return CompletableFuture.failedFuture(new AiException(AI_SERVER_BUSY));
+		}
+	}
+
+	private ContentListResponse callAI(String userPrompt, List<String> imageSrcList, String platform) {
+		try {
+			log.debug("[AI] AI 처리 시작");
+			String response = chatClient.prompt()
+				.system(promptRegistry.text(SYSTEM_TEMPLATE))
+				.user(userPrompt)
+				.advisors(advisor -> advisor.param(AiMetrics.PLATFORM_PARAM, platform))
+				.call()
+				.content();
+			log.info("[AI] AI 요약 완료");
+			log.debug("[AI] AI 응답: {}", response);
+			ContentListResponse converted = aiMetrics.record(AiMetrics.STAGE_CONVERSION, platform,
+				() -> converter().convert(response));
+			return ContentListResponse.builder()
+				.contentResponseList(converted.contentResponseList())
+				.imageSrcList(imageSrcList)
+				.build();
+		} catch (BusinessException exception) {
+			log.error("[AI] AI 처리 실패 - 원인: {}", exception.getMessage());
+			throw exception;
+		} catch (RuntimeException exception) {
+			log.error("[AI] AI 처리 실패 - 원인: {}", exception.getMessage());
+			if (RetryScheduler.isTransient(exception)) {
+				// 재시도 대상은 그대로 던져 재시도하게 한다 (재시도를 다 쓰면 summarize 에서 AI_PROCESSING_FAILED 로 변환)
+				throw exception;
 			}
-		});
+			throw new AiException(isTokenLimitExceeded(exception) ? EXCEEDING_TOKEN_USAGE : AI_PROCESSING_FAILED);
+		}
 	}
 
 	/**
-	 *  프롬프트 정의
+	 *  모델의 컨텍스트 길이 초과 오류 여부
 	 */
-	private PromptTemplate generatePromptTemplate(final CrawlCompletionResponse extractedContent) {
+	private boolean isTokenLimitExceeded(Throwable throwable) {
+		for (Throwable current = throwable; current != null; current = current.getCause()) {
+			String message = current.getMessage();
+			if (message != null && (message.contains("context_length_exceeded")
+				|| message.contains("maximum context length"))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private String generatePrompt(final String content, final String platform) {
+		return aiMetrics.record(AiMetrics.STAGE_PROMPT, platform, () -> generatePrompt(content));
+	}
+
+	/**
+	 *  프롬프트 정의 (컴파일된 템플릿에 본문을 채우고 출력 형식을 덧붙임)
+	 */
+	private String generatePrompt(final String content) {
 		try {
-			PromptTemplate promptTemplate = new PromptTemplate(prompt);
-			promptTemplate.add("extractedContent", extractedContent.crawlingData());
-			log.trace("[AI] 프롬프트 생성 완료: {}", promptTemplate);
-			return promptTemplate;
+			String userPrompt = promptRegistry.render(PROMPT_TEMPLATE, Map.of("extractedContent", content))
+				+ converter().getFormat();
+			log.trace("[AI] 프롬프트 생성 완료: {}", userPrompt);
+			return userPrompt;
+		} catch (BusinessException e) {
+			throw e;
 		} catch (Exception e) {
 			log.error("[AI] 프롬프트 생성 실패: {}", e.getMessage());
 			throw new AiException(AI_RESPONSE_FAILED);
 		}
 	}
 }
-
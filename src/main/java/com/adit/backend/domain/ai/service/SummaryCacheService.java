@@ -0,0 +1,130 @@
+package com.adit.backend.domain.ai.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.adit.backend.domain.ai.dto.response.ContentListResponse;
+import com.adit.backend.global.util.KeyGenerator;
+import com.adit.backend.infra.crawler.util.UrlNormalizer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 요약 결과 캐시
+ * <p>
+ * 키는 정규화된 URL 과 프롬프트 버전(프롬프트·시스템 템플릿 해시)으로 구성되어 프롬프트가 바뀌면 자동으로 무효화된다.
+ * 같은 키에 대한 동시 요청은 하나의 모델 호출 결과를 공유하며, 요청마다 사본을 반환하여 한 호출자의 취소·완료가 다른 호출자에게 전파되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class SummaryCacheService {
+
+	private static final String KEY_PREFIX = "summary:";
+	private static final String METRIC_NAME = "ai.summary.cache";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, CompletableFuture<ContentListResponse>> inFlight = new ConcurrentHashMap<>();
+	@Value("${ai.summary.cache.enabled:true}")
+	private boolean enabled;
+	@Value("${ai.summary.cache.ttl:12h}")
+	private Duration ttl;
+
+	/**
+	 * 캐시된 요약을 반환하고, 없으면 loader 를 한 번만 실행하여 결과를 캐시한다
+	 */
+	public CompletableFuture<ContentListResponse> getOrLoad(String url, String promptVersion,
+		Supplier<CompletableFuture<ContentListResponse>> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+		String key = createKey(url, promptVersion);
+		ContentListResponse cached = read(key);
+		if (cached != null) {
+			meterRegistry.counter(METRIC_NAME, "result", "hit").increment();
+			log.debug("[AI] 요약 캐시 적중 - URL: {}", url);
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		CompletableFuture<ContentListResponse> promise = new CompletableFuture<>();
+		CompletableFuture<ContentListResponse> running = inFlight.putIfAbsent(key, promise);
+		if (running != null) {
+			meterRegistry.counter(METRIC_NAME, "result", "coalesced").increment();
+			log.debug("[AI] 진행 중인 요약 요청에 합류 - URL: {}", url);
+			return running.copy();
+		}
+		meterRegistry.counter(METRIC_NAME, "result", "miss").increment();
+
+		try {
+			loader.get().whenComplete((response, throwable) -> {
+				inFlight.remove(key, promise);
+				if (throwable != null) {
+					promise.completeExceptionally(throwable);
+					return;
+				}
+				write(key, response);
+				promise.complete(response);
+			});
+		} catch (RuntimeException e) {
+			inFlight.remove(key, promise);
+			promise.completeExceptionally(e);
+			throw e;
+		}
+		return promise.copy();
+	}
+
+	/**
+	 * 캐시된 요약 조회 (스트리밍 요약처럼 loader 를 거치지 않는 경로에서 사용)
+	 */
+	public Optional<ContentListResponse> find(String url, String promptVersion) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(read(createKey(url, promptVersion)));
+	}
+
+	public void save(String url, String promptVersion, ContentListResponse response) {
+		if (enabled) {
+			write(createKey(url, promptVersion), response);
+		}
+	}
+
+	private ContentListResponse read(String key) {
+		try {
+			Object value = redisTemplate.opsForValue().get(key);
+			return value == null ? null : objectMapper.readValue(value.toString(), ContentListResponse.class);
+		} catch (Exception e) {
+			log.warn("[AI] 요약 캐시 조회 실패: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private void write(String key, ContentListResponse response) {
+		if (response == null || response.contentResponseList() == null) {
+			return;
+		}
+		try {
+			redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(response), ttl);
+		} catch (Exception e) {
+			log.warn("[AI] 요약 캐시 저장 실패: {}", e.getMessage());
+		}
+	}
+
+	private String createKey(String url, String promptVersion) {
+		return KEY_PREFIX + promptVersion + ":" + KeyGenerator.sha256Hex(UrlNormalizer.normalize(url));
+	}
+}
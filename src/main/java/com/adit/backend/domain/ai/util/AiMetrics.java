@@ -0,0 +1,93 @@
+package com.adit.backend.domain.ai.util;
+
+import java.util.function.Supplier;
+
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI 요약 처리 단계별 소요 시간과 토큰 사용량 지표
+ * <p>
+ * ai.summary.stage{stage, platform, outcome}: 크롤링, 프롬프트 생성, 모델 호출, 응답 변환 단계별 타이머
+ * ai.model.tokens{type, platform, model}: 모델 응답 메타데이터의 입력(prompt)·출력(completion) 토큰 수
+ */
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class AiMetrics {
+
+	public static final String STAGE_CRAWL = "crawl";
+	public static final String STAGE_PROMPT = "prompt";
+	public static final String STAGE_MODEL = "model";
+	public static final String STAGE_CONVERSION = "conversion";
+	/**
+	 * ChatClient 요청의 advisor 파라미터로 플랫폼을 전달할 때 사용하는 키
+	 */
+	public static final String PLATFORM_PARAM = "platform";
+	public static final String UNKNOWN = "unknown";
+
+	private static final String STAGE_METRIC = "ai.summary.stage";
+	private static final String TOKEN_METRIC = "ai.model.tokens";
+
+	private final MeterRegistry meterRegistry;
+
+	public Timer.Sample start() {
+		return Timer.start(meterRegistry);
+	}
+
+	/**
+	 * 단계 종료 기록 (failure 가 null 이 아니면 outcome=failure)
+	 */
+	public void stop(Timer.Sample sample, String stage, String platform, Throwable failure) {
+		sample.stop(Timer.builder(STAGE_METRIC)
+			.description("AI 요약 단계별 소요 시간")
+			.tag("stage", stage)
+			.tag("platform", tagValue(platform))
+			.tag("outcome", failure == null ? "success" : "failure")
+			.publishPercentileHistogram()
+			.register(meterRegistry));
+	}
+
+	public <T> T record(String stage, String platform, Supplier<T> task) {
+		Timer.Sample sample = start();
+		try {
+			T result = task.get();
+			stop(sample, stage, platform, null);
+			return result;
+		} catch (RuntimeException e) {
+			stop(sample, stage, platform, e);
+			throw e;
+		}
+	}
+
+	public void recordTokens(String platform, String model, Usage usage) {
+		if (usage == null) {
+			return;
+		}
+		increment("prompt", platform, model, usage.getPromptTokens());
+		increment("completion", platform, model, usage.getCompletionTokens());
+	}
+
+	private void increment(String type, String platform, String model, Number tokens) {
+		if (tokens == null || tokens.longValue() <= 0) {
+			return;
+		}
+		Counter.builder(TOKEN_METRIC)
+			.description("모델 토큰 사용량")
+			.baseUnit("tokens")
+			.tag("type", type)
+			.tag("platform", tagValue(platform))
+			.tag("model", tagValue(model))
+			.register(meterRegistry)
+			.increment(tokens.doubleValue());
+	}
+
+	private static String tagValue(String value) {
+		return value == null || value.isBlank() ? UNKNOWN : value;
+	}
+}
@@ -0,0 +1,140 @@
+package com.adit.backend.domain.ai.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍으로 도착하는 모델 응답에서 JSON 배열의 원소(객체)를 완성되는 즉시 잘라내는 파서
+ * <p>
+ * 최상위 객체의 arrayKey 필드 값인 배열(예: {@code "contentResponseList": [...]})을 대상으로 하며, 응답이 최상위 배열이면
+ * 그 배열을 대상으로 한다. 다른 필드의 배열(imageSrcList 등)은 건너뛰고, 대상 배열 안의 최상위 객체가 닫힐 때마다
+ * 객체 문자열을 반환한다. 응답 앞뒤의 코드 블록 표기(```json) 등은 무시된다. 하나의 응답에만 사용하며 스레드 안전하지 않다.
+ */
+public final class JsonArrayStreamParser {
+
+	private final String arrayKey;
+	private final StringBuilder buffer = new StringBuilder();
+	private int position;
+	private boolean inArray;
+	private boolean finished;
+	private boolean inString;
+	private boolean escaped;
+	private int depth;
+	private int objectStart = -1;
+
+	// 대상 배열을 찾기 전 상태 (바깥 중첩 깊이, 최상위 객체의 현재 필드 이름)
+	private int outerDepth;
+	private int stringStart = -1;
+	private String lastString;
+	private String currentKey;
+
+	/**
+	 * @param arrayKey 원소를 꺼낼 배열의 필드 이름
+	 */
+	public JsonArrayStreamParser(String arrayKey) {
+		this.arrayKey = arrayKey;
+	}
+
+	/**
+	 * 응답 조각을 추가하고, 이번 조각으로 완성된 배열 원소들을 반환
+	 */
+	public List<String> feed(CharSequence fragment) {
+		if (finished || fragment == null || fragment.isEmpty()) {
+			return List.of();
+		}
+		buffer.append(fragment);
+		List<String> completed = new ArrayList<>();
+		for (; position < buffer.length() && !finished; position++) {
+			char ch = buffer.charAt(position);
+			if (inString) {
+				if (escaped) {
+					escaped = false;
+				} else if (ch == '\\') {
+					escaped = true;
+				} else if (ch == '"') {
+					inString = false;
+					if (stringStart >= 0) {
+						lastString = buffer.substring(stringStart + 1, position);
+						stringStart = -1;
+					}
+				}
+				continue;
+			}
+			if (ch == '"') {
+				inString = true;
+				if (!inArray && outerDepth == 1) {
+					stringStart = position;
+				}
+			} else if (!inArray) {
+				findArray(ch);
+			} else if (ch == '{') {
+				if (depth++ == 0) {
+					objectStart = position;
+				}
+			} else if (ch == '}' && depth > 0) {
+				if (--depth == 0) {
+					completed.add(buffer.substring(objectStart, position + 1));
+					objectStart = -1;
+				}
+			} else if (ch == ']' && depth == 0) {
+				finished = true;
+			}
+		}
+		compact();
+		return completed;
+	}
+
+	public boolean isFinished() {
+		return finished;
+	}
+
+	/**
+	 * 대상 배열 시작 전: 최상위 배열이거나 최상위 객체의 arrayKey 필드 값인 '[' 만 대상으로 본다
+	 */
+	private void findArray(char ch) {
+		switch (ch) {
+			case ':' -> {
+				if (outerDepth == 1) {
+					currentKey = lastString;
+				}
+			}
+			case ',' -> {
+				if (outerDepth == 1) {
+					currentKey = null;
+				}
+			}
+			case '[' -> {
+				if (outerDepth == 0 || (outerDepth == 1 && arrayKey.equals(currentKey))) {
+					inArray = true;
+				} else {
+					outerDepth++;
+				}
+			}
+			case '{' -> outerDepth++;
+			case '}', ']' -> {
+				if (outerDepth > 0) {
+					outerDepth--;
+				}
+			}
+			default -> {
+			}
+		}
+	}
+
+	/**
+	 * 이미 처리한 앞부분을 버려 버퍼가 응답 전체 크기로 커지지 않도록 한다
+	 */
+	private void compact() {
+		int keepFrom = objectStart >= 0 ? objectStart : stringStart >= 0 ? stringStart : position;
+		if (keepFrom > 0) {
+			buffer.delete(0, keepFrom);
+			position -= keepFrom;
+			if (objectStart >= 0) {
+				objectStart = 0;
+			}
+			if (stringStart >= 0) {
+				stringStart = 0;
+			}
+		}
+	}
+}
@@ -6,17 +6,27 @@ import org.springframework.ai.chat.client.advisor.api.CallAroundAdvisor;
 import org.springframework.ai.chat.client.advisor.api.CallAroundAdvisorChain;
 import org.springframework.ai.chat.client.advisor.api.StreamAroundAdvisor;
 import org.springframework.ai.chat.client.advisor.api.StreamAroundAdvisorChain;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.model.MessageAggregator;
 
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 
 /**
  * OpenAI 사용량 추적 및 디버깅을 위한 Advisor
+ * <p>
+ * 모델 호출 시간(ai.summary.stage{stage=model})과 응답 메타데이터의 토큰 사용량(ai.model.tokens)을 플랫폼·모델별로 기록한다.
+ * 플랫폼은 요청의 advisor 파라미터 {@link AiMetrics#PLATFORM_PARAM} 으로 전달받는다.
  */
 @Slf4j
+@RequiredArgsConstructor
 public class LoggingAdvisor implements CallAroundAdvisor, StreamAroundAdvisor {
 
+	private final AiMetrics aiMetrics;
+
 	@Override
 	public String getName() {
 		return "LoggingAdvisor";
@@ -31,23 +41,53 @@ public class LoggingAdvisor implements CallAroundAdvisor, StreamAroundAdvisor {
 	public AdvisedResponse aroundCall(AdvisedRequest advisedRequest, CallAroundAdvisorChain chain) {
 		log.debug("REQUEST");
 		log.debug(String.valueOf(advisedRequest));
-		AdvisedResponse advisedResponse = chain.nextAroundCall(advisedRequest);
+		String platform = platformOf(advisedRequest);
+		AdvisedResponse advisedResponse = aiMetrics.record(AiMetrics.STAGE_MODEL, platform,
+			() -> chain.nextAroundCall(advisedRequest));
 		log.debug("RESPONSE");
 		log.debug(String.valueOf(advisedResponse));
-		log.info("[Input Token Usage] : {}", advisedResponse.response().getMetadata().getUsage().getPromptTokens());
-		log.info("[Output Token Usage] : {}", advisedResponse.response().getMetadata().getUsage().getCompletionTokens());
-		log.info("[Total Token Usage] : {}", advisedResponse.response().getMetadata().getUsage().getTotalTokens());
+		recordUsage(advisedRequest, platform, advisedResponse.response());
 		return advisedResponse;
 
 	}
 
 	@Override
 	public Flux<AdvisedResponse> aroundStream(AdvisedRequest advisedRequest, StreamAroundAdvisorChain chain) {
-		System.out.println("\nRequest: " + advisedRequest);
-		Flux<AdvisedResponse> responses = chain.nextAroundStream(advisedRequest);
-		return new MessageAggregator().aggregateAdvisedResponse(responses, aggregatedAdvisedResponse -> {
-			System.out.println("\nResponse: " + aggregatedAdvisedResponse);
+		log.debug("STREAM REQUEST");
+		log.debug(String.valueOf(advisedRequest));
+		String platform = platformOf(advisedRequest);
+		return Flux.defer(() -> {
+			Timer.Sample sample = aiMetrics.start();
+			Flux<AdvisedResponse> responses = chain.nextAroundStream(advisedRequest)
+				.doOnComplete(() -> aiMetrics.stop(sample, AiMetrics.STAGE_MODEL, platform, null))
+				.doOnError(throwable -> aiMetrics.stop(sample, AiMetrics.STAGE_MODEL, platform, throwable));
+			return new MessageAggregator().aggregateAdvisedResponse(responses, aggregatedAdvisedResponse -> {
+				log.debug("STREAM RESPONSE");
+				log.debug(String.valueOf(aggregatedAdvisedResponse));
+				recordUsage(advisedRequest, platform, aggregatedAdvisedResponse.response());
+			});
 		});
 	}
 
-}
\ No newline at end of file
+	private void recordUsage(AdvisedRequest advisedRequest, String platform, ChatResponse response) {
+		if (response == null || response.getMetadata() == null) {
+			return;
+		}
+		Usage usage = response.getMetadata().getUsage();
+		String model = response.getMetadata().getModel();
+		if ((model == null || model.isBlank()) && advisedRequest.chatOptions() != null) {
+			model = advisedRequest.chatOptions().getModel();
+		}
+		aiMetrics.recordTokens(platform, model, usage);
+		if (usage != null) {
+			log.info("[Input Token Usage] : {}", usage.getPromptTokens());
+			log.info("[Output Token Usage] : {}", usage.getCompletionTokens());
+			log.info("[Total Token Usage] : {}", usage.getTotalTokens());
+		}
+	}
+
+	private static String platformOf(AdvisedRequest advisedRequest) {
+		Object platform = advisedRequest.adviseContext().get(AiMetrics.PLATFORM_PARAM);
+		return platform == null ? AiMetrics.UNKNOWN : platform.toString();
+	}
+}
@@ -0,0 +1,127 @@
+package com.adit.backend.domain.ai.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.adit.backend.infra.crawler.util.TextChunker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 본문을 한 번의 모델 호출 입력 예산(token-budget)에 맞는 조각으로 묶는다
+ * <p>
+ * {@link TextChunker} 의 문장 단위 청크를 순서대로 채워 넣으며, 예산 안에 들어오면 조각 하나만 반환한다.
+ * 문장 경계가 없어 청크 하나가 예산을 넘으면 예산 안에서 (가능하면 공백 위치로) 잘라 넣는다.
+ * 조각 수가 max-parts 를 넘으면 뒤쪽 본문은 요약 대상에서 제외한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromptPacker {
+
+	private static final String CHUNK_SEPARATOR = " ";
+	private static final int SEPARATOR_TOKENS = 1;
+	/**
+	 * 고정 토큰이 예산을 넘을 때도 조각마다 남겨 두는 최소 본문 토큰 수
+	 */
+	static final int MIN_PART_TOKENS = 256;
+
+	private final TextChunker textChunker;
+	@Value("${ai.summary.token-budget:6000}")
+	private int tokenBudget;
+	@Value("${ai.summary.max-parts:8}")
+	private int maxParts;
+
+	/**
+	 * @param content        요약할 본문
+	 * @param overheadTokens 프롬프트·시스템 템플릿 등 본문 외 고정 토큰 수
+	 */
+	public List<String> pack(String content, int overheadTokens) {
+		int budget = Math.max(tokenBudget - overheadTokens, MIN_PART_TOKENS);
+		if (content == null || TokenEstimator.estimate(content) <= budget) {
+			return List.of(content == null ? "" : content);
+		}
+
+		List<String> parts = new ArrayList<>();
+		StringBuilder part = new StringBuilder();
+		int partTokens = 0;
+		Iterator<CharSequence> chunks = textChunker.chunkIterator(content);
+		while (chunks.hasNext()) {
+			for (CharSequence piece : splitToBudget(chunks.next(), budget)) {
+				int pieceTokens = TokenEstimator.estimate(piece);
+				if (partTokens > 0 && partTokens + SEPARATOR_TOKENS + pieceTokens > budget) {
+					parts.add(part.toString());
+					if (parts.size() == maxParts) {
+						log.warn("[AI] 본문이 최대 분할 수({})를 초과하여 이후 내용은 제외합니다.", maxParts);
+						return parts;
+					}
+					part.setLength(0);
+					partTokens = 0;
+				}
+				if (partTokens > 0) {
+					part.append(CHUNK_SEPARATOR);
+					partTokens += SEPARATOR_TOKENS;
+				}
+				part.append(piece);
+				partTokens += pieceTokens;
+			}
+		}
+		if (partTokens > 0) {
+			parts.add(part.toString());
+		}
+		log.debug("[AI] 본문을 {} 개로 분할 (조각당 최대 {} 토큰)", parts.size(), budget);
+		return parts;
+	}
+
+	/**
+	 * 예산을 넘는 청크를 예산 안의 조각으로 자른다 (구간 후반부에 공백이 있으면 그 위치에서 자름)
+	 */
+	private static List<CharSequence> splitToBudget(CharSequence chunk, int budget) {
+		if (TokenEstimator.estimate(chunk) <= budget) {
+			return List.of(chunk);
+		}
+		List<CharSequence> pieces = new ArrayList<>();
+		int length = chunk.length();
+		int start = 0;
+		while (start < length) {
+			int end = TokenEstimator.fit(chunk, start, budget);
+			int next = end;
+			if (end < length) {
+				int space = lastWhitespace(chunk, start + (end - start) / 2, end);
+				if (space >= 0) {
+					end = space;
+					next = space + 1;
+				}
+			}
+			int trimmedEnd = end;
+			while (trimmedEnd > start && Character.isWhitespace(chunk.charAt(trimmedEnd - 1))) {
+				trimmedEnd--;
+			}
+			if (trimmedEnd > start) {
+				pieces.add(chunk.subSequence(start, trimmedEnd));
+			}
+			start = next;
+			while (start < length && Character.isWhitespace(chunk.charAt(start))) {
+				start++;
+			}
+		}
+		return pieces;
+	}
+
+	/**
+	 * from 초과 to 이하 구간에서 마지막 공백 위치, 없으면 -1
+	 */
+	private static int lastWhitespace(CharSequence text, int from, int to) {
+		for (int index = to; index > from; index--) {
+			if (Character.isWhitespace(text.charAt(index))) {
+				return index;
+			}
+		}
+		return -1;
+	}
+}
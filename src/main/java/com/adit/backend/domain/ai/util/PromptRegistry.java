@@ -0,0 +1,214 @@
+package com.adit.backend.domain.ai.util;
+
+import static com.adit.backend.global.error.GlobalErrorCode.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.stringtemplate.v4.ST;
+import org.stringtemplate.v4.STErrorListener;
+import org.stringtemplate.v4.STGroup;
+import org.stringtemplate.v4.misc.STMessage;
+
+import com.adit.backend.domain.ai.exception.AiException;
+import com.adit.backend.global.util.KeyGenerator;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프롬프트 템플릿 저장소
+ * <p>
+ * 시작 시 prompts 디렉터리의 모든 .st 템플릿을 한 번 읽어 StringTemplate 으로 컴파일해 두고,
+ * 렌더링할 때는 컴파일된 템플릿을 복제해 변수만 채운다. 출력 변환기(BeanOutputConverter)와 형식 문자열도 타입별로 한 번만 만든다.
+ * reload-interval 이 설정되면 주기적으로 파일 내용을 비교하여 바뀐 템플릿만 다시 컴파일하며,
+ * 템플릿 내용이 바뀌면 {@link #version()} 도 바뀌므로 캐시 키로 사용할 수 있다.
+ */
+@Slf4j
+@Component
+public class PromptRegistry {
+
+	private static final String TEMPLATE_PATTERN = "*.st";
+	private static final String TEMPLATE_EXTENSION = ".st";
+	private static final char DELIMITER_START = '{';
+	private static final char DELIMITER_STOP = '}';
+
+	private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+	private final Map<Class<?>, BeanOutputConverter<?>> converters = new ConcurrentHashMap<>();
+	private volatile Map<String, PromptEntry> prompts = Map.of();
+	private volatile String version = "";
+	private ScheduledExecutorService reloadScheduler;
+
+	@Value("${ai.prompt.location:classpath:/prompts/}")
+	private String location;
+	@Value("${ai.prompt.reload-interval:0s}")
+	private Duration reloadInterval;
+
+	/**
+	 * 컴파일된 템플릿
+	 *
+	 * @param name            파일 이름에서 확장자를 뺀 템플릿 이름
+	 * @param source          템플릿 원문
+	 * @param hash            원문 SHA-256
+	 * @param estimatedTokens 원문 기준 추정 토큰 수
+	 * @param compiled        변수 주입 전 원본 템플릿 (렌더링 시 복제하여 사용)
+	 */
+	private record PromptEntry(String name, String source, String hash, int estimatedTokens, ST compiled) {
+	}
+
+	@PostConstruct
+	void init() throws IOException {
+		load();
+		if (!reloadInterval.isZero() && !reloadInterval.isNegative()) {
+			reloadScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "prompt-reloader");
+				thread.setDaemon(true);
+				return thread;
+			});
+			reloadScheduler.scheduleWithFixedDelay(this::reloadQuietly,
+				reloadInterval.toMillis(), reloadInterval.toMillis(), TimeUnit.MILLISECONDS);
+			log.info("[AI] 프롬프트 변경 감지 활성화 ({} 간격)", reloadInterval);
+		}
+	}
+
+	/**
+	 * 템플릿 변수를 채워 렌더링
+	 */
+	public String render(String name, Map<String, Object> variables) {
+		ST template = new ST(get(name).compiled());
+		variables.forEach(template::add);
+		return template.render();
+	}
+
+	/**
+	 * 변수가 없는 템플릿(시스템 프롬프트 등)의 원문
+	 */
+	public String text(String name) {
+		return get(name).source();
+	}
+
+	public int estimatedTokens(String name) {
+		return get(name).estimatedTokens();
+	}
+
+	/**
+	 * 타입별로 한 번만 생성되는 출력 변환기 (JSON 스키마 생성 비용을 요청마다 치르지 않도록 재사용)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> BeanOutputConverter<T> converter(Class<T> type) {
+		return (BeanOutputConverter<T>)converters.computeIfAbsent(type, BeanOutputConverter::new);
+	}
+
+	/**
+	 * 전체 템플릿 버전 (템플릿 이름과 원문 해시로 계산)
+	 */
+	public String version() {
+		return version;
+	}
+
+	/**
+	 * 바뀐 템플릿이 있으면 다시 컴파일하고 true 반환
+	 */
+	public synchronized boolean reload() throws IOException {
+		String previous = version;
+		load();
+		if (previous.equals(version)) {
+			return false;
+		}
+		log.info("[AI] 프롬프트 변경 반영: {} -> {}", previous, version);
+		return true;
+	}
+
+	private PromptEntry get(String name) {
+		PromptEntry entry = prompts.get(name);
+		if (entry == null) {
+			log.error("[AI] 프롬프트 템플릿을 찾을 수 없음: {}", name);
+			throw new AiException(PROMPT_NOT_FOUND);
+		}
+		return entry;
+	}
+
+	private synchronized void load() throws IOException {
+		Map<String, PromptEntry> current = prompts;
+		Map<String, PromptEntry> loaded = new TreeMap<>();
+		for (Resource resource : resourceResolver.getResources(location + TEMPLATE_PATTERN)) {
+			String filename = resource.getFilename();
+			if (filename == null) {
+				continue;
+			}
+			String name = filename.substring(0, filename.length() - TEMPLATE_EXTENSION.length());
+			String source = resource.getContentAsString(StandardCharsets.UTF_8);
+			String hash = KeyGenerator.sha256Hex(source);
+			PromptEntry previous = current.get(name);
+			loaded.put(name, previous != null && previous.hash().equals(hash) ? previous : compile(name, source, hash));
+		}
+
+		StringBuilder versionSource = new StringBuilder();
+		loaded.values().forEach(entry -> versionSource.append(entry.name()).append(':').append(entry.hash()).append('\n'));
+		prompts = Map.copyOf(loaded);
+		version = KeyGenerator.sha256Hex(versionSource.toString()).substring(0, 12);
+		log.debug("[AI] 프롬프트 템플릿 {} 개 로드 (버전: {})", loaded.size(), version);
+	}
+
+	private PromptEntry compile(String name, String source, String hash) {
+		STGroup group = new STGroup(DELIMITER_START, DELIMITER_STOP);
+		group.setListener(new LoggingErrorListener(name));
+		ST compiled = new ST(group, source);
+		return new PromptEntry(name, source, hash, TokenEstimator.estimate(source), compiled);
+	}
+
+	private void reloadQuietly() {
+		try {
+			reload();
+		} catch (Exception e) {
+			log.warn("[AI] 프롬프트 다시 읽기 실패: {}", e.getMessage());
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (reloadScheduler != null) {
+			reloadScheduler.shutdownNow();
+		}
+	}
+
+	/**
+	 * StringTemplate 컴파일·렌더링 오류를 표준 오류 대신 로그로 남긴다
+	 */
+	private record LoggingErrorListener(String name) implements STErrorListener {
+
+		@Override
+		public void compileTimeError(STMessage message) {
+			log.warn("[AI] 프롬프트 컴파일 오류 ({}): {}", name, message);
+		}
+
+		@Override
+		public void runTimeError(STMessage message) {
+			log.warn("[AI] 프롬프트 렌더링 오류 ({}): {}", name, message);
+		}
+
+		@Override
+		public void IOError(STMessage message) {
+			log.warn("[AI] 프롬프트 입출력 오류 ({}): {}", name, message);
+		}
+
+		@Override
+		public void internalError(STMessage message) {
+			log.warn("[AI] 프롬프트 내부 오류 ({}): {}", name, message);
+		}
+	}
+}
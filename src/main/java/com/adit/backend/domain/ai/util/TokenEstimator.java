@@ -0,0 +1,62 @@
+package com.adit.backend.domain.ai.util;
+
+/**
+ * 토크나이저 없이 사용하는 토큰 수 추정기
+ * <p>
+ * GPT 계열 BPE 기준 ASCII 는 약 4글자당 1토큰, 한글 등 비 ASCII 문자는 글자당 약 1토큰으로 계산한다.
+ * 실제보다 약간 크게 추정되도록 잡아 두어 예산 초과를 피한다.
+ */
+public final class TokenEstimator {
+
+	private static final int ASCII_CHARS_PER_TOKEN = 4;
+
+	private TokenEstimator() {
+	}
+
+	public static int estimate(CharSequence text) {
+		if (text == null) {
+			return 0;
+		}
+		int ascii = 0;
+		int other = 0;
+		int length = text.length();
+		for (int index = 0; index < length; index++) {
+			char ch = text.charAt(index);
+			if (ch < 0x80) {
+				ascii++;
+			} else if (!Character.isLowSurrogate(ch)) {
+				other++;
+			}
+		}
+		return tokens(ascii, other);
+	}
+
+	/**
+	 * from 부터 추정 토큰 수가 maxTokens 이하인 가장 긴 구간의 끝 위치
+	 * <p>
+	 * 서로게이트 쌍의 뒤쪽 문자는 토큰을 더하지 않으므로 쌍이 나뉘지 않는다. maxTokens 가 1 이상이면 최소 한 글자를 포함한다.
+	 */
+	public static int fit(CharSequence text, int from, int maxTokens) {
+		int ascii = 0;
+		int other = 0;
+		int length = text.length();
+		int end = from;
+		while (end < length) {
+			char ch = text.charAt(end);
+			if (ch < 0x80) {
+				ascii++;
+			} else if (!Character.isLowSurrogate(ch)) {
+				other++;
+			}
+			if (tokens(ascii, other) > maxTokens) {
+				break;
+			}
+			end++;
+		}
+		return end;
+	}
+
+	private static int tokens(int ascii, int other) {
+		return (ascii + ASCII_CHARS_PER_TOKEN - 1) / ASCII_CHARS_PER_TOKEN + other;
+	}
+}
@@ -1,7 +1,10 @@
 package com.adit.backend.domain.image.controller;
 
+import java.util.List;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,18 +12,25 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.adit.backend.domain.image.converter.ImageConverter;
+import com.adit.backend.domain.image.dto.request.ImageUploadCompleteRequestDto;
+import com.adit.backend.domain.image.dto.request.PresignedUploadRequestDto;
 import com.adit.backend.domain.image.dto.response.ImageResponseDto;
+import com.adit.backend.domain.image.dto.response.ImageStatusResponseDto;
+import com.adit.backend.domain.image.dto.response.PresignedUploadResponseDto;
 import com.adit.backend.domain.image.entity.Image;
 import com.adit.backend.domain.image.service.command.ImageCommandService;
 import com.adit.backend.domain.image.service.query.ImageQueryService;
+import com.adit.backend.domain.user.entity.User;
 import com.adit.backend.global.common.ApiResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
@@ -41,6 +51,23 @@ public class ImageController {
 			.body(ApiResponse.success(imageCommandService.uploadImage(url)));
 	}
 
+	@PostMapping("/presigned")
+	@Operation(summary = "직접 업로드 URL 발급", description = "클라이언트가 S3 에 이미지를 바로 올릴 수 있는 presigned URL 을 발급합니다.")
+	public ResponseEntity<ApiResponse<PresignedUploadResponseDto>> issueUpload(
+		@AuthenticationPrincipal(expression = "user") User user, @RequestBody @Valid PresignedUploadRequestDto request) {
+		return ResponseEntity.status(HttpStatus.CREATED)
+			.body(ApiResponse.success(imageCommandService.issueUpload(user, request)));
+	}
+
+	@PostMapping("/presigned/complete")
+	@Operation(summary = "직접 업로드 완료", description = "업로드된 이미지를 확인한 뒤 장소 또는 이벤트 이미지로 등록합니다.")
+	public ResponseEntity<ApiResponse<ImageResponseDto>> completeUpload(
+		@AuthenticationPrincipal(expression = "user") User user,
+		@RequestBody @Valid ImageUploadCompleteRequestDto request) {
+		return ResponseEntity.status(HttpStatus.CREATED)
+			.body(ApiResponse.success(imageCommandService.completeUpload(user, request)));
+	}
+
 	@GetMapping("/{imageId}")
 	@Operation(summary = "특정 이미지 조회", description = "이미지 ID를 통해 특정 이미지를 조회합니다.")
 	public ResponseEntity<ApiResponse<ImageResponseDto>> getImage(@PathVariable Long imageId) {
@@ -48,6 +75,29 @@ public class ImageController {
 		return ResponseEntity.ok(ApiResponse.success(imageConverter.toResponse(image)));
 	}
 
+	@GetMapping("/status")
+	@Operation(summary = "이미지 가져오기 상태 조회", description = "이미지 ID 목록으로 원격 이미지 가져오기 상태(PENDING, READY, FAILED)를 조회합니다.")
+	public ResponseEntity<ApiResponse<List<ImageStatusResponseDto>>> getImageStatuses(
+		@RequestParam List<Long> imageIds) {
+		return ResponseEntity.ok(ApiResponse.success(toStatusResponses(imageQueryService.getImagesByIds(imageIds))));
+	}
+
+	@GetMapping("/status/user-places/{userPlaceId}")
+	@Operation(summary = "장소 이미지 가져오기 상태 조회", description = "사용자 장소에 등록된 이미지들의 가져오기 상태를 조회합니다.")
+	public ResponseEntity<ApiResponse<List<ImageStatusResponseDto>>> getUserPlaceImageStatuses(
+		@PathVariable Long userPlaceId) {
+		return ResponseEntity.ok(
+			ApiResponse.success(toStatusResponses(imageQueryService.getImagesByUserPlace(userPlaceId))));
+	}
+
+	@GetMapping("/status/user-events/{userEventId}")
+	@Operation(summary = "이벤트 이미지 가져오기 상태 조회", description = "사용자 이벤트에 등록된 이미지들의 가져오기 상태를 조회합니다.")
+	public ResponseEntity<ApiResponse<List<ImageStatusResponseDto>>> getUserEventImageStatuses(
+		@PathVariable Long userEventId) {
+		return ResponseEntity.ok(
+			ApiResponse.success(toStatusResponses(imageQueryService.getImagesByUserEvent(userEventId))));
+	}
+
 	@DeleteMapping("/{imageId}")
 	@Operation(summary = "이미지 삭제", description = "이미지 ID를 통해 이미지를 삭제합니다.")
 	public ResponseEntity<ApiResponse<String>> deleteImage(@PathVariable Long imageId) {
@@ -64,4 +114,8 @@ public class ImageController {
 		@PathVariable Long imageId, MultipartFile newImage) {
 		return ResponseEntity.ok(ApiResponse.success(imageCommandService.updateImage(imageId, newImage)));
 	}
+
+	private List<ImageStatusResponseDto> toStatusResponses(List<Image> images) {
+		return images.stream().map(imageConverter::toStatusResponse).toList();
+	}
 }
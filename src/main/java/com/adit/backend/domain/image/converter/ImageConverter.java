@@ -1,10 +1,16 @@
 package com.adit.backend.domain.image.converter;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 import org.springframework.stereotype.Component;
 
 import com.adit.backend.domain.image.dto.response.ImageResponseDto;
+import com.adit.backend.domain.image.dto.response.PresignedUploadResponseDto;
+import com.adit.backend.domain.image.dto.response.ImageStatusResponseDto;
 import com.adit.backend.domain.image.entity.Image;
 import com.adit.backend.domain.place.dto.request.PlaceRequestDto;
+import com.adit.backend.infra.s3.upload.PresignedUpload;
 
 @Component
 public class ImageConverter {
@@ -22,6 +28,26 @@ public class ImageConverter {
 			.userEvent(image.getUserEvent())
 			.commonEvent(image.getCommonEvent())
 			.url(image.getUrl())
+			.variants(image.getVariants())
+			.status(image.getStatus())
+			.build();
+	}
+
+	public ImageStatusResponseDto toStatusResponse(Image image) {
+		return ImageStatusResponseDto.builder()
+			.id(image.getId())
+			.status(image.getStatus())
+			.url(image.getUrl())
+			.variants(image.getVariants())
+			.build();
+	}
+
+	public PresignedUploadResponseDto toPresignedUploadResponse(PresignedUpload upload) {
+		return PresignedUploadResponseDto.builder()
+			.uploadKey(upload.key())
+			.uploadUrl(upload.uploadUrl())
+			.contentType(upload.contentType())
+			.expiresAt(LocalDateTime.ofInstant(upload.expiresAt(), ZoneId.systemDefault()))
 			.build();
 	}
 
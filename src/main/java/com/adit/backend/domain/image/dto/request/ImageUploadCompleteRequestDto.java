@@ -0,0 +1,17 @@
+package com.adit.backend.domain.image.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 직접 업로드 완료 요청 (userPlaceId, userEventId 중 하나에 이미지를 추가)
+ */
+public record ImageUploadCompleteRequestDto(@NotBlank(message = "업로드 키는 공백일 수 없습니다.") String uploadKey,
+											Long userPlaceId,
+											Long userEventId) {
+
+	@AssertTrue(message = "userPlaceId 와 userEventId 중 하나만 지정해야 합니다.")
+	public boolean isSingleTarget() {
+		return (userPlaceId == null) != (userEventId == null);
+	}
+}
@@ -0,0 +1,11 @@
+package com.adit.backend.domain.image.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 직접 업로드 URL 발급 요청
+ */
+public record PresignedUploadRequestDto(@NotBlank(message = "파일 형식은 공백일 수 없습니다.") String contentType,
+										@Positive(message = "파일 크기는 0보다 커야 합니다.") long fileSize) {
+}
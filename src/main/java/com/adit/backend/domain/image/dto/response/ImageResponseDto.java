@@ -3,6 +3,8 @@ package com.adit.backend.domain.image.dto.response;
 import com.adit.backend.domain.event.entity.CommonEvent;
 import com.adit.backend.domain.event.entity.UserEvent;
 import com.adit.backend.domain.image.entity.Image;
+import com.adit.backend.domain.image.entity.ImageVariants;
+import com.adit.backend.domain.image.enums.ImageStatus;
 import com.adit.backend.domain.place.entity.CommonPlace;
 import com.adit.backend.domain.place.entity.UserPlace;
 
@@ -22,5 +24,7 @@ public record ImageResponseDto(@NotNull(message = "이미지 ID는 null일 수 
 
 							   @Nullable UserEvent userEvent,
 							   @Nullable CommonEvent commonEvent,
-							   @NotBlank(message = "이미지 주소는 공백일 수 없습니다.") String url) {
+							   @NotBlank(message = "이미지 주소는 공백일 수 없습니다.") String url,
+							   @Nullable ImageVariants variants,
+							   ImageStatus status) {
 }
\ No newline at end of file
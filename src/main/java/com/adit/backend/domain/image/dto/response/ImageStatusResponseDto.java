@@ -0,0 +1,19 @@
+package com.adit.backend.domain.image.dto.response;
+
+import com.adit.backend.domain.image.entity.Image;
+import com.adit.backend.domain.image.entity.ImageVariants;
+import com.adit.backend.domain.image.enums.ImageStatus;
+
+import jakarta.annotation.Nullable;
+import lombok.Builder;
+
+/**
+ * 이미지 가져오기 진행 상태 (PENDING 이면 url 은 아직 원본 주소)
+ * DTO for {@link Image}
+ */
+@Builder
+public record ImageStatusResponseDto(Long id,
+									 ImageStatus status,
+									 String url,
+									 @Nullable ImageVariants variants) {
+}
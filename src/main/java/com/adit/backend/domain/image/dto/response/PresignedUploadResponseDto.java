@@ -0,0 +1,15 @@
+package com.adit.backend.domain.image.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+
+/**
+ * 직접 업로드 URL (uploadUrl 로 PUT 하고 Content-Type 헤더는 contentType 과 같아야 함, 완료 후 uploadKey 로 완료 요청)
+ */
+@Builder
+public record PresignedUploadResponseDto(String uploadKey,
+										 String uploadUrl,
+										 String contentType,
+										 LocalDateTime expiresAt) {
+}
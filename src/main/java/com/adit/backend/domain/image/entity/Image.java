@@ -1,19 +1,30 @@
 package com.adit.backend.domain.image.entity;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.ColumnDefault;
+
 import com.adit.backend.domain.event.entity.CommonEvent;
 import com.adit.backend.domain.event.entity.UserEvent;
+import com.adit.backend.domain.image.enums.ImageStatus;
 import com.adit.backend.domain.place.entity.CommonPlace;
 import com.adit.backend.domain.place.entity.UserPlace;
 import com.adit.backend.global.entity.BaseEntity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,6 +36,10 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+	@Index(name = "idx_image_url", columnList = "url"),
+	@Index(name = "idx_image_status_next_import_at", columnList = "status, next_import_at")
+})
 public class Image extends BaseEntity {
 
 	@Id
@@ -50,6 +65,37 @@ public class Image extends BaseEntity {
 	@Column(nullable = false)
 	private String url;
 
+	@Embedded
+	private ImageVariants variants;
+
+	@Builder.Default
+	@Enumerated(EnumType.STRING)
+	@ColumnDefault("'READY'")
+	@Column(nullable = false, length = 16)
+	private ImageStatus status = ImageStatus.READY;
+
+	// 가져오기 대상 원격 URL (가져오기로 만든 이미지만)
+	@Column(length = 2048)
+	private String sourceUrl;
+
+	@Builder.Default
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private int importAttempts = 0;
+
+	// 다음 가져오기 시도 시각 (처리 중이면 점유 만료 시각)
+	private LocalDateTime nextImportAt;
+
+	// 원본 URL 을 임시 주소로 가진 가져오기 대기 이미지
+	public static Image pending(String sourceUrl) {
+		return Image.builder()
+			.url(sourceUrl)
+			.sourceUrl(sourceUrl)
+			.status(ImageStatus.PENDING)
+			.nextImportAt(LocalDateTime.now())
+			.build();
+	}
+
 	//연관관계 메서드
 	public void assignEvent(UserEvent userEvent) {
 		this.userEvent = userEvent;
@@ -70,4 +116,44 @@ public class Image extends BaseEntity {
 	public void updateUrl(String newImageUrl) {
 		this.url = newImageUrl;
 	}
+
+	public void updateVariants(ImageVariants variants) {
+		this.variants = variants;
+	}
+
+	public boolean isPending() {
+		return status == ImageStatus.PENDING;
+	}
+
+	public boolean isReady() {
+		return status == ImageStatus.READY;
+	}
+
+	// 작업자가 처리하는 동안 다른 작업자가 가져가지 않도록 점유 (만료되면 다시 대상이 됨)
+	public void claimImport(Duration lease) {
+		this.nextImportAt = LocalDateTime.now().plus(lease);
+	}
+
+	// 다음 주기에 다시 가져오도록 점유 해제 (시도 횟수는 늘리지 않음)
+	public void releaseImport() {
+		this.nextImportAt = LocalDateTime.now();
+	}
+
+	public void completeImport(String url, ImageVariants variants) {
+		this.url = url;
+		this.variants = variants;
+		this.status = ImageStatus.READY;
+		this.nextImportAt = null;
+	}
+
+	// 시도 횟수가 maxAttempts 에 도달하면 FAILED, 아니면 backoff * 2^(시도 횟수 - 1) 뒤에 재시도
+	public void failImport(int maxAttempts, Duration backoff) {
+		this.importAttempts++;
+		if (importAttempts >= maxAttempts) {
+			this.status = ImageStatus.FAILED;
+			this.nextImportAt = null;
+			return;
+		}
+		this.nextImportAt = LocalDateTime.now().plus(backoff.multipliedBy(1L << Math.min(importAttempts - 1, 16)));
+	}
 }
\ No newline at end of file
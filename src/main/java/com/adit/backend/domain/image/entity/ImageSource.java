@@ -0,0 +1,50 @@
+package com.adit.backend.domain.image.entity;
+
+import com.adit.backend.global.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원본 이미지 URL 과 콘텐츠 해시 키로 저장된 객체의 매핑 (같은 URL 은 다시 내려받지 않음)
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_image_source_url", columnList = "url"))
+public class ImageSource extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	// 정규화한 원본 URL 의 SHA-256
+	@Column(nullable = false, unique = true, length = 64)
+	private String sourceUrlHash;
+
+	@Column(nullable = false, length = 2048)
+	private String sourceUrl;
+
+	// 이미지 본문의 SHA-256 (객체 키)
+	@Column(nullable = false, length = 64)
+	private String contentHash;
+
+	@Column(nullable = false)
+	private String url;
+
+	@Embedded
+	private ImageVariants variants;
+}
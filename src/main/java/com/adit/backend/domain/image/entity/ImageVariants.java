@@ -0,0 +1,39 @@
+package com.adit.backend.domain.image.entity;
+
+import java.util.Map;
+
+import com.adit.backend.domain.image.enums.ImageVariant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 크기별 변환 이미지 URL (변환 전이거나 실패하면 없음, 원본 url 사용)
+ */
+@Getter
+@Embeddable
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageVariants {
+
+	@Column(length = 512)
+	private String thumbnailUrl;
+
+	@Column(length = 512)
+	private String listUrl;
+
+	@Column(length = 512)
+	private String detailUrl;
+
+	public static ImageVariants from(Map<ImageVariant, String> variantUrls) {
+		if (variantUrls == null || variantUrls.isEmpty()) {
+			return null;
+		}
+		return new ImageVariants(variantUrls.get(ImageVariant.THUMBNAIL), variantUrls.get(ImageVariant.LIST),
+			variantUrls.get(ImageVariant.DETAIL));
+	}
+}
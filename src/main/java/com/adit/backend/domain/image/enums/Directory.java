@@ -4,7 +4,8 @@ public enum Directory {
 	USER("USER/"),
 	PLACE("PLACE"),
 	EVENT("EVENT"),
-	TEST("TEST");
+	TEST("TEST"),
+	CONTENT("CONTENT");
 
 	private final String path;
 
@@ -0,0 +1,13 @@
+package com.adit.backend.domain.image.enums;
+
+/**
+ * 원격 이미지 가져오기 상태
+ */
+public enum ImageStatus {
+	// 가져오기 대기 중 (url 은 원본 주소)
+	PENDING,
+	// S3 저장 완료
+	READY,
+	// 재시도 횟수 초과 (url 은 원본 주소 유지)
+	FAILED
+}
@@ -0,0 +1,26 @@
+package com.adit.backend.domain.image.enums;
+
+/**
+ * 화면별 이미지 크기 (원본보다 크게 늘리지 않음)
+ */
+public enum ImageVariant {
+	DETAIL("detail", 1200),
+	LIST("list", 600),
+	THUMBNAIL("thumbnail", 200);
+
+	private final String suffix;
+	private final int maxWidth;
+
+	ImageVariant(String suffix, int maxWidth) {
+		this.suffix = suffix;
+		this.maxWidth = maxWidth;
+	}
+
+	public String getSuffix() {
+		return suffix;
+	}
+
+	public int getMaxWidth() {
+		return maxWidth;
+	}
+}
@@ -0,0 +1,25 @@
+package com.adit.backend.domain.image.importer;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 원격 이미지 지연 가져오기 설정 (image.import.*)
+ *
+ * @param batchSize    한 번에 점유해 처리하는 이미지 수
+ * @param pollInterval 대기 이미지 조회 주기
+ * @param maxAttempts  실패 시 최대 시도 횟수 (도달하면 FAILED)
+ * @param backoff      첫 재시도 대기 시간 (시도마다 두 배)
+ * @param lease        처리 중 점유 시간 (작업자가 중단되면 이후 다시 처리)
+ */
+@ConfigurationProperties(prefix = "image.import")
+public record ImageImportProperties(
+	@DefaultValue("20") int batchSize,
+	@DefaultValue("2s") Duration pollInterval,
+	@DefaultValue("5") int maxAttempts,
+	@DefaultValue("30s") Duration backoff,
+	@DefaultValue("5m") Duration lease
+) {
+}
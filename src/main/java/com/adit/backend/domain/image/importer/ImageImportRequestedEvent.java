@@ -0,0 +1,9 @@
+package com.adit.backend.domain.image.importer;
+
+/**
+ * 가져오기 대기 이미지가 저장됨 (커밋 후 작업자를 바로 깨우기 위한 이벤트)
+ *
+ * @param count 저장된 대기 이미지 수
+ */
+public record ImageImportRequestedEvent(int count) {
+}
@@ -0,0 +1,102 @@
+package com.adit.backend.domain.image.importer;
+
+import static com.adit.backend.domain.image.enums.Directory.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.adit.backend.domain.image.entity.Image;
+import com.adit.backend.domain.image.entity.ImageSource;
+import com.adit.backend.domain.image.service.command.ImageImportCommandService;
+import com.adit.backend.infra.s3.service.AwsS3Service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PENDING 이미지를 주기적으로 점유해 원격 이미지를 가져오고 READY 로 바꾸는 작업자
+ * <p>
+ * 대기열은 Image 행 자체이므로 서버가 재시작되어도 남아 있으며, 점유는 SKIP LOCKED 로 하므로 여러 서버가 함께 처리해도 겹치지 않는다.
+ * 이미 가져온 원본 URL 은 다운로드 없이 완료하고, 나머지는 imageUploadExecutor 에서 병렬로 가져온다.
+ * 실패하면 지수 백오프로 재시도하고, 최대 시도 횟수를 넘으면 FAILED 로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageImportWorker {
+
+	private final ImageImportCommandService imageImportCommandService;
+	private final AwsS3Service s3Service;
+	private final ImageImportProperties imageImportProperties;
+	private final TaskScheduler taskScheduler;
+	private final AtomicBoolean draining = new AtomicBoolean();
+
+	@Scheduled(fixedDelayString = "${image.import.poll-interval:PT2S}")
+	public void poll() {
+		drain();
+	}
+
+	// 장소·이벤트 저장이 커밋되면 다음 주기를 기다리지 않고 바로 처리
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onImportRequested(ImageImportRequestedEvent event) {
+		taskScheduler.schedule(this::drain, Instant.now());
+	}
+
+	/**
+	 * 대기 이미지가 남아 있는 동안 배치 단위로 처리 (이미 처리 중이면 건너뜀)
+	 */
+	void drain() {
+		if (!draining.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			List<Image> claimed;
+			do {
+				claimed = imageImportCommandService.claim();
+				if (!claimed.isEmpty()) {
+					importAll(claimed);
+				}
+			} while (claimed.size() >= imageImportProperties.batchSize());
+		} catch (RuntimeException e) {
+			log.error("[Image] 이미지 가져오기 작업 오류", e);
+		} finally {
+			draining.set(false);
+		}
+	}
+
+	private void importAll(List<Image> imageList) {
+		Map<String, ImageSource> knownSources = imageImportCommandService.findSources(
+			imageList.stream().map(Image::getSourceUrl).distinct().toList());
+		List<CompletableFuture<Void>> futureList = new ArrayList<>();
+		for (Image image : imageList) {
+			ImageSource known = knownSources.get(image.getSourceUrl());
+			if (known != null) {
+				imageImportCommandService.complete(image.getId(), known);
+				continue;
+			}
+			futureList.add(s3Service.importFiles(List.of(image.getSourceUrl()), CONTENT.getPath())
+				.thenAccept(importedList -> imageImportCommandService.complete(image.getId(),
+					imageImportCommandService.saveSource(importedList.get(0))))
+				.exceptionally(e -> {
+					log.warn("[Image] 원격 이미지 가져오기 실패: imageId = {}, url = {}", image.getId(),
+						image.getSourceUrl(), e);
+					imageImportCommandService.fail(image.getId());
+					return null;
+				}));
+		}
+		CompletableFuture.allOf(futureList.toArray(new CompletableFuture[0])).join();
+		log.info("[Image] 이미지 가져오기 처리: 대상 = {}, 재사용 = {}, 다운로드 = {}", imageList.size(),
+			imageList.size() - futureList.size(), futureList.size());
+	}
+}
@@ -1,9 +1,39 @@
 package com.adit.backend.domain.image.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.adit.backend.domain.image.entity.Image;
+import com.adit.backend.domain.image.enums.ImageStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 public interface ImageRepository extends JpaRepository<Image, Long> {
 
+	List<Image> findAllByIdIn(Collection<Long> ids);
+
+	List<Image> findAllByUserPlaceId(Long userPlaceId);
+
+	List<Image> findAllByUserEventId(Long userEventId);
+
+	// 처리 시각이 된 가져오기 대기 이미지를 잠금 (다른 작업자가 잠근 행은 건너뜀, lock.timeout -2 = SKIP LOCKED)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("SELECT i FROM Image i WHERE i.status = :status AND i.nextImportAt <= :now ORDER BY i.nextImportAt")
+	List<Image> findImportable(@Param("status") ImageStatus status, @Param("now") LocalDateTime now,
+		Pageable pageable);
+
+	// 같은 S3 객체(URL)를 가리키는 이미지를 잠그고 최신 커밋 기준으로 조회 (객체 삭제와 가져오기 완료를 직렬화)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT i FROM Image i WHERE i.url = :url")
+	List<Image> findAllByUrlForUpdate(@Param("url") String url);
 }
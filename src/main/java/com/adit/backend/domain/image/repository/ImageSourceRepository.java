@@ -0,0 +1,45 @@
+package com.adit.backend.domain.image.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.adit.backend.domain.image.entity.ImageSource;
+
+import jakarta.persistence.LockModeType;
+
+public interface ImageSourceRepository extends JpaRepository<ImageSource, Long> {
+
+	List<ImageSource> findAllBySourceUrlHashIn(Collection<String> sourceUrlHashes);
+
+	// 같은 URL 을 동시에 가져온 경우 먼저 저장된 매핑을 유지
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO image_source (source_url_hash, source_url, content_hash, url, "
+		+ "thumbnail_url, list_url, detail_url, created_at, modified_at) "
+		+ "VALUES (:#{#source.sourceUrlHash}, :#{#source.sourceUrl}, :#{#source.contentHash}, :#{#source.url}, "
+		+ ":#{#source.variants?.thumbnailUrl}, :#{#source.variants?.listUrl}, :#{#source.variants?.detailUrl}, "
+		+ "NOW(6), NOW(6))", nativeQuery = true)
+	void insertIgnore(@Param("source") ImageSource source);
+
+	@Modifying
+	@Query("DELETE FROM ImageSource s WHERE s.url = :url")
+	void deleteAllByUrl(@Param("url") String url);
+
+	// 객체를 지우기 전에 그 객체를 가리키는 매핑을 잠금 (행이 없어도 url 인덱스 범위를 잠가 새 매핑 저장을 막음)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT s FROM ImageSource s WHERE s.url = :url")
+	List<ImageSource> findAllByUrlForUpdate(@Param("url") String url);
+
+	// 가져오기 완료 전에 매핑을 잠가 아직 남아 있는지 확인
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT s FROM ImageSource s WHERE s.sourceUrlHash = :sourceUrlHash")
+	Optional<ImageSource> findBySourceUrlHashForUpdate(@Param("sourceUrlHash") String sourceUrlHash);
+}
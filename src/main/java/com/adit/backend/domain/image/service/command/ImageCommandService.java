@@ -1,26 +1,43 @@
 package com.adit.backend.domain.image.service.command;
 
 import static com.adit.backend.domain.image.enums.Directory.*;
+import static com.adit.backend.global.error.GlobalErrorCode.*;
 
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.adit.backend.domain.event.dto.request.EventRequestDto;
 import com.adit.backend.domain.event.entity.CommonEvent;
 import com.adit.backend.domain.event.entity.UserEvent;
+import com.adit.backend.domain.event.exception.EventException;
+import com.adit.backend.domain.event.repository.UserEventRepository;
 import com.adit.backend.domain.image.converter.ImageConverter;
+import com.adit.backend.domain.image.dto.request.ImageUploadCompleteRequestDto;
+import com.adit.backend.domain.image.dto.request.PresignedUploadRequestDto;
 import com.adit.backend.domain.image.dto.response.ImageResponseDto;
+import com.adit.backend.domain.image.dto.response.PresignedUploadResponseDto;
 import com.adit.backend.domain.image.entity.Image;
-import com.adit.backend.domain.image.enums.Directory;
+import com.adit.backend.domain.image.entity.ImageVariants;
+import com.adit.backend.domain.image.exception.ImageException;
+import com.adit.backend.domain.image.importer.ImageImportRequestedEvent;
 import com.adit.backend.domain.image.repository.ImageRepository;
+import com.adit.backend.domain.image.repository.ImageSourceRepository;
 import com.adit.backend.domain.image.service.query.ImageQueryService;
 import com.adit.backend.domain.place.dto.request.PlaceRequestDto;
 import com.adit.backend.domain.place.entity.CommonPlace;
 import com.adit.backend.domain.place.entity.UserPlace;
+import com.adit.backend.domain.place.exception.PlaceException;
+import com.adit.backend.domain.place.repository.UserPlaceRepository;
 import com.adit.backend.domain.user.entity.User;
+import com.adit.backend.global.util.ImageUtil;
+import com.adit.backend.infra.s3.exception.S3Exception;
 import com.adit.backend.infra.s3.service.AwsS3Service;
 
 import lombok.AccessLevel;
@@ -33,9 +50,14 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class ImageCommandService {
 	private final ImageRepository imageRepository;
+	private final ImageSourceRepository imageSourceRepository;
 	private final ImageConverter imageConverter;
 	private final AwsS3Service s3Service;
 	private final ImageQueryService imageQueryService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final UserPlaceRepository userPlaceRepository;
+	private final UserEventRepository userEventRepository;
+	private final TransactionTemplate transactionTemplate;
 
 	public String uploadImage(String url) {
 		return s3Service.uploadFile(List.of(url), TEST.getPath()).join().toString();
@@ -43,8 +65,17 @@ public class ImageCommandService {
 
 	public ImageResponseDto updateImage(Long imageId, MultipartFile multipartFile) {
 		Image image = imageQueryService.getImageById(imageId);
-		String newImageUrl = s3Service.updateImage(image.getUrl(), multipartFile).join();
+		if (!image.isReady()) {
+			// 가져오기 전·실패 이미지는 S3 객체가 없으므로 새로 업로드한 이미지로 완료 처리
+			Image uploaded = s3Service.uploadFiles(List.of(multipartFile),
+				image.getUserEvent() != null ? EVENT.getPath() : PLACE.getPath()).join().get(0);
+			image.completeImport(uploaded.getUrl(), uploaded.getVariants());
+			return imageConverter.toResponse(image);
+		}
+		boolean owned = releaseObject(image);
+		String newImageUrl = s3Service.updateImage(image.getUrl(), multipartFile, owned).join();
 		image.updateUrl(newImageUrl);
+		image.updateVariants(ImageVariants.from(s3Service.createVariants(newImageUrl, multipartFile).join()));
 		return imageConverter.toResponse(image); // ImageResponseDto 반환
 	}
 
@@ -57,16 +88,52 @@ public class ImageCommandService {
 		return imageList;
 	}
 
-	// 이미지 삭제
+	// 클라이언트가 S3 에 바로 올릴 업로드 URL 발급 (파일이 애플리케이션 서버를 거치지 않음)
+	public PresignedUploadResponseDto issueUpload(User user, PresignedUploadRequestDto request) {
+		return imageConverter.toPresignedUploadResponse(
+			s3Service.issueUpload(user.getId(), request.contentType(), request.fileSize()));
+	}
+
+	/**
+	 * 직접 업로드 완료 처리: 업로드된 객체를 확인해 본인의 장소·이벤트에 이미지로 추가
+	 * <p>
+	 * S3 확인·복사와 크기 변환은 DB 커넥션을 쥐지 않도록 트랜잭션 밖에서 수행하고, 소유자 확인과 이미지 연결만 각각 짧은
+	 * 트랜잭션으로 처리한다. 연결에 실패하면 옮긴 객체를 지운다.
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public ImageResponseDto completeUpload(User user, ImageUploadCompleteRequestDto request) {
+		transactionTemplate.executeWithoutResult(status -> uploadTarget(user, request));
+		String dirName = request.userPlaceId() != null ? PLACE.getPath() : EVENT.getPath();
+		Image image = s3Service.completeUpload(user.getId(), request.uploadKey(), dirName).join();
+		try {
+			return transactionTemplate.execute(status -> {
+				uploadTarget(user, request).accept(image);
+				imageRepository.save(image);
+				return imageConverter.toResponse(image);
+			});
+		} catch (RuntimeException e) {
+			log.error("[Image] 직접 업로드 이미지 연결 실패, 옮긴 객체 삭제: url = {}", image.getUrl(), e);
+			try {
+				s3Service.deleteFile(image.getUrl());
+			} catch (S3Exception deleteFailure) {
+				e.addSuppressed(deleteFailure);
+			}
+			throw e;
+		}
+	}
+
+	// 이미지 삭제 (같은 객체를 쓰는 다른 이미지가 없을 때만 S3 객체와 원본 URL 매핑도 삭제, 가져오기 전 이미지는 S3 객체 없음)
 	public void deleteImage(Long imageId) {
 		Image image = imageQueryService.getImageById(imageId);
-		s3Service.deleteFile(image.getUrl());
+		if (image.isReady() && releaseObject(image)) {
+			s3Service.deleteFile(image.getUrl());
+		}
 		imageRepository.delete(image);
 	}
 
 	// UserPlace에 이미지 연관관계 추가 후 저장
 	public void addImageToUserPlace(PlaceRequestDto request, User user, UserPlace userPlace) {
-		List<Image> imageList = s3Service.uploadFile(request.imageUrlList(), USER.getPath() + user.getId()).join();
+		List<Image> imageList = pendingImages(request.imageUrlList());
 		imageList.forEach(userPlace::addImage);
 		imageRepository.saveAll(imageList);
 
@@ -74,14 +141,14 @@ public class ImageCommandService {
 
 	// CommonPlace에 이미지 연관관계 추가 후 저장
 	public void addImageToCommonPlace(PlaceRequestDto request, CommonPlace commonPlace) {
-		List<Image> imageList = s3Service.uploadFile(request.imageUrlList(), PLACE.getPath()).join();
+		List<Image> imageList = pendingImages(request.imageUrlList());
 		imageList.forEach(commonPlace::addImage);
 		imageRepository.saveAll(imageList);
 	}
 
 	// CommonEvent에 이미지 연관관계 추가 후 저장
 	public void addImageToCommonEvent(EventRequestDto request, CommonEvent commonEvent) {
-		List<Image> imageList = s3Service.uploadFile(request.imageUrlList(), EVENT.getPath()).join();
+		List<Image> imageList = pendingImages(request.imageUrlList());
 		imageList.forEach(commonEvent::addImage);
 		imageRepository.saveAll(imageList);
 
@@ -89,9 +156,62 @@ public class ImageCommandService {
 
 	// UserEvent에 이미지 연관관계 추가 후 저장
 	public void addImageToUserEvent(EventRequestDto request, User user, UserEvent userEvent) {
-		List<Image> imageList = s3Service.uploadFile(request.imageUrlList(), Directory.USER.getPath() + user.getId()).join();
+		List<Image> imageList = pendingImages(request.imageUrlList());
 		imageList.forEach(userEvent::addImage);
 		imageRepository.saveAll(imageList);
 
 	}
+
+	/**
+	 * 원격 이미지를 원본 URL 을 임시 주소로 가진 PENDING 이미지로 만든다 (저장은 호출자가 수행)
+	 * <p>
+	 * 실제 다운로드와 S3 저장은 커밋 후 ImageImportWorker 가 처리하므로, 장소·이벤트 저장 트랜잭션이
+	 * 외부 이미지 서버 응답을 기다리지 않는다.
+	 */
+	private List<Image> pendingImages(List<String> imageUrlList) {
+		List<Image> imageList = imageUrlList.stream()
+			.map(ImageUtil::normalizeUrl)
+			.map(Image::pending)
+			.toList();
+		eventPublisher.publishEvent(new ImageImportRequestedEvent(imageList.size()));
+		return imageList;
+	}
+
+	// 업로드 이미지를 추가할 본인의 장소·이벤트를 확인하고 이미지 연결 함수로 반환
+	private Consumer<Image> uploadTarget(User user, ImageUploadCompleteRequestDto request) {
+		if (request.userPlaceId() != null) {
+			UserPlace userPlace = userPlaceRepository.findById(request.userPlaceId())
+				.orElseThrow(() -> new PlaceException(USER_PLACE_NOT_FOUND));
+			checkOwner(user, userPlace.getUser());
+			return userPlace::addImage;
+		}
+		UserEvent userEvent = userEventRepository.findById(request.userEventId())
+			.orElseThrow(() -> new EventException(EVENT_NOT_FOUND));
+		checkOwner(user, userEvent.getUser());
+		return userEvent::addImage;
+	}
+
+	private void checkOwner(User user, User owner) {
+		if (owner == null || !owner.getId().equals(user.getId())) {
+			throw new ImageException(FORBIDDEN_ERROR);
+		}
+	}
+
+	/**
+	 * 이미지가 S3 객체를 혼자 쓰고 있으면 원본 URL 매핑을 지우고 true 반환 (객체 삭제는 호출자가 수행)
+	 * <p>
+	 * 콘텐츠 해시 저장소의 객체는 여러 장소·이벤트가 공유한다. 매핑 행과 같은 URL 의 이미지 행을 잠근 뒤 최신 상태로
+	 * 다시 확인하며, 가져오기 완료도 매핑 행을 잠근 뒤 연결하므로 이 트랜잭션이 끝나기 전에는 지우려는 객체에 새 이미지가
+	 * 연결되지 않는다.
+	 */
+	private boolean releaseObject(Image image) {
+		imageSourceRepository.findAllByUrlForUpdate(image.getUrl());
+		boolean shared = imageRepository.findAllByUrlForUpdate(image.getUrl()).stream()
+			.anyMatch(other -> !other.getId().equals(image.getId()));
+		if (shared) {
+			return false;
+		}
+		imageSourceRepository.deleteAllByUrl(image.getUrl());
+		return true;
+	}
 }
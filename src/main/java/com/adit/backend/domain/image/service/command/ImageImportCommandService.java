@@ -0,0 +1,99 @@
+package com.adit.backend.domain.image.service.command;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.adit.backend.domain.image.entity.Image;
+import com.adit.backend.domain.image.entity.ImageSource;
+import com.adit.backend.domain.image.entity.ImageVariants;
+import com.adit.backend.domain.image.enums.ImageStatus;
+import com.adit.backend.domain.image.importer.ImageImportProperties;
+import com.adit.backend.domain.image.repository.ImageRepository;
+import com.adit.backend.domain.image.repository.ImageSourceRepository;
+import com.adit.backend.global.util.ImageUtil;
+import com.adit.backend.infra.s3.upload.ImportedImage;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원격 이미지 지연 가져오기의 DB 작업 (점유, 원본 URL 매핑 조회·저장, 완료·실패 기록)
+ * <p>
+ * 다운로드와 업로드는 트랜잭션 밖(ImageImportWorker)에서 수행하고, 여기서는 짧은 트랜잭션으로 상태만 바꾼다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageImportCommandService {
+	private final ImageRepository imageRepository;
+	private final ImageSourceRepository imageSourceRepository;
+	private final ImageImportProperties imageImportProperties;
+
+	// 처리 시각이 된 대기 이미지를 점유 시간 동안 다른 작업자가 가져가지 않도록 표시하고 반환
+	public List<Image> claim() {
+		List<Image> imageList = imageRepository.findImportable(ImageStatus.PENDING, LocalDateTime.now(),
+			PageRequest.of(0, imageImportProperties.batchSize()));
+		imageList.forEach(image -> image.claimImport(imageImportProperties.lease()));
+		return imageList;
+	}
+
+	// 이미 가져온 원본 URL 의 저장 결과 (키: 정규화한 원본 URL)
+	@Transactional(readOnly = true)
+	public Map<String, ImageSource> findSources(Collection<String> sourceUrlList) {
+		Map<String, String> sourceUrlByHash = new HashMap<>();
+		sourceUrlList.forEach(sourceUrl -> sourceUrlByHash.put(ImageUtil.hashUrl(sourceUrl), sourceUrl));
+		Map<String, ImageSource> sourceByUrl = new HashMap<>();
+		imageSourceRepository.findAllBySourceUrlHashIn(sourceUrlByHash.keySet())
+			.forEach(source -> sourceByUrl.put(sourceUrlByHash.get(source.getSourceUrlHash()), source));
+		return sourceByUrl;
+	}
+
+	// 새로 가져온 이미지의 원본 URL 매핑 저장 (동시에 같은 URL 을 가져온 경우 먼저 저장된 매핑 유지)
+	public ImageSource saveSource(ImportedImage imported) {
+		ImageSource source = ImageSource.builder()
+			.sourceUrlHash(ImageUtil.hashUrl(imported.sourceUrl()))
+			.sourceUrl(imported.sourceUrl())
+			.contentHash(imported.stored().contentHash())
+			.url(imported.url())
+			.variants(ImageVariants.from(imported.variantUrls()))
+			.build();
+		imageSourceRepository.insertIgnore(source);
+		return source;
+	}
+
+	/**
+	 * 원본 URL 매핑으로 가져오기 완료 (처리 중 삭제되었거나 이미 처리된 이미지는 무시)
+	 * <p>
+	 * 매핑 행을 잠근 뒤 연결하므로 같은 객체를 지우는 이미지 삭제가 진행 중이면 끝날 때까지 기다린다.
+	 * 그 사이 매핑이 지워졌으면 객체도 지워진 것이므로 연결하지 않고 다음 주기에 다시 가져온다.
+	 */
+	public void complete(Long imageId, ImageSource source) {
+		imageRepository.findById(imageId)
+			.filter(Image::isPending)
+			.ifPresent(image -> imageSourceRepository.findBySourceUrlHashForUpdate(source.getSourceUrlHash())
+				.ifPresentOrElse(current -> image.completeImport(current.getUrl(), current.getVariants()), () -> {
+					log.info("[Image] 원본 URL 매핑이 삭제되어 다시 가져옴: imageId = {}, url = {}", imageId,
+						source.getSourceUrl());
+					image.releaseImport();
+				}));
+	}
+
+	public void fail(Long imageId) {
+		imageRepository.findById(imageId)
+			.filter(Image::isPending)
+			.ifPresent(image -> {
+				image.failImport(imageImportProperties.maxAttempts(), imageImportProperties.backoff());
+				log.warn("[Image] 이미지 가져오기 실패: imageId = {}, 시도 = {}, 상태 = {}, 다음 시도 = {}", imageId,
+					image.getImportAttempts(), image.getStatus(), image.getNextImportAt());
+			});
+	}
+}
@@ -2,6 +2,8 @@ package com.adit.backend.domain.image.service.query;
 
 import static com.adit.backend.global.error.GlobalErrorCode.*;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,4 +27,17 @@ public class ImageQueryService {
 		return imageRepository.findById(imageId)
 			.orElseThrow(() -> new ImageException(IMAGE_NOT_FOUND));
 	}
+
+	// 이미지 목록 조회 (가져오기 상태 확인용)
+	public List<Image> getImagesByIds(List<Long> imageIds) {
+		return imageRepository.findAllByIdIn(imageIds);
+	}
+
+	public List<Image> getImagesByUserPlace(Long userPlaceId) {
+		return imageRepository.findAllByUserPlaceId(userPlaceId);
+	}
+
+	public List<Image> getImagesByUserEvent(Long userEventId) {
+		return imageRepository.findAllByUserEventId(userEventId);
+	}
 }
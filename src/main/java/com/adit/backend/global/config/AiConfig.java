@@ -1,21 +1,25 @@
 package com.adit.backend.global.config;
 
 import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.client.advisor.AbstractChatMemoryAdvisor;
-import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
-import org.springframework.ai.chat.memory.ChatMemory;
-import org.springframework.ai.chat.memory.InMemoryChatMemory;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.support.RetryTemplate;
 
+import com.adit.backend.domain.ai.gateway.AiGatewayProperties;
+import com.adit.backend.domain.ai.gateway.GatewayChatModel;
+import com.adit.backend.domain.ai.gateway.MockChatModel;
+import com.adit.backend.domain.ai.gateway.RetryScheduler;
+import com.adit.backend.domain.ai.util.AiMetrics;
 import com.adit.backend.domain.ai.util.LoggingAdvisor;
 
 @Configuration
+@EnableConfigurationProperties(AiGatewayProperties.class)
 public class AiConfig {
 
 	@Value("${spring.ai.openai.api-key}")
@@ -27,32 +31,51 @@ public class AiConfig {
 	@Value("${spring.ai.openai.chat.options.max-tokens}")
 	private int maxCompletionToken;
 
-	@Bean
-	ChatMemory chatMemory() {
-		return new InMemoryChatMemory();
-	}
-
 	/**
 	 * Chat Client dependency injection.
+	 * <p>
+	 * 요약 호출은 요청마다 독립적이므로 대화 기록(ChatMemory)을 붙이지 않는다. 공유 대화 기록을 붙이면 다른 사용자의
+	 * 프롬프트·응답이 섞이고, PromptPacker 가 계산한 토큰 예산 밖의 메시지가 프롬프트에 더해진다.
 	 *
 	 * @return the chat client
 	 */
 	@Bean
-	public ChatClient chatClient() {
-		ChatModel chatModel = new OpenAiChatModel(new OpenAiApi(apiKey),
-			OpenAiChatOptions.builder()
-				.model(defaultModel)
-				.maxCompletionTokens(maxCompletionToken)
-				.build());
+	public ChatClient chatClient(AiGatewayProperties gatewayProperties, RetryScheduler aiRetryScheduler,
+		AiMetrics aiMetrics) {
+		ChatModel chatModel = new GatewayChatModel(providerChatModel(gatewayProperties), gatewayProperties,
+			aiRetryScheduler, maxCompletionToken);
 
 		return ChatClient
 			.builder(chatModel)
-			.defaultAdvisors(
-				new MessageChatMemoryAdvisor(chatMemory(),
-					AbstractChatMemoryAdvisor.DEFAULT_CHAT_MEMORY_CONVERSATION_ID, 10),
-				new LoggingAdvisor()
-			)
+			.defaultAdvisors(new LoggingAdvisor(aiMetrics))
+			.build();
+	}
+
+	/**
+	 * 블로킹 요약 호출의 재시도 예약 (429/5xx 시 작업 스레드를 재우지 않고 백오프 후 다시 제출)
+	 */
+	@Bean
+	public RetryScheduler aiRetryScheduler(AiGatewayProperties gatewayProperties) {
+		return new RetryScheduler(gatewayProperties);
+	}
+
+	/**
+	 * 실제 제공자 모델. 재시도는 게이트웨이가 담당하므로 Spring AI 기본 재시도(최대 10회)는 끄고,
+	 * 스트리밍 응답에도 토큰 사용량이 포함되도록 streamUsage 를 켠다
+	 */
+	private ChatModel providerChatModel(AiGatewayProperties gatewayProperties) {
+		if (gatewayProperties.mock().enabled()) {
+			return new MockChatModel(gatewayProperties.mock());
+		}
+		return OpenAiChatModel.builder()
+			.openAiApi(new OpenAiApi(apiKey))
+			.defaultOptions(OpenAiChatOptions.builder()
+				.model(defaultModel)
+				.maxCompletionTokens(maxCompletionToken)
+				.streamUsage(true)
+				.build())
+			.retryTemplate(RetryTemplate.builder().maxAttempts(1).build())
 			.build();
 	}
 
-}
\ No newline at end of file
+}
@@ -3,24 +3,57 @@ package com.adit.backend.global.config;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.adit.backend.infra.s3.image.ImageProcessingProperties;
+
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 비동기 실행기 설정
+ * <p>
+ * spring.threads.virtual.enabled=true 이고 Java 21 이상에서 실행되면 Tomcat 요청 처리와 함께
+ * 아래 실행기들도 가상 스레드로 동작하며, 실행기별 동시 실행 수는 세마포어로 제한한다. 대기 작업 수와 초과 시
+ * 처리(호출 스레드에서 실행 또는 거절)는 플랫폼 스레드 풀과 같다. 그 외에는 기존 플랫폼 스레드 풀을 사용한다.
+ */
 @Configuration
 @EnableAsync
 @Slf4j
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
+
+	private static final long TERMINATION_TIMEOUT_MILLIS = 60_000;
+	private static final int CRAWLING_QUEUE_CAPACITY = 500;
+	private static final int AI_QUEUE_CAPACITY = 100;
+	private static final int IMAGE_UPLOAD_QUEUE_CAPACITY = 50;
+
+	private final Environment environment;
+
+	@Value("${async.virtual.crawling-concurrency:50}")
+	private int crawlingConcurrency;
+
+	@Value("${async.virtual.ai-concurrency:20}")
+	private int aiConcurrency;
+
+	@Value("${async.virtual.image-upload-concurrency:40}")
+	private int imageUploadConcurrency;
+
 	@Bean(name = "crawlingTaskExecutor")
-	public ThreadPoolTaskExecutor crawlingTaskExecutor() {
+	public Executor crawlingTaskExecutor() {
+		if (isVirtualThreadsEnabled()) {
+			return virtualThreadExecutor("crawler-", crawlingConcurrency, CRAWLING_QUEUE_CAPACITY, true);
+		}
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 		executor.setCorePoolSize(5);  // 기본 실행 대기 스레드 수
 		executor.setMaxPoolSize(10);  // 동시 동작하는 최대 스레드 수
-		executor.setQueueCapacity(500); // ThreadPool Queue 크기
+		executor.setQueueCapacity(CRAWLING_QUEUE_CAPACITY); // ThreadPool Queue 크기
 		executor.setThreadNamePrefix("crawler-");
 		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy()); // 초과 요청에 대한 정책
 		executor.setWaitForTasksToCompleteOnShutdown(true); // 시스템 종료 시 진행 중인 작업 완료 대기
@@ -29,14 +62,76 @@ public class AsyncConfig implements AsyncConfigurer {
 		return executor;
 	}
 
+	@Bean(name = "aiTaskExecutor")
+	public Executor aiTaskExecutor() {
+		return aiTaskExecutor(isVirtualThreadsEnabled());
+	}
+
+	Executor aiTaskExecutor(boolean virtualThreads) {
+		if (virtualThreads) {
+			return virtualThreadExecutor("ai-", aiConcurrency, AI_QUEUE_CAPACITY, false);
+		}
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(10); // 기본 실행 대기 스레드 수
+		executor.setMaxPoolSize(20); // 동시에 진행되는 최대 AI 호출 수
+		executor.setQueueCapacity(AI_QUEUE_CAPACITY); // 대기 중인 AI 요청 큐 크기
+		executor.setThreadNamePrefix("ai-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy()); // 초과 요청은 즉시 거절
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		executor.initialize();
+		return executor;
+	}
+
 	@Bean(name = "imageUploadExecutor")
 	public Executor imageUploadExecutor() {
+		if (isVirtualThreadsEnabled()) {
+			return virtualThreadExecutor("ImageUploadExecutor-", imageUploadConcurrency, IMAGE_UPLOAD_QUEUE_CAPACITY,
+				false);
+		}
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 		executor.setCorePoolSize(10); // 기본적으로 실행할 스레드 수
 		executor.setMaxPoolSize(20); // 최대 스레드 수
-		executor.setQueueCapacity(50); // 대기 중인 작업 큐의 크기
+		executor.setQueueCapacity(IMAGE_UPLOAD_QUEUE_CAPACITY); // 대기 중인 작업 큐의 크기
 		executor.setThreadNamePrefix("ImageUploadExecutor-"); // 스레드 이름 접두사
 		executor.initialize();
 		return executor;
 	}
+
+	/**
+	 * 이미지 크기 변환 전용 실행기. CPU 작업이므로 가상 스레드 설정과 무관하게 코어 수 기준 고정 크기 풀을 사용하며,
+	 * 대기열이 넘치면 요청한 스레드에서 직접 변환해 작업이 쌓이지 않도록 한다.
+	 */
+	@Bean(name = "imageProcessingExecutor")
+	public Executor imageProcessingExecutor(ImageProcessingProperties properties) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(properties.effectiveConcurrency());
+		executor.setMaxPoolSize(properties.effectiveConcurrency());
+		executor.setQueueCapacity(properties.queueCapacity());
+		executor.setThreadNamePrefix("ImageProcessingExecutor-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * spring.threads.virtual.enabled 가 켜져 있고 Java 21 이상에서 실행 중인지 (스프링 부트의 가상 스레드 사용 조건과 동일)
+	 */
+	private boolean isVirtualThreadsEnabled() {
+		return environment.getProperty("spring.threads.virtual.enabled", boolean.class, false)
+			&& Runtime.version().feature() >= 21;
+	}
+
+	/**
+	 * 작업마다 가상 스레드를 생성하고, 동시에 실행되는 작업 수와 대기 작업 수를 제한한다.
+	 * 허용량을 넘는 작업은 가상 스레드에서 대기하고, 대기 작업 수까지 넘으면 제출 시점에 거절한다.
+	 */
+	private Executor virtualThreadExecutor(String threadNamePrefix, int concurrency, int queueCapacity,
+		boolean callerRunsWhenFull) {
+		log.info("[Async] 가상 스레드 실행기 사용: {} (동시 실행 {}, 대기 {})", threadNamePrefix, concurrency, queueCapacity);
+		return new BoundedVirtualThreadExecutor(threadNamePrefix, concurrency, queueCapacity, callerRunsWhenFull,
+			TERMINATION_TIMEOUT_MILLIS);
+	}
 }
@@ -0,0 +1,68 @@
+package com.adit.backend.global.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * 작업마다 가상 스레드를 만드는 실행기 (동시 실행 수와 대기 작업 수를 함께 제한)
+ * <p>
+ * 실행 중인 작업은 concurrency 개까지이고, 나머지는 가상 스레드에서 대기한다. 실행 중·대기 중인 작업이
+ * concurrency + queueCapacity 에 이르면 제출 시점에 거절하며, 거절은 플랫폼 스레드 풀의 거절 정책과 같게
+ * 처리한다 (callerRunsWhenFull 이면 호출 스레드에서 실행, 아니면 RejectedExecutionException).
+ * Java 21 미만에서는 가상 스레드 대신 작업마다 플랫폼 스레드를 만든다.
+ */
+final class BoundedVirtualThreadExecutor implements Executor, AutoCloseable {
+
+	private final SimpleAsyncTaskExecutor delegate;
+	private final Semaphore running;
+	private final Semaphore admitted;
+	private final String threadNamePrefix;
+	private final boolean callerRunsWhenFull;
+
+	BoundedVirtualThreadExecutor(String threadNamePrefix, int concurrency, int queueCapacity,
+		boolean callerRunsWhenFull, long terminationTimeoutMillis) {
+		this.delegate = new SimpleAsyncTaskExecutor(threadNamePrefix);
+		this.delegate.setVirtualThreads(Runtime.version().feature() >= 21);
+		this.delegate.setTaskTerminationTimeout(terminationTimeoutMillis);
+		this.running = new Semaphore(concurrency);
+		this.admitted = new Semaphore(concurrency + queueCapacity);
+		this.threadNamePrefix = threadNamePrefix;
+		this.callerRunsWhenFull = callerRunsWhenFull;
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		if (!admitted.tryAcquire()) {
+			if (callerRunsWhenFull) {
+				task.run();
+				return;
+			}
+			throw new RejectedExecutionException("[Async] 대기 작업 수 초과: " + threadNamePrefix);
+		}
+		try {
+			delegate.execute(() -> {
+				try {
+					running.acquireUninterruptibly();
+					try {
+						task.run();
+					} finally {
+						running.release();
+					}
+				} finally {
+					admitted.release();
+				}
+			});
+		} catch (RuntimeException e) {
+			admitted.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+}
@@ -0,0 +1,29 @@
+package com.adit.backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.adit.backend.infra.crawler.apify.ApifyProperties;
+import com.adit.backend.infra.crawler.cache.CrawlCacheProperties;
+import com.adit.backend.infra.crawler.http.CrawlerHttpProperties;
+import com.adit.backend.infra.crawler.http.CrawlerStreamProperties;
+import com.adit.backend.infra.crawler.util.TextChunker;
+
+@Configuration
+@EnableConfigurationProperties({CrawlerHttpProperties.class, CrawlerStreamProperties.class, CrawlCacheProperties.class,
+	ApifyProperties.class})
+public class CrawlerConfig {
+
+	@Value("${crawler.chunk.size:500}")
+	private int chunkSize;
+
+	/**
+	 * 크롤링 본문 청크 분할기
+	 */
+	@Bean
+	public TextChunker textChunker() {
+		return TextChunker.of(chunkSize);
+	}
+}
@@ -0,0 +1,16 @@
+package com.adit.backend.global.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.adit.backend.domain.image.importer.ImageImportProperties;
+
+/**
+ * 원격 이미지 지연 가져오기 설정 (ImageImportWorker 주기 실행)
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ImageImportProperties.class)
+public class ImageImportConfig {
+}
@@ -1,18 +1,32 @@
 package com.adit.backend.global.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
+import com.adit.backend.infra.s3.image.ImageProcessingProperties;
+import com.adit.backend.infra.s3.image.ImageResizer;
+import com.adit.backend.infra.s3.upload.PresignedUploadProperties;
+import com.adit.backend.infra.s3.upload.PresignedUploader;
+import com.adit.backend.infra.s3.upload.S3UploadProperties;
+import com.adit.backend.infra.s3.upload.StreamingS3Uploader;
+import com.adit.backend.infra.s3.upload.UploadBufferPool;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties({S3UploadProperties.class, ImageProcessingProperties.class,
+    PresignedUploadProperties.class})
 public class S3Config {
     @Value("${cloud.aws.credentials.access-key}") // application.yml 에 명시한 내용
     private String accessKey;
@@ -23,6 +37,13 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // 로컬 MinIO 등 S3 호환 스토리지 주소 (비어 있으면 AWS)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
     /**
      *
      * Amazon S3 클라이언트 객체를 생성하고 구성하는 빈을 정의한다.
@@ -32,9 +53,49 @@ public class S3Config {
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials awsCreds = new BasicAWSCredentials(accessKey, secretKey);
-        return (AmazonS3Client) AmazonS3ClientBuilder.standard()
-            .withRegion(region)
-            .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
-            .build();
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+            .withCredentials(new AWSStaticCredentialsProvider(awsCreds));
+        if (StringUtils.hasText(endpoint)) {
+            log.info("[S3] S3 호환 엔드포인트 사용: {}", endpoint);
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                .withPathStyleAccessEnabled(true);
+        } else {
+            builder.withRegion(region);
+        }
+        return (AmazonS3Client) builder.build();
+    }
+
+    /**
+     * 원격 이미지 스트리밍 업로드 버퍼 풀. 모든 업로드가 공유하며 사용량은 s3.upload.buffer.* 게이지로 노출한다.
+     */
+    @Bean
+    public UploadBufferPool uploadBufferPool(S3UploadProperties properties, MeterRegistry meterRegistry) {
+        UploadBufferPool pool = new UploadBufferPool((int) properties.chunkSize().toBytes(), properties.maxChunks());
+        Gauge.builder("s3.upload.buffer.in.use", pool, UploadBufferPool::inUse)
+            .description("사용 중인 업로드 버퍼 조각 수")
+            .register(meterRegistry);
+        Gauge.builder("s3.upload.buffer.max", pool, UploadBufferPool::maxChunks)
+            .description("업로드 버퍼 조각 상한")
+            .register(meterRegistry);
+        return pool;
+    }
+
+    @Bean
+    public StreamingS3Uploader streamingS3Uploader(AmazonS3Client amazonS3Client, S3UploadProperties properties,
+        UploadBufferPool uploadBufferPool) {
+        return new StreamingS3Uploader(amazonS3Client, bucket, properties, uploadBufferPool);
+    }
+
+    /**
+     * 클라이언트 직접 업로드. 엔드포인트를 지정하면 presigned URL 도 그 주소(로컬 MinIO 등)로 발급된다.
+     */
+    @Bean
+    public PresignedUploader presignedUploader(AmazonS3Client amazonS3Client, PresignedUploadProperties properties) {
+        return new PresignedUploader(amazonS3Client, bucket, properties);
+    }
+
+    @Bean
+    public ImageResizer imageResizer(ImageProcessingProperties properties) {
+        return new ImageResizer(properties);
     }
 }
\ No newline at end of file
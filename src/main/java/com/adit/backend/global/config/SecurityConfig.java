@@ -18,6 +18,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.filter.CorsFilter;
 
+import com.adit.backend.domain.user.enums.Role;
 import com.adit.backend.global.security.jwt.filter.JwtAuthorizationFilter;
 import com.adit.backend.global.security.jwt.filter.TokenExceptionFilter;
 import com.adit.backend.global.security.jwt.handler.CustomAccessDeniedHandler;
@@ -50,6 +51,11 @@ public class SecurityConfig {
 		"/webjars/**",
 		"/api/scraper/**",
 		"/oauth2/**",
+		"/actuator/health",
+	};
+	// 메트릭에는 내부 동작 정보(호출량, 토큰 사용량, 플랫폼별 지연 등)가 담기므로 관리자 토큰으로만 수집
+	private static final String[] ADMIN_LIST = {
+		"/actuator/prometheus",
 	};
 	private final CorsFilter corsFilter;
 	private final CustomOAuth2UserService customOAuth2UserService;
@@ -114,6 +120,7 @@ public class SecurityConfig {
 			.authorizeHttpRequests(request -> request
 				.requestMatchers(CorsUtils::isPreFlightRequest).permitAll()
 				.requestMatchers(WHITE_LIST).permitAll()
+				.requestMatchers(ADMIN_LIST).hasRole(Role.ADMIN.name())
 				.anyRequest().authenticated()
 			)
 
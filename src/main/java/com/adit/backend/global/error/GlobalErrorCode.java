@@ -89,6 +89,9 @@ public enum GlobalErrorCode implements ErrorCode {
 	INSTAGRAM_DATASET_NOT_FOUND(NOT_FOUND, "CRW-017", "인스타그램 데이터셋을 찾을 수 없습니다"),
 	INSTAGRAM_CONTENT_EMPTY(MULTI_STATUS, "CRW-018", "인스타그램 컨텐츠가 비어있습니다"),
 	INSTAGRAM_IMAGE_NOT_FOUND(NOT_FOUND, "CRW-019", "인스타그램 이미지를 찾을 수 없습니다"),
+	INSTAGRAM_JOB_LIMIT_EXCEEDED(SERVICE_UNAVAILABLE, "CRW-020", "진행 중인 인스타그램 크롤링 작업이 너무 많습니다"),
+	INSTAGRAM_JOB_TIMEOUT(GATEWAY_TIMEOUT, "CRW-021", "인스타그램 크롤링 작업 시간이 초과되었습니다"),
+	INSTAGRAM_JOB_FAILED(BAD_GATEWAY, "CRW-022", "인스타그램 크롤링 작업이 실패했습니다"),
 
 	/********************************** Scraper Domain **********************************/
 	SCRAPER_API_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SCR-001", "API 호출을 실패했습니다"),
@@ -106,6 +109,9 @@ public enum GlobalErrorCode implements ErrorCode {
 	AI_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI-001", "AI 처리에 실패했습니다."),
 	AI_RESPONSE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI-002", "AI 응답 변환에 실패했습니다."),
 	EXCEEDING_TOKEN_USAGE(HttpStatus.INTERNAL_SERVER_ERROR,"AI-003" , "토큰 사용량을 초과했습니다."),
+	AI_SERVER_BUSY(SERVICE_UNAVAILABLE, "AI-004", "AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+	PROMPT_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "AI-005", "프롬프트 템플릿을 찾을 수 없습니다."),
+	AI_PROVIDER_UNAVAILABLE(SERVICE_UNAVAILABLE, "AI-006", "AI 서비스에 일시적으로 연결할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
 	/********************************** Event Domain **********************************/
 	EVENT_NOT_FOUND(NOT_FOUND, "EVN-001", "이벤트를 찾을 수 없습니다."),
@@ -126,7 +132,9 @@ public enum GlobalErrorCode implements ErrorCode {
 	S3_INVALID_FILE(HttpStatus.BAD_REQUEST, "S3-002", "잘못된 형식의 파일입니다."),
 	S3_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S3-003", "S3 파일 삭제에 실패했습니다."),
 	S3_UPDATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S3-004", "이미지 업데이트에 실패했습니다."),
-	S3_IMAGE_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR,"S3-005", "이벤트 삭제 중 이미지 삭제 실패.");
+	S3_IMAGE_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR,"S3-005", "이벤트 삭제 중 이미지 삭제 실패."),
+	S3_UPLOAD_NOT_FOUND(NOT_FOUND, "S3-006", "업로드된 파일을 찾을 수 없습니다."),
+	S3_UPLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "S3-007", "업로드 가능한 파일 크기를 초과했습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
@@ -4,6 +4,9 @@ import java.io.File;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.UUID;
 
 import lombok.extern.slf4j.Slf4j;
@@ -74,6 +77,10 @@ public class ImageUtil {
 						return ".png";
 					case "image/gif":
 						return ".gif";
+					case "image/webp":
+						return ".webp";
+					case "image/heic":
+						return ".heic";
 					// 필요한 경우 추가 MIME 타입 처리
 					default:
 						log.warn("[S3] 인식되지 않은 MIME 타입: {}. 기본 확장자(.jpg)를 사용합니다.", contentType);
@@ -89,4 +96,24 @@ public class ImageUtil {
 	public static String createFileName(String originalFileName, String dirName, String contentType) {
 		return dirName + "/" + UUID.randomUUID() + getFileExtension(originalFileName, contentType);
 	}
-}
\ No newline at end of file
+
+	// 본문 해시만으로 키를 정해 URL·확장자가 달라도 같은 이미지는 같은 객체를 가리키도록 함
+	public static String createContentFileName(String dirName, String contentHash) {
+		return dirName + "/" + contentHash;
+	}
+
+	// 크기별 변환 이미지 키 (원본 키 옆에 저장)
+	public static String createVariantFileName(String fileName, String variantSuffix) {
+		return fileName + "_" + variantSuffix + ".jpg";
+	}
+
+	// 정규화한 원본 URL 의 SHA-256 (16진수)
+	public static String hashUrl(String normalizedUrl) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(normalizedUrl.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -1,5 +1,9 @@
 package com.adit.backend.global.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.UUID;
 
 public final class KeyGenerator {
@@ -7,4 +11,19 @@ public final class KeyGenerator {
 	public static String generateKey() {
 		return UUID.randomUUID().toString().replace("-", "");
 	}
+
+	/**
+	 * 캐시 키 등에 사용할 SHA-256 16진수 문자열
+	 */
+	public static String sha256Hex(String value) {
+		return sha256Hex(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static String sha256Hex(byte[] value) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
 }
@@ -0,0 +1,326 @@
+package com.adit.backend.infra.crawler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.jsoup.internal.StringUtil;
+import org.jsoup.nodes.CDataNode;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.Collector;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
+import org.jsoup.select.QueryParser;
+
+/**
+ * 한 번의 DOM 순회로 제목, 본문, 이미지, 장소 정보를 함께 추출
+ * <p>
+ * 선택자마다 문서를 다시 순회하고(select) 요소마다 다시 text() 를 호출하던 방식 대신, 문서를 한 번만 방문하면서
+ * 제목·본문 블록·장소 요소 안의 텍스트를 Element.text() 와 같은 공백 규칙으로 빌더에 바로 이어 붙인다.
+ * 본문 영역의 불필요 요소(스크립트, 댓글, 추천 목록 등)는 DOM 에서 제거하지 않고 건너뛰며,
+ * 블록 선택자가 중첩되어 일치하면 가장 바깥 요소만 블록으로 취급하여 같은 문장이 반복되지 않도록 한다.
+ */
+public final class SinglePassExtractor {
+
+	private static final String PLACE_TAG = "a.place, a.se-map-info.__se_link, div.se-map-info.__se_link";
+	private static final String UNNECESSARY_TAGS = "script, style, button, input, textarea, "
+		+ "div.another_category, dic.category, div.recommend_list, div.profile, div#postListBottom, div.wrap_postcomment, "
+		+ "div.item_type_opengraph, div.lnb,div.search, div.search-tab-all div.inner50";
+	static final Evaluator PLACE = QueryParser.parse(PLACE_TAG);
+	static final Evaluator UNNECESSARY = QueryParser.parse(UNNECESSARY_TAGS);
+	static final String IMAGE_TAG = "img";
+	private static final String IMAGE_TYPE_PARAM = "?type=";
+	private static final String IMAGE_SIZE_SUFFIX = "?type=w966";
+	private static final int PRESERVE_WHITESPACE_DEPTH = 6;
+	/**
+	 * 구조 선택자(하위 선택자 등)가 스레드별로 남기는 일치 결과 메모를 비우기 위한 빈 요소
+	 */
+	private static final Element RESET_ROOT = new Element("div");
+
+	private SinglePassExtractor() {
+	}
+
+	/**
+	 * 플랫폼별 추출 설정
+	 *
+	 * @param title             제목 선택자 (문서 전체 기준)
+	 * @param text              본문 블록 선택자 (본문 요소 기준)
+	 * @param minRecognizedChar 이 길이 이하인 본문 블록은 버림
+	 * @param collectPlaces     장소 정보 수집 여부
+	 */
+	public record Plan(Evaluator title, Evaluator text, int minRecognizedChar, boolean collectPlaces) {
+	}
+
+	/**
+	 * 추출 결과 (본문은 호출자가 넘긴 빌더에 담김)
+	 *
+	 * @param title         제목 (여러 요소가 일치하면 공백으로 연결)
+	 * @param placeInfo     장소 정보 (요소마다 한 줄)
+	 * @param imageSrcList  이미지 영역 안의 고해상도 이미지 URL
+	 */
+	public record Page(String title, String placeInfo, List<String> imageSrcList) {
+	}
+
+	/**
+	 * @param document    대상 문서
+	 * @param mainContent 본문 블록을 추출할 요소 (null 이면 본문 없음)
+	 * @param imageRoots  이미지를 수집할 요소들
+	 * @param plan        플랫폼별 추출 설정
+	 * @param body        본문 블록을 이어 붙일 빌더 (블록마다 줄바꿈)
+	 */
+	public static Page extract(Document document, Element mainContent, List<Element> imageRoots, Plan plan,
+		StringBuilder body) {
+		Visitor visitor = new Visitor(document, mainContent, imageRoots, plan, body);
+		try {
+			NodeTraversor.traverse(visitor, document);
+		} finally {
+			resetMemo(plan.title(), plan.text(), PLACE, UNNECESSARY);
+		}
+		return visitor.page();
+	}
+
+	/**
+	 * 이미지 요소의 고해상도 URL (지연 로딩 속성 우선, 크기 파라미터는 w966 으로 통일). 없으면 빈 문자열
+	 */
+	public static String imageSrcOf(Element img) {
+		String highResUrl = img.attr("data-lazy-src");
+		if (highResUrl.isEmpty()) {
+			highResUrl = img.attr("data-origin");
+		}
+		if (highResUrl.isEmpty()) {
+			highResUrl = img.attr("src");
+		}
+		int typeIndex = highResUrl.indexOf(IMAGE_TYPE_PARAM);
+		if (typeIndex >= 0) {
+			highResUrl = highResUrl.substring(0, typeIndex);
+		}
+		return highResUrl.isEmpty() ? highResUrl : highResUrl + IMAGE_SIZE_SUFFIX;
+	}
+
+	/**
+	 * Evaluator.matches 를 직접 호출하면 select 와 달리 메모가 초기화되지 않으므로, 순회가 끝나면 Collector 를 거쳐 비운다
+	 */
+	static void resetMemo(Evaluator... evaluators) {
+		for (Evaluator evaluator : evaluators) {
+			Collector.findFirst(evaluator, RESET_ROOT);
+		}
+	}
+
+	private static final class Visitor implements NodeVisitor {
+
+		private final Document document;
+		private final Element mainContent;
+		private final Set<Element> imageRoots = Collections.newSetFromMap(new IdentityHashMap<>());
+		private final Plan plan;
+		private final StringBuilder titleBuilder = new StringBuilder();
+		private final StringBuilder placeBuilder = new StringBuilder();
+		private final TextBlock title;
+		private final TextBlock text;
+		private final TextBlock place;
+		private final List<String> imageSrcList = new ArrayList<>();
+		private boolean insideMain;
+		private Element skipped;
+		private int imageRootDepth;
+
+		private Visitor(Document document, Element mainContent, List<Element> imageRoots, Plan plan,
+			StringBuilder body) {
+			this.document = document;
+			this.mainContent = mainContent;
+			this.imageRoots.addAll(imageRoots);
+			this.plan = plan;
+			this.title = new TextBlock(titleBuilder, -1, false, true);
+			this.text = new TextBlock(body, plan.minRecognizedChar(), true, false);
+			this.place = new TextBlock(placeBuilder, 0, true, false);
+		}
+
+		@Override
+		public void head(Node node, int depth) {
+			if (node instanceof TextNode textNode) {
+				title.append(textNode);
+				if (skipped == null) {
+					text.append(textNode);
+					place.append(textNode);
+				}
+				return;
+			}
+			if (!(node instanceof Element element)) {
+				return;
+			}
+			if (element == mainContent) {
+				insideMain = true;
+			}
+			if (insideMain && skipped == null && UNNECESSARY.matches(mainContent, element)) {
+				skipped = element;
+			}
+			if (imageRoots.contains(element)) {
+				imageRootDepth++;
+			}
+
+			title.head(element);
+			if (!title.isActive() && plan.title().matches(document, element)) {
+				title.start(element);
+			}
+			if (skipped != null) {
+				return;
+			}
+			text.head(element);
+			place.head(element);
+			if (insideMain && !text.isActive() && plan.text().matches(mainContent, element)) {
+				text.start(element);
+			}
+			if (plan.collectPlaces() && !place.isActive() && PLACE.matches(document, element)) {
+				place.start(element);
+			}
+			if (imageRootDepth > 0 && IMAGE_TAG.equals(element.normalName())) {
+				String src = imageSrcOf(element);
+				if (!src.isEmpty()) {
+					imageSrcList.add(src);
+				}
+			}
+		}
+
+		@Override
+		public void tail(Node node, int depth) {
+			if (!(node instanceof Element element)) {
+				return;
+			}
+			title.tail(element);
+			title.end(element);
+			if (skipped == null) {
+				text.tail(element);
+				place.tail(element);
+			}
+			text.end(element);
+			place.end(element);
+			if (element == skipped) {
+				skipped = null;
+			}
+			if (imageRoots.contains(element)) {
+				imageRootDepth--;
+			}
+			if (element == mainContent) {
+				insideMain = false;
+			}
+		}
+
+		private Page page() {
+			return new Page(titleBuilder.toString().trim(), placeBuilder.toString().trim(), imageSrcList);
+		}
+	}
+
+	/**
+	 * 하나의 블록 요소 텍스트를 Element.text() 규칙(공백 정규화, 블록·br 경계에 공백)으로 빌더에 누적
+	 */
+	private static final class TextBlock {
+
+		private final StringBuilder builder;
+		private final int minLength;
+		private final boolean newLine;
+		private final boolean spaceSeparated;
+		private Element owner;
+		private int start;
+
+		/**
+		 * @param minLength      이 길이 이하인 블록은 버림 (-1 이면 항상 유지)
+		 * @param newLine        유지한 블록 뒤에 줄바꿈 추가
+		 * @param spaceSeparated 앞 블록이 있으면 공백으로 구분 (Elements.text() 와 동일)
+		 */
+		private TextBlock(StringBuilder builder, int minLength, boolean newLine, boolean spaceSeparated) {
+			this.builder = builder;
+			this.minLength = minLength;
+			this.newLine = newLine;
+			this.spaceSeparated = spaceSeparated;
+		}
+
+		private boolean isActive() {
+			return owner != null;
+		}
+
+		private void start(Element element) {
+			if (spaceSeparated && !builder.isEmpty()) {
+				builder.append(' ');
+			}
+			owner = element;
+			start = builder.length();
+		}
+
+		private void append(TextNode textNode) {
+			if (owner == null) {
+				return;
+			}
+			String wholeText = textNode.getWholeText();
+			if (textNode instanceof CDataNode || preserveWhitespace(textNode.parent())) {
+				builder.append(wholeText);
+			} else {
+				StringUtil.appendNormalisedWhitespace(builder, wholeText, lastIsWhitespace());
+			}
+		}
+
+		private void head(Element element) {
+			if (owner != null && builder.length() > start && (element.isBlock() || "br".equals(element.normalName()))
+				&& !lastIsWhitespace()) {
+				builder.append(' ');
+			}
+		}
+
+		private void tail(Element element) {
+			if (owner == null || !element.isBlock() || lastIsWhitespace()) {
+				return;
+			}
+			Node next = element.nextSibling();
+			if (next instanceof TextNode || next instanceof Element nextElement && !nextElement.tag().formatAsBlock()) {
+				builder.append(' ');
+			}
+		}
+
+		/**
+		 * 블록 소유 요소가 끝나면 앞뒤 공백을 제거하고 길이 조건에 맞지 않으면 버린다
+		 */
+		private void end(Element element) {
+			if (owner != element) {
+				return;
+			}
+			owner = null;
+			int from = start;
+			while (from < builder.length() && builder.charAt(from) <= ' ') {
+				from++;
+			}
+			if (from > start) {
+				builder.delete(start, from);
+			}
+			int to = builder.length();
+			while (to > start && builder.charAt(to - 1) <= ' ') {
+				to--;
+			}
+			builder.setLength(to);
+			if (to - start > minLength) {
+				if (newLine) {
+					builder.append('\n');
+				}
+			} else {
+				builder.setLength(start);
+			}
+		}
+
+		private boolean lastIsWhitespace() {
+			return builder.length() == start || builder.charAt(builder.length() - 1) == ' ';
+		}
+
+		private static boolean preserveWhitespace(Node node) {
+			Element element = node instanceof Element parent ? parent : null;
+			for (int depth = 0; element != null && depth < PRESERVE_WHITESPACE_DEPTH; depth++) {
+				if (element.tag().preserveWhitespace()) {
+					return true;
+				}
+				element = element.parent();
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,234 @@
+package com.adit.backend.infra.crawler;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.jsoup.select.Evaluator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 문서 전체를 메모리에 올리지 않고 읽는 동안 제목, 본문, 이미지, 장소 정보를 추출
+ * <p>
+ * Jsoup StreamParser 는 요소가 닫히는 시점(자식 -> 부모 순)에 요소를 내보낸다. 본문 블록은 텍스트를 추가한 뒤 빈 요소로 남겨
+ * 조상의 {@code :has()} 판정이 전체 파싱과 같게 유지되도록 하고, 안쪽 블록 표시는 부모로 옮겨 부모 아래 태그별로 하나만 둔다.
+ * 닫힌 요소 중 본문 블록이 될 수 있는 조상이 없는 요소(목록, 표, 사이드바 등)와 이미지·불필요 요소(스크립트, 스타일 등)는
+ * 즉시 DOM 에서 제거하므로 트리에는 아직 닫히지 않은 조상과 블록이 될 수 있는 조상 안의 텍스트만 남는다.
+ * 본문과 남겨 둔 텍스트의 합이 maxTextLength 에 도달하면 나머지 문서는 읽지 않는다.
+ * <p>
+ * {@link SinglePassExtractor} 와 달리 안쪽 블록이 먼저 처리되므로, 블록을 감싼 요소의 나머지 텍스트는 안쪽 블록 뒤에 이어진다.
+ */
+@Slf4j
+public final class StreamingExtractor {
+
+	private static final String HEAD_TAG = "head";
+
+	private StreamingExtractor() {
+	}
+
+	/**
+	 * @param reader        문서 문자 스트림
+	 * @param baseUri       상대 URL 기준 주소
+	 * @param plan          추출 설정 (본문 블록 선택자는 문서 기준으로 평가)
+	 * @param imageRoot     이미지를 수집할 영역 선택자
+	 * @param maxTextLength 본문이 이 길이에 도달하면 읽기 중단
+	 * @param body          본문 블록을 이어 붙일 빌더 (블록마다 줄바꿈)
+	 */
+	public static SinglePassExtractor.Page extract(Reader reader, String baseUri, SinglePassExtractor.Plan plan,
+		Evaluator imageRoot, int maxTextLength, StringBuilder body) throws IOException {
+		StringBuilder titleBuilder = new StringBuilder();
+		StringBuilder placeBuilder = new StringBuilder();
+		List<String> imageSrcList = new ArrayList<>();
+		try (StreamParser parser = new StreamParser(Parser.htmlParser()).parse(reader, baseUri)) {
+			Document document = parser.document();
+			PendingTree tree = new PendingTree();
+			Iterator<Element> elements = parser.iterator();
+			while (elements.hasNext()) {
+				Element element = elements.next();
+				if (plan.title().matches(document, element)) {
+					appendTitle(titleBuilder, element.text());
+				}
+				boolean block = plan.text().matches(document, element);
+				if (HEAD_TAG.equals(element.normalName()) || insideAny(document, element, SinglePassExtractor.UNNECESSARY)) {
+					tree.detach(element, block);
+					continue;
+				}
+				if (plan.collectPlaces() && SinglePassExtractor.PLACE.matches(document, element)) {
+					appendLine(placeBuilder, element.text().trim(), 0);
+				}
+				if (SinglePassExtractor.IMAGE_TAG.equals(element.normalName())) {
+					if (insideAny(document, element, imageRoot)) {
+						String src = SinglePassExtractor.imageSrcOf(element);
+						if (!src.isEmpty()) {
+							imageSrcList.add(src);
+						}
+					}
+					tree.detach(element, block);
+					continue;
+				}
+				if (block) {
+					appendLine(body, element.text().trim(), plan.minRecognizedChar());
+					tree.detach(element, true);
+				} else {
+					Element openBlock = outermostOpenBlock(document, element, plan.text());
+					if (openBlock == null) {
+						tree.detach(element, false);
+						continue;
+					}
+					tree.retain(element);
+					if (body.length() + tree.retainedLength() >= maxTextLength) {
+						// 블록이 닫히기 전에 한도에 도달했으므로 지금까지의 블록 텍스트를 본문으로 쓴다
+						appendLine(body, openBlock.text().trim(), plan.minRecognizedChar());
+					}
+				}
+				if (body.length() + tree.retainedLength() >= maxTextLength) {
+					log.debug("[Crawl] 본문 최대 길이 도달, 나머지 문서 읽기 중단: {}", baseUri);
+					parser.stop();
+					break;
+				}
+			}
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} finally {
+			SinglePassExtractor.resetMemo(plan.title(), plan.text(), imageRoot, SinglePassExtractor.PLACE,
+				SinglePassExtractor.UNNECESSARY);
+		}
+		return new SinglePassExtractor.Page(titleBuilder.toString(), placeBuilder.toString().trim(), imageSrcList);
+	}
+
+	private static void appendTitle(StringBuilder titleBuilder, String text) {
+		if (text.isEmpty()) {
+			return;
+		}
+		if (!titleBuilder.isEmpty()) {
+			titleBuilder.append(' ');
+		}
+		titleBuilder.append(text);
+	}
+
+	private static void appendLine(StringBuilder builder, String text, int minLength) {
+		if (text.length() > minLength) {
+			builder.append(text).append('\n');
+		}
+	}
+
+	/**
+	 * 아직 닫히지 않은 조상 중 지금 본문 블록 선택자와 일치하는 가장 바깥 요소 (없으면 null)
+	 * <p>
+	 * {@code :not()} 등은 요소별 일치 결과를 메모하므로, 자식이 더 붙을 조상을 평가한 뒤에는 메모를 비워
+	 * 조상이 닫힐 때 다시 평가되도록 한다.
+	 */
+	private static Element outermostOpenBlock(Document document, Element element, Evaluator text) {
+		Element outermost = null;
+		for (Element current = element.parent(); current != null && current != document; current = current.parent()) {
+			if (text.matches(document, current)) {
+				outermost = current;
+			}
+		}
+		SinglePassExtractor.resetMemo(text);
+		return outermost;
+	}
+
+	/**
+	 * 요소 자신 또는 조상이 선택자와 일치하는지 (닫히지 않은 조상은 속성까지 파싱된 상태)
+	 */
+	private static boolean insideAny(Document document, Element element, Evaluator evaluator) {
+		for (Element current = element; current != null && current != document; current = current.parent()) {
+			if (evaluator.matches(document, current)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 파싱 중인 트리에 남겨 둔 요소 관리 (블록이 될 수 있는 조상 안의 텍스트, 본문 블록 표시)
+	 */
+	private static final class PendingTree {
+
+		private final Set<Element> blockMarks = Collections.newSetFromMap(new IdentityHashMap<>());
+		private final Map<Element, Integer> retained = new IdentityHashMap<>();
+		private int retainedLength;
+
+		/**
+		 * 블록이 될 수 있는 조상 안에서 닫힌 요소를 남기고, 직접 가진 텍스트 길이를 더한다
+		 */
+		private void retain(Element element) {
+			int length = 0;
+			for (TextNode textNode : element.textNodes()) {
+				length += textNode.getWholeText().length();
+			}
+			retained.put(element, length);
+			retainedLength += length;
+		}
+
+		private int retainedLength() {
+			return retainedLength;
+		}
+
+		/**
+		 * 처리가 끝난 요소의 내용을 트리에서 떼어 낸다 (asBlockMark 이면 요소는 빈 본문 블록 표시로 남김)
+		 * <p>
+		 * 안쪽의 본문 블록 표시는 부모로 옮겨 조상의 {@code :has()} 판정이 달라지지 않게 한다.
+		 */
+		private void detach(Element element, boolean asBlockMark) {
+			Element parent = element.parent();
+			List<Element> innerMarks = new ArrayList<>();
+			for (Element descendant : element.getAllElements()) {
+				Integer length = retained.remove(descendant);
+				if (length != null) {
+					retainedLength -= length;
+				}
+				if (descendant != element && blockMarks.remove(descendant)) {
+					innerMarks.add(descendant);
+				}
+			}
+			innerMarks.forEach(Element::remove);
+			if (asBlockMark) {
+				element.empty();
+				blockMarks.add(element);
+			} else {
+				element.remove();
+			}
+			if (parent == null) {
+				return;
+			}
+			if (asBlockMark) {
+				keepOneMark(parent, element);
+			}
+			for (Element mark : innerMarks) {
+				keepOneMark(parent, mark);
+			}
+		}
+
+		/**
+		 * 부모 아래에 같은 태그의 블록 표시가 이미 있으면 mark 를 버리고, 없으면 부모 아래로 옮긴다
+		 */
+		private void keepOneMark(Element parent, Element mark) {
+			for (Element child : parent.children()) {
+				if (child != mark && blockMarks.contains(child) && child.normalName().equals(mark.normalName())) {
+					mark.remove();
+					blockMarks.remove(mark);
+					return;
+				}
+			}
+			if (mark.parent() == null) {
+				parent.appendChild(mark);
+			}
+			blockMarks.add(mark);
+		}
+	}
+}
@@ -0,0 +1,279 @@
+package com.adit.backend.infra.crawler.apify;
+
+import static com.adit.backend.global.error.GlobalErrorCode.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.adit.backend.infra.crawler.exception.CrawlingException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Apify 작업 실행 및 결과 대기
+ * <p>
+ * 작업(run)을 시작한 뒤 상태가 끝날 때까지 스케줄러로 조회를 예약하므로 대기 중에는 스레드를 점유하지 않는다.
+ * SUCCEEDED 가 되면 결과(dataset)를 한 번 가져오고, FAILED·ABORTED·TIMED-OUT 이면 바로 실패한다.
+ * 조회 간격은 지수적으로 늘어나며, 제한 시간을 넘기거나 동시 작업 수 상한에 도달하면 즉시 실패한다.
+ */
+@Slf4j
+@Component
+public class ApifyJobTracker {
+
+	private static final String SUCCEEDED = "SUCCEEDED";
+	private static final Set<String> FAILED_STATUSES = Set.of("FAILED", "ABORTING", "ABORTED", "TIMING-OUT",
+		"TIMED-OUT");
+
+	private final ApifyProperties properties;
+	private final ObjectMapper objectMapper;
+	private final HttpClient httpClient;
+	private final Semaphore jobPermits;
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "apify-poller");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	@Autowired
+	public ApifyJobTracker(ApifyProperties properties, ObjectMapper objectMapper) {
+		this(properties, objectMapper, HttpClient.newBuilder()
+			.connectTimeout(properties.requestTimeout())
+			.followRedirects(HttpClient.Redirect.NORMAL)
+			.build());
+	}
+
+	ApifyJobTracker(ApifyProperties properties, ObjectMapper objectMapper, HttpClient httpClient) {
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+		this.httpClient = httpClient;
+		this.jobPermits = new Semaphore(properties.maxConcurrentJobs());
+	}
+
+	/**
+	 * 대상 URL 에 대한 작업을 실행하고, 결과 데이터가 준비되면 완료되는 Future 반환
+	 */
+	public CompletableFuture<JsonNode> submit(String targetUrl) {
+		if (!jobPermits.tryAcquire()) {
+			log.warn("[Crawl] Instagram 동시 작업 수 초과 ({}): {}", properties.maxConcurrentJobs(), targetUrl);
+			return CompletableFuture.failedFuture(new CrawlingException(INSTAGRAM_JOB_LIMIT_EXCEEDED));
+		}
+		long deadline = System.nanoTime() + properties.timeout().toNanos();
+		CompletableFuture<JsonNode> result;
+		try {
+			result = startTask(targetUrl).thenCompose(run -> waitForOutput(run, deadline));
+		} catch (RuntimeException e) {
+			jobPermits.release();
+			throw e;
+		}
+		// 반환한 Future 가 끝났을 때는 이미 허가가 반환되어 있도록 해제 단계를 돌려준다
+		return result.whenComplete((output, throwable) -> jobPermits.release());
+	}
+
+	private CompletableFuture<Run> startTask(String targetUrl) {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(createStartTaskUrl()))
+			.timeout(properties.requestTimeout())
+			.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+			.POST(HttpRequest.BodyPublishers.ofString(createRequestBody(targetUrl)))
+			.build();
+		return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+			.thenApply(this::extractRun);
+	}
+
+	private Run extractRun(HttpResponse<String> response) {
+		if (response.statusCode() >= 400) {
+			log.error("[Crawl] Instagram 작업 실행 실패: HTTP {}", response.statusCode());
+			throw new CrawlingException(INSTAGRAM_API_CONNECTION_FAILED);
+		}
+		try {
+			JsonNode dataNode = objectMapper.readTree(response.body()).path("data");
+			if (dataNode.isMissingNode() || !dataNode.has("id") || !dataNode.has("defaultDatasetId")) {
+				log.error("[Crawl] Instagram 작업 ID 또는 데이터셋 ID를 찾을 수 없음");
+				throw new CrawlingException(INSTAGRAM_DATASET_NOT_FOUND);
+			}
+			Run run = new Run(dataNode.get("id").asText(), dataNode.get("defaultDatasetId").asText());
+			log.debug("[Crawl] Instagram 작업 시작: run = {}, 데이터셋 = {}", run.id(), run.datasetId());
+			return run;
+		} catch (JsonProcessingException e) {
+			log.error("[Crawl] Instagram 데이터셋 ID 추출 실패: {}", e.getMessage());
+			throw new CrawlingException(INSTAGRAM_PARSING_FAILED);
+		}
+	}
+
+	private CompletableFuture<JsonNode> waitForOutput(Run run, long deadline) {
+		CompletableFuture<JsonNode> result = new CompletableFuture<>();
+		schedulePoll(result, run, 1, properties.pollInterval(), deadline);
+		return result;
+	}
+
+	/**
+	 * delay 후 작업 상태 조회를 예약하고, 아직 끝나지 않았으면 늘어난 간격으로 다시 예약
+	 */
+	private void schedulePoll(CompletableFuture<JsonNode> result, Run run, int attempt, Duration delay,
+		long deadline) {
+		long remaining = deadline - System.nanoTime();
+		if (remaining <= 0) {
+			log.error("[Crawl] Instagram 데이터 대기 시간 초과 (시도: {})", attempt - 1);
+			result.completeExceptionally(new CrawlingException(INSTAGRAM_JOB_TIMEOUT));
+			return;
+		}
+		try {
+			scheduler.schedule(() -> poll(result, run, attempt, delay, deadline),
+				Math.min(delay.toNanos(), remaining), TimeUnit.NANOSECONDS);
+		} catch (RejectedExecutionException e) {
+			result.completeExceptionally(new CrawlingException(INSTAGRAM_API_CONNECTION_FAILED));
+		}
+	}
+
+	private void poll(CompletableFuture<JsonNode> result, Run run, int attempt, Duration delay, long deadline) {
+		if (result.isDone()) {
+			return;
+		}
+		get(createRunUrl(run.id()))
+			.whenComplete((response, throwable) -> {
+				if (result.isDone()) {
+					return;
+				}
+				try {
+					String status = throwable == null ? readRunStatus(response) : null;
+					if (SUCCEEDED.equals(status)) {
+						log.debug("[Crawl] Instagram 작업 완료 (시도: {})", attempt);
+						fetchOutput(result, run);
+						return;
+					}
+					if (FAILED_STATUSES.contains(status)) {
+						log.error("[Crawl] Instagram 작업 실패: run = {}, 상태 = {}", run.id(), status);
+						result.completeExceptionally(new CrawlingException(INSTAGRAM_JOB_FAILED));
+						return;
+					}
+					if (throwable != null) {
+						log.warn("[Crawl] Instagram 작업 상태 조회 실패 (시도: {}): {}", attempt,
+							rootCause(throwable).getMessage());
+					} else {
+						log.debug("[Crawl] Instagram 작업 대기 중... (시도: {}, 상태: {})", attempt, status);
+					}
+					schedulePoll(result, run, attempt + 1, nextDelay(delay), deadline);
+				} catch (CrawlingException e) {
+					result.completeExceptionally(e);
+				} catch (JsonProcessingException e) {
+					log.error("[Crawl] Instagram 작업 상태 파싱 실패: {}", e.getMessage());
+					result.completeExceptionally(new CrawlingException(INSTAGRAM_PARSING_FAILED));
+				}
+			});
+	}
+
+	/**
+	 * 작업 상태 반환 (429/5xx 이면 null 을 반환해 재시도, 그 외 4xx 는 즉시 실패)
+	 */
+	private String readRunStatus(HttpResponse<String> response) throws JsonProcessingException {
+		if (isRetryable(response)) {
+			return null;
+		}
+		return objectMapper.readTree(response.body()).path("data").path("status").asText(null);
+	}
+
+	/**
+	 * 끝난 작업의 결과를 한 번 조회 (비어 있으면 실패)
+	 */
+	private void fetchOutput(CompletableFuture<JsonNode> result, Run run) {
+		get(createOutputUrl(run.datasetId()))
+			.whenComplete((response, throwable) -> {
+				try {
+					if (throwable != null || isRetryable(response)) {
+						throw new CrawlingException(INSTAGRAM_API_CONNECTION_FAILED);
+					}
+					JsonNode output = objectMapper.readTree(response.body());
+					if (!output.isArray() || output.isEmpty()) {
+						log.error("[Crawl] Instagram 작업 결과 없음: 데이터셋 = {}", run.datasetId());
+						throw new CrawlingException(INSTAGRAM_CONTENT_EMPTY);
+					}
+					result.complete(output);
+				} catch (CrawlingException e) {
+					result.completeExceptionally(e);
+				} catch (JsonProcessingException e) {
+					log.error("[Crawl] Instagram 데이터 파싱 실패: {}", e.getMessage());
+					result.completeExceptionally(new CrawlingException(INSTAGRAM_PARSING_FAILED));
+				}
+			});
+	}
+
+	private boolean isRetryable(HttpResponse<String> response) {
+		int status = response.statusCode();
+		if (status == 429 || status >= 500) {
+			log.warn("[Crawl] Instagram 조회 응답 오류: HTTP {}", status);
+			return true;
+		}
+		if (status >= 400) {
+			log.error("[Crawl] Instagram 조회 실패: HTTP {}", status);
+			throw new CrawlingException(INSTAGRAM_API_CONNECTION_FAILED);
+		}
+		return false;
+	}
+
+	private CompletableFuture<HttpResponse<String>> get(String url) {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+			.timeout(properties.requestTimeout())
+			.GET()
+			.build();
+		return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	private Duration nextDelay(Duration delay) {
+		long next = (long)(delay.toMillis() * properties.backoffMultiplier());
+		return Duration.ofMillis(Math.min(next, properties.maxPollInterval().toMillis()));
+	}
+
+	private String createStartTaskUrl() {
+		return String.format("%s?token=%s", properties.baseUrl(), properties.token());
+	}
+
+	private String createRunUrl(String runId) {
+		return String.format("%s/actor-runs/%s?token=%s", properties.outputUrl(), runId, properties.token());
+	}
+
+	private String createOutputUrl(String defaultDatasetId) {
+		return String.format("%s/datasets/%s/items?token=%s", properties.outputUrl(), defaultDatasetId,
+			properties.token());
+	}
+
+	private String createRequestBody(String targetUrl) {
+		try {
+			return objectMapper.writeValueAsString(objectMapper.createObjectNode()
+				.set("directUrls", objectMapper.createArrayNode().add(targetUrl)));
+		} catch (JsonProcessingException e) {
+			throw new CrawlingException(INSTAGRAM_PARSING_FAILED);
+		}
+	}
+
+	private static Throwable rootCause(Throwable throwable) {
+		return throwable instanceof CompletionException && throwable.getCause() != null
+			? throwable.getCause() : throwable;
+	}
+
+	private record Run(String id, String datasetId) {
+	}
+
+	@PreDestroy
+	void shutdown() {
+		scheduler.shutdownNow();
+	}
+}
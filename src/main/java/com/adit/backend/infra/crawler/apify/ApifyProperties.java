@@ -0,0 +1,33 @@
+package com.adit.backend.infra.crawler.apify;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Apify 인스타그램 크롤링 작업 설정 (apify.*)
+ *
+ * @param token             API 요청 토큰
+ * @param baseUrl           작업 실행 API URL
+ * @param outputUrl         작업 결과(dataset) 조회 API 기본 URL
+ * @param pollInterval      첫 결과 조회 간격 (숫자만 지정하면 밀리초)
+ * @param maxPollInterval   결과 조회 간격 상한
+ * @param backoffMultiplier 조회할 때마다 간격에 곱하는 배수
+ * @param timeout           작업 시작부터 결과 수신까지의 제한 시간
+ * @param requestTimeout    개별 HTTP 요청 제한 시간
+ * @param maxConcurrentJobs 동시에 추적하는 최대 작업 수
+ */
+@ConfigurationProperties(prefix = "apify")
+public record ApifyProperties(
+	String token,
+	String baseUrl,
+	String outputUrl,
+	@DefaultValue("5s") Duration pollInterval,
+	@DefaultValue("30s") Duration maxPollInterval,
+	@DefaultValue("1.5") double backoffMultiplier,
+	@DefaultValue("3m") Duration timeout,
+	@DefaultValue("10s") Duration requestTimeout,
+	@DefaultValue("10") int maxConcurrentJobs
+) {
+}
@@ -0,0 +1,143 @@
+package com.adit.backend.infra.crawler.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.global.util.KeyGenerator;
+import com.adit.backend.infra.crawler.util.UrlNormalizer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 크롤링 결과 2단계 캐시 (로컬 Caffeine -> Redis)
+ * <p>
+ * 키는 정규화된 요청 URL 의 SHA-256 이며, 네트워크 요청 전에 조회한다.
+ * Redis 장애는 캐시 미스로 처리하여 크롤링 자체는 실패하지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class CrawlCache {
+
+	private static final String CACHE_NAME = "crawlCache";
+	private static final String REDIS_METRIC = "crawler.cache.redis";
+
+	private final CrawlCacheProperties properties;
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final Cache<String, CrawlCacheEntry> localCache;
+
+	public CrawlCache(CrawlCacheProperties properties, RedisTemplate<String, Object> redisTemplate,
+		ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.localCache = Caffeine.newBuilder()
+			.maximumWeight(properties.maxWeight().toBytes())
+			.weigher((String key, CrawlCacheEntry entry) -> entry.weight())
+			.expireAfter(new EntryExpiry())
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+	}
+
+	public Optional<CrawlCompletionResponse> get(String url) {
+		if (!properties.enabled()) {
+			return Optional.empty();
+		}
+		String key = createKey(url);
+		CrawlCacheEntry local = localCache.getIfPresent(key);
+		if (local != null) {
+			log.debug("[Crawl] 로컬 캐시 적중: {}", url);
+			return Optional.of(local.response());
+		}
+
+		CrawlCacheEntry remote = readRedis(key);
+		if (remote == null) {
+			meterRegistry.counter(REDIS_METRIC, "result", "miss").increment();
+			return Optional.empty();
+		}
+		meterRegistry.counter(REDIS_METRIC, "result", "hit").increment();
+		log.debug("[Crawl] Redis 캐시 적중: {}", url);
+		localCache.put(key, remote);
+		return Optional.of(remote.response());
+	}
+
+	public void put(String url, String platform, CrawlCompletionResponse response) {
+		if (!properties.enabled() || response == null) {
+			return;
+		}
+		Duration ttl = properties.ttlFor(platform);
+		if (ttl.isZero() || ttl.isNegative()) {
+			return;
+		}
+		String key = createKey(url);
+		CrawlCacheEntry entry = new CrawlCacheEntry(platform, System.currentTimeMillis() + ttl.toMillis(), response);
+		localCache.put(key, entry);
+		writeRedis(key, entry, ttl);
+	}
+
+	private CrawlCacheEntry readRedis(String key) {
+		try {
+			Object value = redisTemplate.opsForValue().get(key);
+			if (value == null) {
+				return null;
+			}
+			CrawlCacheEntry entry = objectMapper.readValue(value.toString(), CrawlCacheEntry.class);
+			return entry.remainingTtl(System.currentTimeMillis()).isZero() ? null : entry;
+		} catch (Exception e) {
+			log.warn("[Crawl] Redis 캐시 조회 실패: {}", e.getMessage());
+			meterRegistry.counter(REDIS_METRIC, "result", "error").increment();
+			return null;
+		}
+	}
+
+	private void writeRedis(String key, CrawlCacheEntry entry, Duration ttl) {
+		try {
+			redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(entry), ttl);
+		} catch (JsonProcessingException e) {
+			log.warn("[Crawl] 캐시 직렬화 실패: {}", e.getMessage());
+		} catch (Exception e) {
+			log.warn("[Crawl] Redis 캐시 저장 실패: {}", e.getMessage());
+			meterRegistry.counter(REDIS_METRIC, "result", "error").increment();
+		}
+	}
+
+	private String createKey(String url) {
+		return properties.keyPrefix() + KeyGenerator.sha256Hex(UrlNormalizer.normalize(url));
+	}
+
+	/**
+	 * 항목별 만료 시각을 그대로 따르는 만료 정책 (Redis 에서 승격된 항목은 남은 TTL 만큼만 유지)
+	 */
+	private static final class EntryExpiry implements Expiry<String, CrawlCacheEntry> {
+
+		@Override
+		public long expireAfterCreate(String key, CrawlCacheEntry entry, long currentTime) {
+			return TimeUnit.MILLISECONDS.toNanos(entry.remainingTtl(System.currentTimeMillis()).toMillis());
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, CrawlCacheEntry entry, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, entry, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, CrawlCacheEntry entry, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
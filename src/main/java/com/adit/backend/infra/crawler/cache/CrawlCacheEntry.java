@@ -0,0 +1,38 @@
+package com.adit.backend.infra.crawler.cache;
+
+import java.time.Duration;
+
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+
+/**
+ * 크롤링 캐시 항목
+ *
+ * @param platform  크롤링 플랫폼
+ * @param expiresAt 만료 시각 (epoch millis)
+ * @param response  크롤링 결과
+ */
+public record CrawlCacheEntry(
+	String platform,
+	long expiresAt,
+	CrawlCompletionResponse response
+) {
+	public Duration remainingTtl(long now) {
+		return Duration.ofMillis(Math.max(0, expiresAt - now));
+	}
+
+	/**
+	 * 로컬 캐시 가중치 (UTF-16 기준 대략적인 바이트 수)
+	 */
+	public int weight() {
+		long bytes = 64;
+		if (response.crawlingData() != null) {
+			bytes += response.crawlingData().length() * 2L;
+		}
+		if (response.imageSrcList() != null) {
+			for (String imageSrc : response.imageSrcList()) {
+				bytes += imageSrc.length() * 2L + 16;
+			}
+		}
+		return (int)Math.min(Integer.MAX_VALUE, bytes);
+	}
+}
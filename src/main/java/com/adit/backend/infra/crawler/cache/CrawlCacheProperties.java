@@ -0,0 +1,33 @@
+package com.adit.backend.infra.crawler.cache;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 크롤링 결과 캐시 설정 (crawler.cache.*)
+ *
+ * @param enabled    캐시 사용 여부
+ * @param maxWeight  로컬 캐시 최대 크기 (본문 및 이미지 URL 기준 추정치)
+ * @param defaultTtl 플랫폼별 TTL 이 없을 때 사용할 TTL
+ * @param keyPrefix  Redis 키 접두사
+ * @param ttl        플랫폼별 TTL (naver, tistory, brunch, instagram, generic)
+ */
+@ConfigurationProperties(prefix = "crawler.cache")
+public record CrawlCacheProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("64MB") DataSize maxWeight,
+	@DefaultValue("6h") Duration defaultTtl,
+	@DefaultValue("crawl:") String keyPrefix,
+	Map<String, Duration> ttl
+) {
+	public Duration ttlFor(String platform) {
+		if (ttl == null) {
+			return defaultTtl;
+		}
+		return ttl.getOrDefault(platform, defaultTtl);
+	}
+}
@@ -2,12 +2,13 @@ package com.adit.backend.infra.crawler.common;
 
 import java.io.IOException;
 
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
 import com.adit.backend.global.error.GlobalErrorCode;
 import com.adit.backend.infra.crawler.exception.CrawlingException;
+import com.adit.backend.infra.crawler.http.CrawlerHttpClient;
+import com.adit.backend.infra.crawler.http.FetchStream;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,22 +17,37 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 public abstract class AbstractWebCrawlingStrategy implements WebCrawlingStrategy {
-	protected static final String USER_AGENT = "Mozilla/5.0";
-	protected static final int TIMEOUT_SECONDS = 30;
 
+	/**
+	 * 공용 HTTP 클라이언트 (하위 전략이 생성자로 주입받아 제공)
+	 */
+	protected abstract CrawlerHttpClient getHttpClient();
+
+	/**
+	 * 공용 HTTP 클라이언트로 문서를 받아 Jsoup 으로 파싱 (플랫폼별 제한 시간 및 최대 크기 적용)
+	 */
 	@Override
 	public Document getDocument(String url) throws IOException {
 		try {
-			return Jsoup.connect(url)
-				.userAgent(USER_AGENT)
-				.timeout(TIMEOUT_SECONDS * 1000)
-				.get();
-		} catch (IOException e) {
+			return getHttpClient().fetch(url, platform()).toDocument();
+		} catch (IOException | IllegalArgumentException e) {
 			log.error("[Crawl] 문서 추출 실패: {}, 에러: {}", url, e.getMessage());
 			throw new CrawlingException(GlobalErrorCode.CRAWLING_FAILED);
 		}
 	}
 
+	/**
+	 * 공용 HTTP 클라이언트로 본문 스트림 요청 (maxBytes 를 넘는 본문은 잘라냄, 호출자가 닫아야 함)
+	 */
+	protected FetchStream openStream(String url, long maxBytes) {
+		try {
+			return getHttpClient().stream(url, platform(), maxBytes);
+		} catch (IOException | IllegalArgumentException e) {
+			log.error("[Crawl] 문서 스트림 요청 실패: {}, 에러: {}", url, e.getMessage());
+			throw new CrawlingException(GlobalErrorCode.CRAWLING_FAILED);
+		}
+	}
+
 	@Override
 	public CrawlCompletionResponse extractContentsUsingApify(String url) {
 		log.warn("[Crawl] Apify API 지원하지 않는 전략: {}", url);
@@ -11,9 +11,21 @@ import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
 public interface WebCrawlingStrategy {
 	boolean supports(String url);
 
+	/**
+	 * 플랫폼 식별자 (설정 및 지표 구분에 사용)
+	 */
+	String platform();
+
 	Document getDocument(String url) throws IOException;
 
 	CrawlCompletionResponse extractContents(Document document);
 
+	/**
+	 * 문서를 받아 본문 추출 (스트리밍 파싱 등 다른 방식을 쓰는 전략은 재정의)
+	 */
+	default CrawlCompletionResponse crawl(String url) throws IOException {
+		return extractContents(getDocument(url));
+	}
+
 	CrawlCompletionResponse extractContentsUsingApify(String url);
 }
@@ -0,0 +1,69 @@
+package com.adit.backend.infra.crawler.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 최대 바이트 수까지만 읽고 이후는 끝(-1)으로 처리하는 스트림 (나머지 본문은 수신하지 않음)
+ */
+class BudgetInputStream extends FilterInputStream {
+
+	private long remaining;
+	private boolean exhausted;
+
+	BudgetInputStream(InputStream in, long maxBytes) {
+		super(in);
+		this.remaining = maxBytes;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (remaining <= 0) {
+			exhausted = true;
+			return -1;
+		}
+		int read = super.read();
+		if (read != -1) {
+			remaining--;
+		}
+		return read;
+	}
+
+	@Override
+	public int read(byte[] buffer, int offset, int length) throws IOException {
+		if (remaining <= 0) {
+			exhausted = true;
+			return -1;
+		}
+		int read = super.read(buffer, offset, (int)Math.min(length, remaining));
+		if (read > 0) {
+			remaining -= read;
+		}
+		return read;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = super.skip(Math.min(n, Math.max(remaining, 0)));
+		remaining -= skipped;
+		return skipped;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return (int)Math.min(super.available(), Math.max(remaining, 0));
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	/**
+	 * 최대 바이트 수에 도달해 본문을 잘랐는지 여부
+	 */
+	boolean exhausted() {
+		return exhausted;
+	}
+}
@@ -0,0 +1,224 @@
+package com.adit.backend.infra.crawler.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.brotli.dec.BrotliInputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 크롤링 공용 HTTP 클라이언트
+ * <p>
+ * JDK HttpClient 를 공유하여 호스트별 커넥션 풀(keep-alive)과 HTTP/2 를 재사용한다.
+ * 연결 제한 시간은 클라이언트 단위 설정이므로 연결 제한 시간별로 클라이언트를 하나씩 유지한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class CrawlerHttpClient {
+
+	private static final String USER_AGENT = "Mozilla/5.0";
+	private static final String ACCEPT = "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8";
+	private static final String ACCEPT_ENCODING = "gzip, deflate, br";
+	private static final int BUFFER_SIZE = 8192;
+
+	private final CrawlerHttpProperties properties;
+	private final Map<Duration, HttpClient> clients = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService deadlineScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "crawler-http-deadline");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * 플랫폼 설정을 적용하여 문서 요청
+	 */
+	public FetchResponse fetch(String url, String platform) throws IOException {
+		return fetch(url, properties.optionsFor(platform));
+	}
+
+	public FetchResponse fetch(String url, FetchOptions options) throws IOException {
+		long deadline = System.nanoTime() + options.totalTimeout().toNanos();
+		HttpResponse<InputStream> response = send(newRequest(url, options), options, deadline);
+
+		// 전체 제한 시간이 지나면 스트림을 닫아 본문 수신을 중단한다
+		InputStream rawBody = response.body();
+		ScheduledFuture<?> deadlineTask = deadlineScheduler.schedule(() -> closeQuietly(rawBody),
+			Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		try (InputStream body = decode(rawBody, response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(""))) {
+			byte[] bytes = readLimited(body, options.maxBodyBytes(), url);
+			log.debug("[Crawl] 문서 수신 완료: {} ({} bytes, {})", response.uri(), bytes.length, response.version());
+			return new FetchResponse(response.uri(), response.statusCode(), extractCharset(response), bytes);
+		} catch (IOException e) {
+			if (System.nanoTime() - deadline >= 0) {
+				throw new IOException("전체 제한 시간 초과: " + url, e);
+			}
+			throw e;
+		} finally {
+			deadlineTask.cancel(false);
+		}
+	}
+
+	/**
+	 * 본문을 모으지 않고 스트림으로 요청 (플랫폼 설정의 제한 시간 적용)
+	 * <p>
+	 * maxBytes 를 넘는 본문은 오류 대신 잘라내며, 반환된 스트림은 호출자가 닫아야 한다.
+	 */
+	public FetchStream stream(String url, String platform, long maxBytes) throws IOException {
+		FetchOptions options = properties.optionsFor(platform);
+		long deadline = System.nanoTime() + options.totalTimeout().toNanos();
+		HttpResponse<InputStream> response = send(newRequest(url, options), options, deadline);
+
+		InputStream rawBody = response.body();
+		ScheduledFuture<?> deadlineTask = deadlineScheduler.schedule(() -> closeQuietly(rawBody),
+			Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		Runnable onClose = () -> {
+			deadlineTask.cancel(false);
+			closeQuietly(rawBody);
+		};
+		try {
+			InputStream body = decode(rawBody, response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(""));
+			log.debug("[Crawl] 문서 스트림 수신 시작: {} ({})", response.uri(), response.version());
+			return new FetchStream(response.uri(), extractCharset(response), new BudgetInputStream(body, maxBytes),
+				onClose);
+		} catch (IOException e) {
+			onClose.run();
+			throw e;
+		}
+	}
+
+	private HttpRequest newRequest(String url, FetchOptions options) {
+		return HttpRequest.newBuilder(URI.create(url))
+			.timeout(options.readTimeout())
+			.header(HttpHeaders.USER_AGENT, USER_AGENT)
+			.header(HttpHeaders.ACCEPT, ACCEPT)
+			.header(HttpHeaders.ACCEPT_ENCODING, ACCEPT_ENCODING)
+			.GET()
+			.build();
+	}
+
+	private HttpResponse<InputStream> send(HttpRequest request, FetchOptions options, long deadline)
+		throws IOException {
+		HttpResponse<InputStream> response = sendAsync(request, options, deadline);
+		if (response.statusCode() >= 400) {
+			response.body().close();
+			throw new IOException("HTTP " + response.statusCode() + " : " + request.uri());
+		}
+		return response;
+	}
+
+	private HttpResponse<InputStream> sendAsync(HttpRequest request, FetchOptions options, long deadline)
+		throws IOException {
+		CompletableFuture<HttpResponse<InputStream>> future = client(options.connectTimeout())
+			.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+		try {
+			return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			abandon(future);
+			throw new IOException("전체 제한 시간 초과: " + request.uri(), e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException(e.getCause());
+		} catch (InterruptedException e) {
+			abandon(future);
+			Thread.currentThread().interrupt();
+			throw new IOException("요청 중단: " + request.uri(), e);
+		}
+	}
+
+	/**
+	 * 더 기다리지 않는 요청을 취소하고, 취소보다 늦게 도착한 응답은 본문을 닫아 연결을 반환
+	 */
+	private void abandon(CompletableFuture<HttpResponse<InputStream>> future) {
+		future.cancel(true);
+		future.whenComplete((response, error) -> {
+			if (response != null) {
+				closeQuietly(response.body());
+			}
+		});
+	}
+
+	private HttpClient client(Duration connectTimeout) {
+		return clients.computeIfAbsent(connectTimeout, timeout -> HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_2)
+			.followRedirects(HttpClient.Redirect.NORMAL)
+			.connectTimeout(timeout)
+			.build());
+	}
+
+	private InputStream decode(InputStream body, String contentEncoding) throws IOException {
+		return switch (contentEncoding.trim().toLowerCase()) {
+			case "gzip", "x-gzip" -> new GZIPInputStream(body, BUFFER_SIZE);
+			case "deflate" -> new InflaterInputStream(body);
+			case "br" -> new BrotliInputStream(body);
+			default -> body;
+		};
+	}
+
+	private byte[] readLimited(InputStream body, long maxBodyBytes, String url) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(BUFFER_SIZE);
+		byte[] buffer = new byte[BUFFER_SIZE];
+		long total = 0;
+		int read;
+		while ((read = body.read(buffer)) != -1) {
+			total += read;
+			if (total > maxBodyBytes) {
+				throw new IOException("응답 본문 최대 크기 초과 (" + maxBodyBytes + " bytes): " + url);
+			}
+			output.write(buffer, 0, read);
+		}
+		return output.toByteArray();
+	}
+
+	private String extractCharset(HttpResponse<?> response) {
+		return response.headers().firstValue(HttpHeaders.CONTENT_TYPE)
+			.map(contentType -> {
+				try {
+					MediaType mediaType = MediaType.parseMediaType(contentType);
+					return mediaType.getCharset() != null ? mediaType.getCharset().name() : null;
+				} catch (Exception e) {
+					return null;
+				}
+			})
+			.orElse(null);
+	}
+
+	private void closeQuietly(InputStream inputStream) {
+		try {
+			inputStream.close();
+		} catch (IOException ignored) {
+			// 제한 시간 초과로 인한 강제 종료이므로 무시
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		deadlineScheduler.shutdownNow();
+	}
+}
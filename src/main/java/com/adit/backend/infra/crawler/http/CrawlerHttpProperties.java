@@ -0,0 +1,44 @@
+package com.adit.backend.infra.crawler.http;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 크롤링 HTTP 클라이언트 설정 (crawler.http.*)
+ * <p>
+ * platforms 하위에 플랫폼별 값을 지정하면 해당 항목만 기본값을 덮어쓴다.
+ */
+@ConfigurationProperties(prefix = "crawler.http")
+public record CrawlerHttpProperties(
+	@DefaultValue("5s") Duration connectTimeout,
+	@DefaultValue("10s") Duration readTimeout,
+	@DefaultValue("30s") Duration totalTimeout,
+	@DefaultValue("5MB") DataSize maxBodySize,
+	Map<String, PlatformOverride> platforms
+) {
+
+	public record PlatformOverride(
+		Duration connectTimeout,
+		Duration readTimeout,
+		Duration totalTimeout,
+		DataSize maxBodySize
+	) {
+	}
+
+	public FetchOptions optionsFor(String platform) {
+		PlatformOverride override = platforms == null ? null : platforms.get(platform);
+		if (override == null) {
+			return new FetchOptions(connectTimeout, readTimeout, totalTimeout, maxBodySize.toBytes());
+		}
+		return new FetchOptions(
+			override.connectTimeout() != null ? override.connectTimeout() : connectTimeout,
+			override.readTimeout() != null ? override.readTimeout() : readTimeout,
+			override.totalTimeout() != null ? override.totalTimeout() : totalTimeout,
+			(override.maxBodySize() != null ? override.maxBodySize() : maxBodySize).toBytes()
+		);
+	}
+}
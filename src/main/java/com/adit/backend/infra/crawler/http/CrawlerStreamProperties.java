@@ -0,0 +1,20 @@
+package com.adit.backend.infra.crawler.http;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 일반 웹 페이지 스트리밍 파싱 설정 (crawler.stream.*)
+ *
+ * @param enabled       스트리밍 파싱 사용 여부 (false 면 문서 전체를 받아 파싱)
+ * @param maxTextLength 추출한 본문과 아직 닫히지 않은 블록 안의 텍스트 합이 이 길이에 도달하면 나머지 문서는 읽지 않음
+ * @param maxBodySize   압축 해제 후 읽을 최대 본문 크기 (초과분은 오류 없이 잘라냄)
+ */
+@ConfigurationProperties(prefix = "crawler.stream")
+public record CrawlerStreamProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("20000") int maxTextLength,
+	@DefaultValue("3MB") DataSize maxBodySize
+) {
+}
@@ -0,0 +1,19 @@
+package com.adit.backend.infra.crawler.http;
+
+import java.time.Duration;
+
+/**
+ * 크롤링 요청 옵션
+ *
+ * @param connectTimeout TCP/TLS 연결 제한 시간
+ * @param readTimeout    요청 전송 후 응답 헤더 수신까지의 제한 시간
+ * @param totalTimeout   연결부터 본문 수신 완료까지의 전체 제한 시간
+ * @param maxBodyBytes   압축 해제 후 응답 본문 최대 크기
+ */
+public record FetchOptions(
+	Duration connectTimeout,
+	Duration readTimeout,
+	Duration totalTimeout,
+	long maxBodyBytes
+) {
+}
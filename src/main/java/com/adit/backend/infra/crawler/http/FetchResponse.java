@@ -0,0 +1,30 @@
+package com.adit.backend.infra.crawler.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+/**
+ * 크롤링 응답
+ *
+ * @param uri         리다이렉트 이후 최종 URI
+ * @param statusCode  HTTP 상태 코드
+ * @param charset     Content-Type 헤더의 charset (없으면 null, Jsoup 이 meta 태그로 판별)
+ * @param body        압축 해제된 응답 본문
+ */
+public record FetchResponse(
+	URI uri,
+	int statusCode,
+	String charset,
+	byte[] body
+) {
+	/**
+	 * 응답 본문을 Jsoup 파서로 파싱
+	 */
+	public Document toDocument() throws IOException {
+		return Jsoup.parse(new ByteArrayInputStream(body), charset, uri.toString());
+	}
+}
@@ -0,0 +1,87 @@
+package com.adit.backend.infra.crawler.http;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 본문을 메모리에 모으지 않고 읽는 만큼만 수신하는 크롤링 응답
+ * <p>
+ * 다 읽지 않고 닫으면 남은 본문은 수신하지 않는다 (연결은 재사용되지 않음).
+ */
+public final class FetchStream implements Closeable {
+
+	private static final int SNIFF_BYTES = 4096;
+	private static final Pattern META_CHARSET = Pattern.compile(
+		"<meta[^>]+charset\\s*=\\s*[\"']?([\\w.:-]+)", Pattern.CASE_INSENSITIVE);
+
+	private final URI uri;
+	private final String charset;
+	private final BudgetInputStream body;
+	private final Runnable onClose;
+
+	FetchStream(URI uri, String charset, BudgetInputStream body, Runnable onClose) {
+		this.uri = uri;
+		this.charset = charset;
+		this.body = body;
+		this.onClose = onClose;
+	}
+
+	/**
+	 * 리다이렉트 이후 최종 URI
+	 */
+	public URI uri() {
+		return uri;
+	}
+
+	/**
+	 * 본문 문자 스트림 (Content-Type 에 charset 이 없으면 앞부분의 meta 태그로 판별, 기본 UTF-8)
+	 */
+	public Reader reader() throws IOException {
+		BufferedInputStream input = new BufferedInputStream(body, SNIFF_BYTES * 2);
+		Charset detected = charsetOf(charset);
+		if (detected == null) {
+			input.mark(SNIFF_BYTES);
+			byte[] head = input.readNBytes(SNIFF_BYTES);
+			input.reset();
+			detected = sniffCharset(head);
+		}
+		return new InputStreamReader(input, detected);
+	}
+
+	/**
+	 * 최대 바이트 수에 도달해 본문 뒷부분을 읽지 않았는지 여부
+	 */
+	public boolean truncated() {
+		return body.exhausted();
+	}
+
+	@Override
+	public void close() {
+		onClose.run();
+	}
+
+	private static Charset sniffCharset(byte[] head) {
+		Matcher matcher = META_CHARSET.matcher(new String(head, StandardCharsets.ISO_8859_1));
+		Charset charset = matcher.find() ? charsetOf(matcher.group(1)) : null;
+		return charset != null ? charset : StandardCharsets.UTF_8;
+	}
+
+	private static Charset charsetOf(String name) {
+		if (name == null || name.isBlank()) {
+			return null;
+		}
+		try {
+			return Charset.isSupported(name) ? Charset.forName(name) : null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+}
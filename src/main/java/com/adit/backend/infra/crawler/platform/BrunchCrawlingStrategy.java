@@ -1,19 +1,23 @@
 package com.adit.backend.infra.crawler.platform;
 
-import java.util.Map;
+import java.util.List;
 
 import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
-import org.springframework.cache.annotation.Cacheable;
+import org.jsoup.select.Evaluator;
 import org.springframework.stereotype.Component;
 
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
 import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.infra.crawler.SinglePassExtractor;
 import com.adit.backend.infra.crawler.WebContentCrawler;
 import com.adit.backend.infra.crawler.common.AbstractWebCrawlingStrategy;
 import com.adit.backend.infra.crawler.exception.CrawlingException;
+import com.adit.backend.infra.crawler.http.CrawlerHttpClient;
 
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -21,18 +25,36 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class BrunchCrawlingStrategy extends AbstractWebCrawlingStrategy {
 
+	public static final String PLATFORM = "brunch";
 	public static final String BRUNCH_URL = "brunch.co.kr";
 	public static final String TEXT_TAG = "p, div:not(:has(p)), h1, h2, h3, h4, h5, h6";
 	public static final String TITLE_TAG = "h1, h2";
 	public static final String DEFAULT_CONTENT_TAG = "div.wrap_body";
 	public static final String PLACE_SEPARATOR = "\n[PLACE INFO]\n";
 	public static final int MINIMUM_RECOGNIZED_CHARACTER = 10;
-	private static final Map<String, String> BRUNCH_CONTENT_TAGS = Map.ofEntries(
-		Map.entry("wrap", ".wrap_body"),
-		Map.entry("main", ".wrap_body_frame")
-	);
+	private static final Evaluator TEXT = WebContentCrawler.compile(TEXT_TAG);
+	private static final Evaluator TITLE = WebContentCrawler.compile(TITLE_TAG);
+	private static final Evaluator DEFAULT_CONTENT = WebContentCrawler.compile(DEFAULT_CONTENT_TAG);
+	private static final SinglePassExtractor.Plan PLAN = new SinglePassExtractor.Plan(TITLE, TEXT,
+		MINIMUM_RECOGNIZED_CHARACTER, true);
+	/**
+	 * 본문 선택자 (앞에서부터 시도)
+	 */
+	private static final List<String> BRUNCH_CONTENT_TAGS = List.of(".wrap_body", ".wrap_body_frame");
+	private static final List<Evaluator> BRUNCH_CONTENTS = BRUNCH_CONTENT_TAGS.stream()
+		.map(WebContentCrawler::compile)
+		.toList();
+
+	@Getter(AccessLevel.PROTECTED)
+	private final CrawlerHttpClient httpClient;
+
+	@Override
+	public String platform() {
+		return PLATFORM;
+	}
 
 	@Override
 	public boolean supports(String url) {
@@ -44,23 +66,18 @@ public class BrunchCrawlingStrategy extends AbstractWebCrawlingStrategy {
 	}
 
 	@Override
-	@Cacheable(value = "contentCache", key = "#document.location()")
 	public CrawlCompletionResponse extractContents(Document document) {
-		StringBuilder contentBuilder = new StringBuilder();
-
 		try {
 			log.debug("[Crawl] 브런치 크롤링 시작: {}", document.location());
-			WebContentCrawler.extractTitle(document, TITLE_TAG, contentBuilder);
 			Elements contentElements = selectContentElements(document);
-			if (!contentElements.isEmpty()) {
-				Element mainContent = contentElements.first();
-				WebContentCrawler.extractBodyText(mainContent, TEXT_TAG, MINIMUM_RECOGNIZED_CHARACTER, contentBuilder);
-			}
-			String content = WebContentCrawler.preprocessText(contentBuilder.toString());
-			String placeInfo = WebContentCrawler.extractPlaceInfo(document);
-			String combined = content + PLACE_SEPARATOR + placeInfo;
+			StringBuilder body = new StringBuilder();
+			SinglePassExtractor.Page page = SinglePassExtractor.extract(document, contentElements.first(),
+				contentElements, PLAN, body);
+			WebContentCrawler.requireTitle(document.location(), page.title());
+			String content = WebContentCrawler.preprocessText(WebContentCrawler.titledContent(page.title(), body));
+			String combined = content + PLACE_SEPARATOR + page.placeInfo();
 			log.debug("[Crawl] 브런치 크롤링 완료");
-			return WebContentCrawler.getCrawlCompletionResponse(contentElements, combined);
+			return WebContentCrawler.getCrawlCompletionResponse(combined, page.imageSrcList());
 		} catch (Exception e) {
 			log.error("[Crawl] 브런치 크롤링 실패: {}", e.getMessage());
 			throw new CrawlingException(GlobalErrorCode.CRAWLING_FAILED);
@@ -68,14 +85,14 @@ public class BrunchCrawlingStrategy extends AbstractWebCrawlingStrategy {
 	}
 
 	private Elements selectContentElements(Document document) {
-		for (Map.Entry<String, String> entry : BRUNCH_CONTENT_TAGS.entrySet()) {
-			Elements elements = document.select(entry.getValue());
+		for (int index = 0; index < BRUNCH_CONTENTS.size(); index++) {
+			Elements elements = document.select(BRUNCH_CONTENTS.get(index));
 			if (!elements.isEmpty()) {
-				log.debug("[Crawl] 브런치 스킨 선택자 매칭 완료: {}", entry.getValue());
+				log.debug("[Crawl] 브런치 스킨 선택자 매칭 완료: {}", BRUNCH_CONTENT_TAGS.get(index));
 				return elements;
 			}
 		}
 		log.debug("[Crawl] 브런치 기본 선택자 사용");
-		return document.select(DEFAULT_CONTENT_TAG);
+		return document.select(DEFAULT_CONTENT);
 	}
 }
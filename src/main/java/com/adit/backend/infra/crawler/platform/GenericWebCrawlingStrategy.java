@@ -1,25 +1,39 @@
 package com.adit.backend.infra.crawler.platform;
 
+import java.io.IOException;
+
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
-import org.springframework.cache.annotation.Cacheable;
+import org.jsoup.select.Evaluator;
 import org.springframework.stereotype.Component;
 
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
 import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.infra.crawler.SinglePassExtractor;
+import com.adit.backend.infra.crawler.StreamingExtractor;
 import com.adit.backend.infra.crawler.WebContentCrawler;
 import com.adit.backend.infra.crawler.common.AbstractWebCrawlingStrategy;
 import com.adit.backend.infra.crawler.exception.CrawlingException;
+import com.adit.backend.infra.crawler.http.CrawlerHttpClient;
+import com.adit.backend.infra.crawler.http.CrawlerStreamProperties;
+import com.adit.backend.infra.crawler.http.FetchStream;
 
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 지원하지 않는 플랫폼 크롤링 전략
+ * <p>
+ * 임의의 사이트는 스크립트가 많은 수 MB 문서일 수 있으므로, 기본적으로 스트리밍 파싱으로 본문 길이·바이트 한도까지만 읽는다.
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class GenericWebCrawlingStrategy extends AbstractWebCrawlingStrategy {
 
+	public static final String PLATFORM = "generic";
 	public static final String TISTORY_URL = "tistory.com";
 	public static final String NAVER_BLOG_URL = "blog.naver.com";
 	public static final String BRUNCH_URL = "brunch.co.kr";
@@ -30,6 +44,21 @@ public class GenericWebCrawlingStrategy extends AbstractWebCrawlingStrategy {
 	public static final String CONTENT_TAG = ".entry-content";
 	public static final String PLACE_SEPARATOR = "\n[PLACE INFO]\n";
 	public static final int MINIMUM_RECOGNIZED_CHARACTER = 10;
+	private static final Evaluator TEXT = WebContentCrawler.compile(TEXT_TAG);
+	private static final Evaluator TITLE = WebContentCrawler.compile(TITLE_TAG);
+	private static final Evaluator BODY = WebContentCrawler.compile(BODY_TAG);
+	private static final Evaluator CONTENT = WebContentCrawler.compile(CONTENT_TAG);
+	private static final SinglePassExtractor.Plan PLAN = new SinglePassExtractor.Plan(TITLE, TEXT,
+		MINIMUM_RECOGNIZED_CHARACTER, true);
+
+	@Getter(AccessLevel.PROTECTED)
+	private final CrawlerHttpClient httpClient;
+	private final CrawlerStreamProperties streamProperties;
+
+	@Override
+	public String platform() {
+		return PLATFORM;
+	}
 
 	@Override
 	public boolean supports(String url) {
@@ -44,22 +73,51 @@ public class GenericWebCrawlingStrategy extends AbstractWebCrawlingStrategy {
 	}
 
 	@Override
-	@Cacheable(value = "contentCache", key = "#document.location()")
+	public CrawlCompletionResponse crawl(String url) throws IOException {
+		if (!streamProperties.enabled()) {
+			return super.crawl(url);
+		}
+		try (FetchStream stream = openStream(url, streamProperties.maxBodySize().toBytes())) {
+			log.debug("[Crawl] 일반 웹 스트리밍 크롤링 시작: {}", url);
+			StringBuilder body = new StringBuilder();
+			SinglePassExtractor.Page page = StreamingExtractor.extract(stream.reader(), stream.uri().toString(), PLAN,
+				CONTENT, streamProperties.maxTextLength(), body);
+			if (stream.truncated()) {
+				log.warn("[Crawl] 최대 본문 크기 도달, 나머지 문서 생략 ({}): {}", streamProperties.maxBodySize(), url);
+			}
+			return toResponse(stream.uri().toString(), page, body);
+		} catch (CrawlingException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error("[Crawl] 스트리밍 본문 추출 중 오류 발생: {}", e.getMessage());
+			throw new CrawlingException(GlobalErrorCode.CRAWLING_FAILED);
+		}
+	}
+
+	@Override
 	public CrawlCompletionResponse extractContents(Document document) {
-		StringBuilder contentBuilder = new StringBuilder();
 		try {
 			log.debug("[Crawl] 일반 웹 크롤링 시작: {}", document.location());
-			WebContentCrawler.extractTitle(document, TITLE_TAG, contentBuilder);
-			Element bodyElement = document.selectFirst(BODY_TAG);
-			WebContentCrawler.extractBodyText(bodyElement, TEXT_TAG, MINIMUM_RECOGNIZED_CHARACTER, contentBuilder);
-			String content = WebContentCrawler.preprocessText(contentBuilder.toString());
-			String placeInfo = WebContentCrawler.extractPlaceInfo(document);
-			String combined = content + PLACE_SEPARATOR + placeInfo;
-			log.debug("[Crawl] 일반 웹 크롤링 완료");
-			return WebContentCrawler.getCrawlCompletionResponse(document.select(CONTENT_TAG), combined);
+			Element bodyElement = document.selectFirst(BODY);
+			if (bodyElement == null) {
+				log.error("[Crawl] 본문 요소가 null");
+				throw new CrawlingException(GlobalErrorCode.BODY_EXTRACTION_FAILED);
+			}
+			StringBuilder body = new StringBuilder();
+			SinglePassExtractor.Page page = SinglePassExtractor.extract(document, bodyElement,
+				document.select(CONTENT), PLAN, body);
+			return toResponse(document.location(), page, body);
 		} catch (Exception e) {
 			log.error("[Crawl] 본문 추출 중 오류 발생: {}", e.getMessage());
 			throw new CrawlingException(GlobalErrorCode.CRAWLING_FAILED);
 		}
 	}
+
+	private CrawlCompletionResponse toResponse(String location, SinglePassExtractor.Page page, StringBuilder body) {
+		WebContentCrawler.requireTitle(location, page.title());
+		String content = WebContentCrawler.preprocessText(WebContentCrawler.titledContent(page.title(), body));
+		String combined = content + PLACE_SEPARATOR + page.placeInfo();
+		log.debug("[Crawl] 일반 웹 크롤링 완료");
+		return WebContentCrawler.getCrawlCompletionResponse(combined, page.imageSrcList());
+	}
 }
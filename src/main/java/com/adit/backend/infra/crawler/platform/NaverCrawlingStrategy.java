@@ -1,19 +1,27 @@
 package com.adit.backend.infra.crawler.platform;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
-import org.springframework.cache.annotation.Cacheable;
+import org.jsoup.select.Evaluator;
 import org.springframework.stereotype.Component;
 
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
 import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.infra.crawler.SinglePassExtractor;
 import com.adit.backend.infra.crawler.WebContentCrawler;
 import com.adit.backend.infra.crawler.common.AbstractWebCrawlingStrategy;
 import com.adit.backend.infra.crawler.exception.CrawlingException;
+import com.adit.backend.infra.crawler.http.CrawlerHttpClient;
+import com.adit.backend.infra.crawler.util.NaverBlogUrlRewriter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -22,8 +30,10 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class NaverCrawlingStrategy extends AbstractWebCrawlingStrategy {
 
+	public static final String PLATFORM = "naver";
 	public static final String NAVER_BLOG_URL = "blog.naver.com";
 	public static final String BASE_URL = "https://blog.naver.com";
 	public static final String IFRAME_TAG = "iframe#mainFrame";
@@ -32,25 +42,76 @@ public class NaverCrawlingStrategy extends AbstractWebCrawlingStrategy {
 	public static final String CONTENT_TAG = "div.se-main-container, div.post-area";
 	public static final String PLACE_SEPARATOR = "\n\n[PLACE INFO]\n";
 	public static final int MINIMUM_RECOGNIZED_CHARACTER = 10;
+	private static final String FAST_PATH_METRIC = "crawler.naver.fast-path";
+	private static final Evaluator IFRAME = WebContentCrawler.compile(IFRAME_TAG);
+	private static final Evaluator TEXT = WebContentCrawler.compile(TEXT_TAG);
+	private static final Evaluator TITLE = WebContentCrawler.compile(TITLE_TAG);
+	private static final Evaluator CONTENT = WebContentCrawler.compile(CONTENT_TAG);
+	private static final SinglePassExtractor.Plan PLAN = new SinglePassExtractor.Plan(TITLE, TEXT,
+		MINIMUM_RECOGNIZED_CHARACTER, true);
+
+	@Getter(AccessLevel.PROTECTED)
+	private final CrawlerHttpClient httpClient;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public String platform() {
+		return PLATFORM;
+	}
 
 	@Override
 	public boolean supports(String url) {
 		return url.contains(NAVER_BLOG_URL);
 	}
 
+	/**
+	 * 블로그 URL 을 PostView URL 로 변환하여 외곽 문서 요청 없이 본문 문서를 바로 요청
+	 * 변환할 수 없거나 본문을 찾지 못하면 기존 iframe 경로로 처리한다
+	 */
+	@Override
+	public Document getDocument(String url) throws IOException {
+		Optional<String> postViewUrl = NaverBlogUrlRewriter.toPostViewUrl(url);
+		if (postViewUrl.isEmpty()) {
+			recordFastPath("unmatched");
+			return super.getDocument(url);
+		}
+		try {
+			Document postView = super.getDocument(postViewUrl.get());
+			if (postView.selectFirst(CONTENT) != null) {
+				recordFastPath("hit");
+				log.debug("[Crawl] 네이버 PostView 직접 요청 성공: {}", postViewUrl.get());
+				return postView;
+			}
+			log.warn("[Crawl] 네이버 PostView 본문 없음, iframe 경로로 재시도: {}", url);
+		} catch (CrawlingException e) {
+			log.warn("[Crawl] 네이버 PostView 요청 실패, iframe 경로로 재시도: {}", url);
+		}
+		recordFastPath("fallback");
+		return super.getDocument(url);
+	}
+
 	@Override
-	@Cacheable(value = "contentCache", key = "#document.location()")
 	public CrawlCompletionResponse extractContents(Document document) {
 		try {
-			Document innerDoc = WebContentCrawler.getIframeDocument(document, IFRAME_TAG, BASE_URL);
-			StringBuilder contentBuilder = new StringBuilder();
-			extractTitle(innerDoc, contentBuilder);
-			extractBody(innerDoc, contentBuilder);
-			String content = WebContentCrawler.preprocessText(contentBuilder.toString());
-			String placeInfo = WebContentCrawler.extractPlaceInfo(innerDoc);
-			String combined = content + PLACE_SEPARATOR + placeInfo;
+			Document innerDoc = getIframeDocument(document);
 			Elements contentElements = selectContentElements(innerDoc);
-			return WebContentCrawler.getCrawlCompletionResponse(contentElements, combined);
+			Element mainContent = contentElements.first();
+			if (mainContent == null) {
+				log.warn("[본문 요소 선택 실패]");
+			} else if (log.isInfoEnabled()) {
+				log.info("[본문 요소 선택 성공] : {}", mainContent.cssSelector());
+			}
+			StringBuilder body = new StringBuilder();
+			SinglePassExtractor.Page page = SinglePassExtractor.extract(innerDoc, mainContent, contentElements, PLAN,
+				body);
+			if (page.title().isEmpty()) {
+				log.warn("[제목 추출 실패] : {}", innerDoc.location());
+			} else {
+				log.info("[제목 추출 완료] : {}", page.title());
+			}
+			String content = WebContentCrawler.preprocessText(WebContentCrawler.titledContent(page.title(), body));
+			String combined = content + PLACE_SEPARATOR + page.placeInfo();
+			return WebContentCrawler.getCrawlCompletionResponse(combined, page.imageSrcList());
 
 		} catch (IOException e) {
 			log.error("[iframe 추출 중 오류] : {}", e.getMessage());
@@ -61,36 +122,33 @@ public class NaverCrawlingStrategy extends AbstractWebCrawlingStrategy {
 		}
 	}
 
-	private void extractTitle(Document document, StringBuilder contentBuilder) {
-		String title = document.select(TITLE_TAG).text();
-		if (!title.isEmpty()) {
-			contentBuilder.append("제목: ").append(title).append("\n\n");
-			log.info("[제목 추출 완료] : {}", title);
-		} else {
-			log.warn("[제목 추출 실패] : {}", document.location());
+	/**
+	 * 블로그 외곽 문서의 iframe 본문 문서 요청 (공용 HTTP 클라이언트 사용)
+	 */
+	private Document getIframeDocument(Document outerDoc) throws IOException {
+		if (outerDoc.selectFirst(IFRAME) == null) {
+			// PostView 문서를 직접 받은 경우
+			return outerDoc;
+		}
+		String iframeUrl = WebContentCrawler.resolveIframeUrl(outerDoc, IFRAME, BASE_URL);
+		if (iframeUrl == null) {
+			return outerDoc;
+		}
+		try {
+			// iframe 주소는 이미 PostView 이므로 빠른 경로를 다시 거치지 않는다
+			return super.getDocument(iframeUrl);
+		} catch (Exception e) {
+			log.error("[Crawl] iframe 처리 실패: {}", e.getMessage());
+			throw new IOException(e);
 		}
 	}
 
-	private void extractBody(Document document, StringBuilder contentBuilder) {
-		Elements contentElements = selectContentElements(document);
-		if (!contentElements.isEmpty()) {
-			Element mainContent = contentElements.first();
-			log.info("[본문 요소 선택 성공] : {}", mainContent.cssSelector());
-			WebContentCrawler.removeUnnecessaryElements(mainContent);
-			Elements textElements = mainContent.select(TEXT_TAG);
-			for (Element element : textElements) {
-				String text = element.text().trim();
-				if (text.length() > MINIMUM_RECOGNIZED_CHARACTER) {
-					contentBuilder.append(text).append("\n");
-				}
-			}
-		} else {
-			log.warn("[본문 요소 선택 실패]");
-		}
+	private void recordFastPath(String result) {
+		meterRegistry.counter(FAST_PATH_METRIC, "result", result).increment();
 	}
 
 	private Elements selectContentElements(Document document) {
-		Elements elements = document.select(CONTENT_TAG);
+		Elements elements = document.select(CONTENT);
 		if (!elements.isEmpty()) {
 			return elements;
 		}
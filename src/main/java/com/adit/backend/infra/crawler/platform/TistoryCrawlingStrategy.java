@@ -1,19 +1,28 @@
 package com.adit.backend.infra.crawler.platform;
 
-import java.util.Map;
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
 
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
-import org.springframework.cache.annotation.Cacheable;
+import org.jsoup.select.Evaluator;
 import org.springframework.stereotype.Component;
 
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
 import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.infra.crawler.SinglePassExtractor;
 import com.adit.backend.infra.crawler.WebContentCrawler;
 import com.adit.backend.infra.crawler.common.AbstractWebCrawlingStrategy;
 import com.adit.backend.infra.crawler.exception.CrawlingException;
+import com.adit.backend.infra.crawler.http.CrawlerHttpClient;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -21,65 +30,127 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class TistoryCrawlingStrategy extends AbstractWebCrawlingStrategy {
 
+	public static final String PLATFORM = "tistory";
 	public static final String TISTORY_URL = "tistory.com";
 	public static final String TEXT_TAG = "p, div:not(:has(p)), h1, h2, h3, h4, h5, h6";
 	public static final String TITLE_TAG = ".title, .article-header h1, .post-header h1";
 	public static final String DEFAULT_CONTENT_TAG = ".entry-content";
 	public static final int MINIMUM_RECOGNIZED_CHARACTER = 10;
-	private static final Map<String, String> SKIN_TAGS = Map.ofEntries(
-		Map.entry("default", ".entry-content, #content, .article_view"),
-		Map.entry("modern", ".content-wrapper"),
-		Map.entry("bookclub", ".post-list.tab-ui"),
-		Map.entry("odyssey", ".article-content"),
-		Map.entry("skinview", ".skin_view"),
-		Map.entry("blogview", ".blogview-content"),
-		Map.entry("postcontent", "#post-content"),
-		Map.entry("useless_margin", ".tt_article_useless_p_margin"),
-		Map.entry("articlebody", ".article-body"),
-		Map.entry("blogpost", ".blog-post"),
-		Map.entry("contentarea", ".content-area"),
-		Map.entry("postwrapper", ".post-wrapper"),
-		Map.entry("maincontent", ".main-content"),
-		Map.entry("articleinner", ".article-inner"),
-		Map.entry("areaview", ".area-view")
+	private static final Evaluator TEXT = WebContentCrawler.compile(TEXT_TAG);
+	private static final Evaluator TITLE = WebContentCrawler.compile(TITLE_TAG);
+	private static final Evaluator DEFAULT_CONTENT = WebContentCrawler.compile(DEFAULT_CONTENT_TAG);
+	private static final SinglePassExtractor.Plan PLAN = new SinglePassExtractor.Plan(TITLE, TEXT,
+		MINIMUM_RECOGNIZED_CHARACTER, false);
+	private static final int MAX_LEARNED_HOSTS = 10_000;
+	/**
+	 * 스킨별 본문 선택자 (사용 빈도가 높은 순서로 시도)
+	 */
+	private static final List<SkinSelector> SKIN_TAGS = List.of(
+		SkinSelector.of("default", ".entry-content, #content, .article_view"),
+		SkinSelector.of("modern", ".content-wrapper"),
+		SkinSelector.of("bookclub", ".post-list.tab-ui"),
+		SkinSelector.of("odyssey", ".article-content"),
+		SkinSelector.of("skinview", ".skin_view"),
+		SkinSelector.of("blogview", ".blogview-content"),
+		SkinSelector.of("postcontent", "#post-content"),
+		SkinSelector.of("useless_margin", ".tt_article_useless_p_margin"),
+		SkinSelector.of("articlebody", ".article-body"),
+		SkinSelector.of("blogpost", ".blog-post"),
+		SkinSelector.of("contentarea", ".content-area"),
+		SkinSelector.of("postwrapper", ".post-wrapper"),
+		SkinSelector.of("maincontent", ".main-content"),
+		SkinSelector.of("articleinner", ".article-inner"),
+		SkinSelector.of("areaview", ".area-view")
 	);
 
+	@Getter(AccessLevel.PROTECTED)
+	private final CrawlerHttpClient httpClient;
+
+	/**
+	 * 블로그 호스트별로 마지막에 본문을 찾은 스킨 (같은 블로그의 다음 요청은 한 번의 선택으로 끝남)
+	 */
+	private final Cache<String, SkinSelector> learnedSkins = Caffeine.newBuilder()
+		.maximumSize(MAX_LEARNED_HOSTS)
+		.build();
+
+	private record SkinSelector(String name, String cssQuery, Evaluator evaluator) {
+
+		private static SkinSelector of(String name, String cssQuery) {
+			return new SkinSelector(name, cssQuery, WebContentCrawler.compile(cssQuery));
+		}
+	}
+
+	@Override
+	public String platform() {
+		return PLATFORM;
+	}
+
 	@Override
 	public boolean supports(String url) {
 		return url.contains(TISTORY_URL);
 	}
 
 	@Override
-	@Cacheable(value = "contentCache", key = "#document.location()")
 	public CrawlCompletionResponse extractContents(Document document) {
-		StringBuilder contentBuilder = new StringBuilder();
 		try {
-			WebContentCrawler.extractTitle(document, TITLE_TAG, contentBuilder);
 			Elements contentElements = selectContentElements(document);
-			if (!contentElements.isEmpty()) {
-				Element mainContent = contentElements.first();
+			Element mainContent = contentElements.first();
+			if (mainContent != null && log.isDebugEnabled()) {
 				log.debug("[Crawl] 본문 요소 추출 완료: {}", mainContent.cssSelector());
-				WebContentCrawler.extractBodyText(mainContent, TEXT_TAG, MINIMUM_RECOGNIZED_CHARACTER, contentBuilder);
 			}
-			String content = WebContentCrawler.preprocessText(contentBuilder.toString());
-			return WebContentCrawler.getCrawlCompletionResponse(contentElements, content);
+			StringBuilder body = new StringBuilder();
+			SinglePassExtractor.Page page = SinglePassExtractor.extract(document, mainContent, contentElements, PLAN,
+				body);
+			WebContentCrawler.requireTitle(document.location(), page.title());
+			String content = WebContentCrawler.preprocessText(WebContentCrawler.titledContent(page.title(), body));
+			return WebContentCrawler.getCrawlCompletionResponse(content, page.imageSrcList());
 		} catch (Exception e) {
 			log.error("[Crawl] 본문 추출 중 오류 발생: {}", e.getMessage());
 			throw new CrawlingException(GlobalErrorCode.BODY_EXTRACTION_FAILED);
 		}
 	}
 
+	/**
+	 * 호스트에서 이전에 맞았던 스킨을 먼저 시도하고, 맞지 않으면(스킨 변경 등) 전체 스킨을 순서대로 시도하여 다시 기억한다
+	 */
 	private Elements selectContentElements(Document document) {
-		for (Map.Entry<String, String> entry : SKIN_TAGS.entrySet()) {
-			Elements elements = document.select(entry.getValue());
+		String host = hostOf(document);
+		SkinSelector learned = host == null ? null : learnedSkins.getIfPresent(host);
+		if (learned != null) {
+			Elements elements = document.select(learned.evaluator());
 			if (!elements.isEmpty()) {
-				log.debug("[Crawl] 스킨 선택자 매칭 완료: {}", entry.getValue());
+				log.debug("[Crawl] 기억된 스킨 선택자 사용: {} ({})", learned.name(), host);
+				return elements;
+			}
+			learnedSkins.invalidate(host);
+		}
+
+		for (SkinSelector skin : SKIN_TAGS) {
+			if (skin == learned) {
+				continue;
+			}
+			Elements elements = document.select(skin.evaluator());
+			if (!elements.isEmpty()) {
+				log.debug("[Crawl] 스킨 선택자 매칭 완료: {}", skin.cssQuery());
+				if (host != null) {
+					learnedSkins.put(host, skin);
+				}
 				return elements;
 			}
 		}
 		log.debug("[Crawl] 기본 선택자 사용");
-		return document.select(DEFAULT_CONTENT_TAG);
+		return document.select(DEFAULT_CONTENT);
+	}
+
+	private static String hostOf(Document document) {
+		try {
+			String host = URI.create(document.location()).getHost();
+			return host == null ? null : host.toLowerCase(Locale.ROOT);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
 	}
 }
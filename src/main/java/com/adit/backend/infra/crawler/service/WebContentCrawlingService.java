@@ -1,18 +1,28 @@
 package com.adit.backend.infra.crawler.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
 
-import org.jsoup.nodes.Document;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
 import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.infra.crawler.cache.CrawlCache;
 import com.adit.backend.infra.crawler.common.WebCrawlingStrategy;
 import com.adit.backend.infra.crawler.exception.CrawlingException;
 import com.adit.backend.infra.crawler.platform.InstagramCrawlingStrategy;
+import com.adit.backend.infra.crawler.util.UrlNormalizer;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,36 +32,130 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class WebContentCrawlingService {
 	private static final String INSTAGRAM_URL = "instagram.com";
+	private static final String UNKNOWN_PLATFORM = "unknown";
 	private final List<WebCrawlingStrategy> crawlingStrategies;
 	private final InstagramCrawlingStrategy instagramCrawlingStrategy;
+	private final CrawlCache crawlCache;
+	private final Executor crawlingTaskExecutor;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, CompletableFuture<CrawlCompletionResponse>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder startedCrawls = new LongAdder();
+	private final LongAdder coalescedRequests = new LongAdder();
+
+	@PostConstruct
+	void registerMetrics() {
+		Gauge.builder("crawler.inflight", inFlight, Map::size)
+			.description("진행 중인 크롤링 수")
+			.register(meterRegistry);
+		FunctionCounter.builder("crawler.requests", startedCrawls, LongAdder::sum)
+			.tag("result", "started")
+			.register(meterRegistry);
+		FunctionCounter.builder("crawler.requests", coalescedRequests, LongAdder::sum)
+			.tag("result", "coalesced")
+			.register(meterRegistry);
+		Gauge.builder("crawler.coalescing.ratio", this, WebContentCrawlingService::coalescingRatio)
+			.description("진행 중인 크롤링에 합류한 요청 비율")
+			.register(meterRegistry);
+	}
 
 	/**
 	 * 크롤링 비동기 처리
+	 * <p>
+	 * 같은 URL(정규화 기준)에 대한 동시 요청은 진행 중인 하나의 크롤링 결과를 공유한다.
 	 */
-	@Async("crawlingTaskExecutor")
 	public CompletableFuture<CrawlCompletionResponse> crawlAsync(String url) {
+		String key = UrlNormalizer.normalize(url);
+		CompletableFuture<CrawlCompletionResponse> promise = new CompletableFuture<>();
+		CompletableFuture<CrawlCompletionResponse> running = inFlight.putIfAbsent(key, promise);
+		if (running != null) {
+			coalescedRequests.increment();
+			log.debug("[Crawl] 진행 중인 크롤링에 합류: {}", url);
+			return running.copy();
+		}
+		startedCrawls.increment();
+
 		try {
-			log.debug("[Crawl] 크롤링 작업 시작: {}", url);  // 전체 작업 시작 로그
-			WebCrawlingStrategy strategy = findStrategy(url);
-			CrawlCompletionResponse contents;
+			CompletableFuture<CrawlCompletionResponse> task = url != null && url.contains(INSTAGRAM_URL)
+				? crawlInstagram(url)
+				: CompletableFuture.supplyAsync(() -> crawl(url), crawlingTaskExecutor);
+			task.whenComplete((contents, throwable) -> {
+				inFlight.remove(key, promise);
+				if (throwable != null) {
+					promise.completeExceptionally(
+						throwable instanceof CompletionException ? throwable.getCause() : throwable);
+					return;
+				}
+				promise.complete(contents);
+			});
+		} catch (RuntimeException e) {
+			inFlight.remove(key, promise);
+			log.error("[Crawl] 크롤링 작업 등록 실패: {}, 원인: {}", url, e.getMessage());
+			promise.completeExceptionally(new CrawlingException(GlobalErrorCode.CRAWLING_FAILED));
+		}
+		return promise.copy();
+	}
 
-			if (url.contains(INSTAGRAM_URL)) {
-				contents = strategy.extractContentsUsingApify(url);
-				// Instagram 관련 로그는 InstagramCrawlingStrategy에서 처리하므로 여기서는 제거
-			} else {
-				Document document = strategy.getDocument(url);
-				contents = strategy.extractContents(document);
+	private CrawlCompletionResponse crawl(String url) {
+		try {
+			log.debug("[Crawl] 크롤링 작업 시작: {}", url);  // 전체 작업 시작 로그
+			Optional<CrawlCompletionResponse> cached = crawlCache.get(url);
+			if (cached.isPresent()) {
+				log.debug("[Crawl] 캐시된 크롤링 결과 사용: {}", url);
+				return cached.get();
 			}
-			return CompletableFuture.completedFuture(contents);
+
+			WebCrawlingStrategy strategy = findStrategy(url);
+			CrawlCompletionResponse contents = strategy.crawl(url);
+			crawlCache.put(url, strategy.platform(), contents);
+			return contents;
 		} catch (CrawlingException e) {
 			log.error("[Crawl] 크롤링 실패: {}, 원인: {}", url, e.getMessage());
-			return CompletableFuture.failedFuture(e);
+			throw e;
 		} catch (Exception e) {
 			log.error("[Crawl] 예상치 못한 오류: {}, 원인: {}", url, e.getMessage());
-			return CompletableFuture.failedFuture(new CrawlingException(GlobalErrorCode.CRAWLING_FAILED));
+			throw new CrawlingException(GlobalErrorCode.CRAWLING_FAILED);
 		}
 	}
 
+	/**
+	 * Instagram 은 Apify 작업 결과를 비동기로 기다리므로 크롤링 스레드는 캐시 조회에만 사용한다
+	 */
+	private CompletableFuture<CrawlCompletionResponse> crawlInstagram(String url) {
+		return CompletableFuture.supplyAsync(() -> crawlCache.get(url), crawlingTaskExecutor)
+			.thenCompose(cached -> cached.map(CompletableFuture::completedFuture)
+				.orElseGet(() -> instagramCrawlingStrategy.extractContentsAsync(url)
+					.thenApply(contents -> {
+						crawlCache.put(url, instagramCrawlingStrategy.platform(), contents);
+						return contents;
+					})));
+	}
+
+	/**
+	 * 중복 요청 합류 비율 (합류한 요청 수 / 전체 요청 수)
+	 */
+	private double coalescingRatio() {
+		long coalesced = coalescedRequests.sum();
+		long total = coalesced + startedCrawls.sum();
+		return total == 0 ? 0 : (double)coalesced / total;
+	}
+
+	/**
+	 * URL 을 처리할 플랫폼 이름 (지표 태그용, 지원하지 않는 URL 이면 unknown)
+	 */
+	public String platformOf(String url) {
+		if (url == null || url.isEmpty()) {
+			return UNKNOWN_PLATFORM;
+		}
+		if (url.contains(INSTAGRAM_URL)) {
+			return instagramCrawlingStrategy.platform();
+		}
+		return crawlingStrategies.stream()
+			.filter(strategy -> strategy.supports(url))
+			.findFirst()
+			.map(WebCrawlingStrategy::platform)
+			.orElse(UNKNOWN_PLATFORM);
+	}
+
 	/**
 	 * 플랫폼 구별
 	 */
@@ -0,0 +1,67 @@
+package com.adit.backend.infra.crawler.util;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 네이버 블로그 URL 을 본문 iframe 이 가리키는 PostView URL 로 변환
+ * <p>
+ * 지원 형식
+ * <ul>
+ *     <li>{@code blog.naver.com/{blogId}/{logNo}} (m.blog.naver.com 포함)</li>
+ *     <li>{@code blog.naver.com/PostView.naver?blogId=...&logNo=...} (.nhn 포함)</li>
+ *     <li>{@code blog.naver.com/{blogId}?Redirect=Log&logNo=...}</li>
+ * </ul>
+ */
+public final class NaverBlogUrlRewriter {
+
+	private static final String POST_VIEW_URL =
+		"https://blog.naver.com/PostView.naver?blogId=%s&logNo=%s&redirect=Dlog&widgetTypeCall=true&directAccess=false";
+	private static final Pattern NAVER_BLOG_HOST = Pattern.compile("^(m\\.)?blog\\.naver\\.com$");
+	private static final Pattern BLOG_ID = Pattern.compile("^[A-Za-z0-9_-]+$");
+	private static final Pattern LOG_NO = Pattern.compile("^\\d+$");
+	private static final Pattern POST_VIEW_PATH = Pattern.compile("^/PostView\\.(naver|nhn)$");
+	private static final Pattern BLOG_PATH = Pattern.compile("^/([^/]+)(?:/(\\d+))?/?$");
+
+	private NaverBlogUrlRewriter() {
+	}
+
+	public static Optional<String> toPostViewUrl(String url) {
+		UriComponents components;
+		try {
+			components = UriComponentsBuilder.fromUri(URI.create(url.trim())).build();
+		} catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+		String host = components.getHost();
+		String path = components.getPath();
+		if (host == null || path == null || !NAVER_BLOG_HOST.matcher(host.toLowerCase()).matches()) {
+			return Optional.empty();
+		}
+
+		String blogId;
+		String logNo;
+		if (POST_VIEW_PATH.matcher(path).matches()) {
+			blogId = components.getQueryParams().getFirst("blogId");
+			logNo = components.getQueryParams().getFirst("logNo");
+		} else {
+			Matcher matcher = BLOG_PATH.matcher(path);
+			if (!matcher.matches()) {
+				return Optional.empty();
+			}
+			blogId = matcher.group(1);
+			logNo = matcher.group(2) != null ? matcher.group(2) : components.getQueryParams().getFirst("logNo");
+		}
+
+		if (blogId == null || logNo == null
+			|| !BLOG_ID.matcher(blogId).matches() || !LOG_NO.matcher(logNo).matches()) {
+			return Optional.empty();
+		}
+		return Optional.of(String.format(POST_VIEW_URL, blogId, logNo));
+	}
+}
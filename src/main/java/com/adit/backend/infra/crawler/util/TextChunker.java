@@ -0,0 +1,128 @@
+package com.adit.backend.infra.crawler.util;
+
+import java.nio.CharBuffer;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * 문장 단위 청크 분할기
+ * <p>
+ * 본문을 복사하지 않고 하나의 버퍼 위의 {@link CharSequence} 뷰로 청크를 순차 생성한다.
+ * 문장 경계는 {@code [.!?]} 뒤에 공백이 오는 위치이며, 청크 크기를 넘기 직전에 청크를 나눈다.
+ */
+public final class TextChunker {
+
+	private final int chunkSize;
+
+	private TextChunker(int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSize 는 0보다 커야 합니다.");
+		}
+		this.chunkSize = chunkSize;
+	}
+
+	public static TextChunker of(int chunkSize) {
+		return new TextChunker(chunkSize);
+	}
+
+	public Iterator<CharSequence> chunkIterator(CharSequence text) {
+		return Spliterators.iterator(new ChunkSpliterator(text, chunkSize));
+	}
+
+	/**
+	 * 청크 구간 (start, end) 를 하나의 long 으로 묶는다 (상위 32비트 start, 하위 32비트 end)
+	 */
+	static long pack(int start, int end) {
+		return ((long)start << 32) | end;
+	}
+
+	static int start(long range) {
+		return (int)(range >>> 32);
+	}
+
+	static int end(long range) {
+		return (int)range;
+	}
+
+	/**
+	 * 청크 하나를 본문 위의 뷰로 반환하는 Spliterator
+	 */
+	static final class ChunkSpliterator extends Spliterators.AbstractSpliterator<CharSequence> {
+
+		private final CharSequence text;
+		private final int chunkSize;
+		private int position;
+
+		ChunkSpliterator(CharSequence text, int chunkSize) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+			this.text = text == null ? "" : text;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super CharSequence> action) {
+			long chunk = nextChunk();
+			if (chunk < 0) {
+				return false;
+			}
+			action.accept(CharBuffer.wrap(text, start(chunk), end(chunk)));
+			return true;
+		}
+
+		/**
+		 * 다음 청크의 (start, end)를 하나의 long 으로 반환하고, 더 이상 없으면 -1을 반환한다
+		 */
+		private long nextChunk() {
+			int length = text.length();
+			while (position < length) {
+				int chunkStart = position;
+				int chunkEnd = position;
+				while (chunkEnd < length) {
+					int sentenceEnd = findSentenceEnd(chunkEnd);
+					if (sentenceEnd - chunkStart > chunkSize && chunkEnd > chunkStart) {
+						break;
+					}
+					chunkEnd = sentenceEnd;
+				}
+				position = chunkEnd;
+				int start = skipWhitespaceForward(chunkStart, chunkEnd);
+				int end = skipWhitespaceBackward(start, chunkEnd);
+				if (start < end) {
+					return pack(start, end);
+				}
+			}
+			return -1;
+		}
+
+		private int findSentenceEnd(int from) {
+			int length = text.length();
+			for (int index = from; index < length - 1; index++) {
+				char current = text.charAt(index);
+				if ((current == '.' || current == '!' || current == '?') && isWhitespace(text.charAt(index + 1))) {
+					return index + 2;
+				}
+			}
+			return length;
+		}
+
+		private int skipWhitespaceForward(int from, int to) {
+			while (from < to && text.charAt(from) <= ' ') {
+				from++;
+			}
+			return from;
+		}
+
+		private int skipWhitespaceBackward(int from, int to) {
+			while (to > from && text.charAt(to - 1) <= ' ') {
+				to--;
+			}
+			return to;
+		}
+
+		private static boolean isWhitespace(char ch) {
+			return ch == ' ' || ch == '\t' || ch == '\n' || ch == 0x0B || ch == '\f' || ch == '\r';
+		}
+	}
+}
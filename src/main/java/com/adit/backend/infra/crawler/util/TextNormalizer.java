@@ -0,0 +1,175 @@
+package com.adit.backend.infra.crawler.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 크롤링 본문 정규화 엔진
+ * <p>
+ * 기존 {@code String.replaceAll} 체인과 동일한 결과를 보장하면서,
+ * 정규식은 한 번만 컴파일하고 문자 단위 필터와 공백 정리는 직접 스캔하여 처리한다.
+ * 치환 순서가 결과에 영향을 주므로 각 단계의 순서는 기존 체인과 동일하게 유지한다.
+ */
+public final class TextNormalizer {
+
+	private static final Pattern TEMPLATE_VARIABLE = Pattern.compile("\\{\\{[^}]+\\}\\}");
+	private static final Pattern COPYRIGHT_NOTICE = Pattern.compile("저작자[^\\n]*변경[^\\n]*불가");
+	private static final Pattern NOTICE_LIST = Pattern.compile("공지\\s*목록[^\\n]*\\n?");
+	private static final Pattern COMMENT_NAVIGATION = Pattern.compile("댓글쓰기[^\\n]*다음");
+	private static final Pattern REPORT_LINK = Pattern.compile("URL[^\\n]*신고하기");
+	private static final Pattern SQUARE_BRACKETS = Pattern.compile("\\[.*?\\]");
+	private static final Pattern PARENTHESES = Pattern.compile("\\(.*?\\)");
+	private static final Pattern WEB_URL = Pattern.compile("\\b(https?|ftp|file)://\\S+\\b");
+	private static final Pattern HASHTAG = Pattern.compile("#\\w+");
+
+	private TextNormalizer() {
+	}
+
+	/**
+	 * 본문 텍스트 정규화
+	 * <p>
+	 * 기존 체인의 {@code <[^>]+>}, {@code [\p{So}\p{Sk}]} 단계는 문자 필터 이후에 실행되어
+	 * 항상 매칭되는 문자가 없으므로 생략한다. ({@code < >}는 Sm, So/Sk는 필터에서 이미 제거)
+	 */
+	public static String normalize(String text) {
+		if (text == null || text.isEmpty()) {
+			return "";
+		}
+		String result = remove(TEMPLATE_VARIABLE, text);
+		result = remove(COPYRIGHT_NOTICE, result);
+		result = remove(NOTICE_LIST, result);
+		result = remove(COMMENT_NAVIGATION, result);
+		result = remove(REPORT_LINK, result);
+		result = remove(SQUARE_BRACKETS, result);
+		result = remove(PARENTHESES, result);
+		result = filterCharacters(result);
+		result = remove(WEB_URL, result);
+		result = remove(HASHTAG, result);
+		// 문자 필터에서 줄바꿈 문자(U+0085, U+2028, U+2029)가 제거되면 새로운 괄호 쌍이 생길 수 있다
+		result = remove(SQUARE_BRACKETS, result);
+		result = remove(PARENTHESES, result);
+		return collapseWhitespace(result);
+	}
+
+	/**
+	 * 매칭이 없으면 원본 문자열을 그대로 반환하여 불필요한 복사를 피한다
+	 */
+	private static String remove(Pattern pattern, String text) {
+		Matcher matcher = pattern.matcher(text);
+		if (!matcher.find()) {
+			return text;
+		}
+		StringBuilder builder = new StringBuilder(text.length());
+		int last = 0;
+		do {
+			builder.append(text, last, matcher.start());
+			last = matcher.end();
+		} while (matcher.find());
+		builder.append(text, last, text.length());
+		return builder.toString();
+	}
+
+	/**
+	 * 아래 세 단계를 코드 포인트 단위의 단일 스캔으로 처리한다
+	 * <ul>
+	 *     <li>{@code [\uD83C-\uDBFF\uDC00-\uDFFF]} : java.util.regex 는 {@code \uDBFF\uDC00} 을 하나의 코드 포인트로
+	 *     해석하므로 실제로는 {@code U+D83C ~ U+10FC00} 범위와 {@code '-'}, {@code U+DFFF} 를 제거한다</li>
+	 *     <li>{@code [\u2600-\u27BF]} : 기타 기호 및 딩뱃</li>
+	 *     <li>{@code [^\p{L}\p{N}\p{P}\s]} : 문자, 숫자, 구두점, ASCII 공백 이외의 문자</li>
+	 * </ul>
+	 */
+	private static String filterCharacters(String text) {
+		int length = text.length();
+		int index = 0;
+		while (index < length) {
+			int codePoint = text.codePointAt(index);
+			if (!isRetained(codePoint)) {
+				break;
+			}
+			index += Character.charCount(codePoint);
+		}
+		if (index == length) {
+			return text;
+		}
+		StringBuilder builder = new StringBuilder(length);
+		builder.append(text, 0, index);
+		while (index < length) {
+			int codePoint = text.codePointAt(index);
+			if (isRetained(codePoint)) {
+				builder.appendCodePoint(codePoint);
+			}
+			index += Character.charCount(codePoint);
+		}
+		return builder.toString();
+	}
+
+	private static boolean isRetained(int codePoint) {
+		if (codePoint == '-' || (codePoint >= 0xD83C && codePoint <= 0x10FC00)) {
+			return false;
+		}
+		if (codePoint >= 0x2600 && codePoint <= 0x27BF) {
+			return false;
+		}
+		if (isAsciiWhitespace(codePoint)) {
+			return true;
+		}
+		return switch (Character.getType(codePoint)) {
+			case Character.UPPERCASE_LETTER, Character.LOWERCASE_LETTER, Character.TITLECASE_LETTER,
+				Character.MODIFIER_LETTER, Character.OTHER_LETTER,
+				Character.DECIMAL_DIGIT_NUMBER, Character.LETTER_NUMBER, Character.OTHER_NUMBER,
+				Character.CONNECTOR_PUNCTUATION, Character.DASH_PUNCTUATION, Character.START_PUNCTUATION,
+				Character.END_PUNCTUATION, Character.INITIAL_QUOTE_PUNCTUATION, Character.FINAL_QUOTE_PUNCTUATION,
+				Character.OTHER_PUNCTUATION -> true;
+			default -> false;
+		};
+	}
+
+	/**
+	 * {@code [\r\n]+ -> \n}, {@code \s{2,} -> " "}, {@code trim()} 을 한 번에 처리한다
+	 * <p>
+	 * 연속된 공백 구간이 줄바꿈 문자로만 이루어져 있으면 {@code \n} 하나로,
+	 * 그 외 두 글자 이상이면 공백 하나로 치환하고, 한 글자면 그대로 둔다.
+	 */
+	private static String collapseWhitespace(String text) {
+		int start = 0;
+		int end = text.length();
+		while (start < end && text.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && text.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		StringBuilder builder = new StringBuilder(end - start);
+		int index = start;
+		while (index < end) {
+			char current = text.charAt(index);
+			if (!isAsciiWhitespace(current)) {
+				builder.append(current);
+				index++;
+				continue;
+			}
+			int runStart = index;
+			boolean lineBreakOnly = true;
+			while (index < end && isAsciiWhitespace(text.charAt(index))) {
+				char whitespace = text.charAt(index);
+				if (whitespace != '\r' && whitespace != '\n') {
+					lineBreakOnly = false;
+				}
+				index++;
+			}
+			if (lineBreakOnly) {
+				builder.append('\n');
+			} else if (index - runStart >= 2) {
+				builder.append(' ');
+			} else {
+				builder.append(current);
+			}
+		}
+		return builder.toString();
+	}
+
+	private static boolean isAsciiWhitespace(int codePoint) {
+		return codePoint == ' ' || codePoint == '\t' || codePoint == '\n'
+			|| codePoint == 0x0B || codePoint == '\f' || codePoint == '\r';
+	}
+}
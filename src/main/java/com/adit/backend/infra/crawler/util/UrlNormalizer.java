@@ -0,0 +1,79 @@
+package com.adit.backend.infra.crawler.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시 및 중복 요청 판별용 URL 정규화
+ * <p>
+ * scheme/host 소문자화, 기본 포트·fragment·추적 파라미터 제거, 쿼리 파라미터 정렬, 끝 슬래시 제거를 수행하고
+ * 네이버 블로그 URL 은 PostView URL 로 통일한다.
+ */
+public final class UrlNormalizer {
+
+	private static final Set<String> TRACKING_PARAMS = Set.of("fbclid", "gclid", "igshid", "ref", "trackingCode");
+
+	private UrlNormalizer() {
+	}
+
+	public static String normalize(String url) {
+		if (url == null) {
+			return "";
+		}
+		String trimmed = url.trim();
+		String naverPostView = NaverBlogUrlRewriter.toPostViewUrl(trimmed).orElse(null);
+		if (naverPostView != null) {
+			return naverPostView;
+		}
+		try {
+			URI uri = new URI(trimmed);
+			if (uri.getScheme() == null || uri.getRawAuthority() == null) {
+				return trimmed;
+			}
+			String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+			String host = uri.getHost() == null ? uri.getRawAuthority() : uri.getHost().toLowerCase(Locale.ROOT);
+			int port = uri.getPort();
+			boolean defaultPort = port == -1
+				|| ("http".equals(scheme) && port == 80)
+				|| ("https".equals(scheme) && port == 443);
+
+			StringBuilder builder = new StringBuilder(trimmed.length())
+				.append(scheme).append("://").append(host);
+			if (!defaultPort) {
+				builder.append(':').append(port);
+			}
+			String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+			if (path.length() > 1 && path.endsWith("/")) {
+				path = path.substring(0, path.length() - 1);
+			}
+			builder.append(path.equals("/") ? "" : path);
+
+			String query = normalizeQuery(uri.getRawQuery());
+			if (!query.isEmpty()) {
+				builder.append('?').append(query);
+			}
+			return builder.toString();
+		} catch (URISyntaxException e) {
+			return trimmed;
+		}
+	}
+
+	private static String normalizeQuery(String rawQuery) {
+		if (rawQuery == null || rawQuery.isEmpty()) {
+			return "";
+		}
+		return Arrays.stream(rawQuery.split("&"))
+			.filter(param -> !param.isEmpty())
+			.filter(param -> !isTrackingParam(param.split("=", 2)[0]))
+			.sorted()
+			.collect(Collectors.joining("&"));
+	}
+
+	private static boolean isTrackingParam(String name) {
+		return name.startsWith("utm_") || TRACKING_PARAMS.contains(name);
+	}
+}
@@ -0,0 +1,30 @@
+package com.adit.backend.infra.s3.image;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 업로드 이미지 크기 변환 설정 (image.processing.*)
+ *
+ * @param enabled         변환 사용 여부
+ * @param concurrency     동시에 변환하는 이미지 수 (0 이면 CPU 코어 수)
+ * @param queueCapacity   변환 대기열 크기 (넘치면 요청한 스레드에서 직접 변환)
+ * @param jpegQuality     JPEG 품질 (0~1)
+ * @param maxSourcePixels 이 화소 수를 넘는 원본은 변환하지 않음 (압축 폭탄 방지)
+ * @param maxSourceSize   S3 에서 읽어 변환하는 원본의 최대 크기 (넘으면 내려받지 않고 변환 생략)
+ */
+@ConfigurationProperties(prefix = "image.processing")
+public record ImageProcessingProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("0") int concurrency,
+	@DefaultValue("100") int queueCapacity,
+	@DefaultValue("0.8") float jpegQuality,
+	@DefaultValue("40000000") long maxSourcePixels,
+	@DefaultValue("30MB") DataSize maxSourceSize
+) {
+
+	public int effectiveConcurrency() {
+		return concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+	}
+}
@@ -0,0 +1,285 @@
+package com.adit.backend.infra.s3.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import com.adit.backend.domain.image.enums.ImageVariant;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원본 이미지를 화면별 크기(ImageVariant)의 JPEG 로 변환 (JDK ImageIO 기반 순수 Java 코덱)
+ * <p>
+ * 원본이 상세 크기의 두 배보다 크면 디코딩 단계에서 서브샘플링해 메모리와 CPU 사용을 줄이고,
+ * 큰 크기부터 작은 크기 순으로 앞 단계 결과를 다시 줄여 만든다. EXIF 방향 정보는 반영하며
+ * 투명 배경은 흰색으로 채운다. WebP 원본은 클래스패스의 ImageIO 플러그인으로 읽는다.
+ * 스트림으로 받으면 원본 전체를 힙에 올리지 않고 디코더가 읽는 만큼만 읽는다.
+ */
+@Slf4j
+public class ImageResizer {
+
+	private static final String OUTPUT_FORMAT = "jpeg";
+	// Exif(APP1) 세그먼트는 최대 64KB 이며 SOI·APP0 뒤에 온다
+	private static final int EXIF_SCAN_LIMIT = 128 * 1024;
+
+	private final ImageProcessingProperties properties;
+
+	public ImageResizer(ImageProcessingProperties properties) {
+		this.properties = properties;
+		// 실행 가능한 jar 에서는 ServiceLoader 로 등록되는 ImageIO 플러그인(WebP 등)을 다시 찾아야 한다
+		ImageIO.scanForPlugins();
+	}
+
+	/**
+	 * @param source 원본 이미지
+	 * @return 크기별 JPEG (읽을 수 없는 형식이거나 너무 크면 빈 맵)
+	 */
+	public Map<ImageVariant, byte[]> resize(byte[] source) throws IOException {
+		return resize(new ByteArrayInputStream(source), ExifOrientation.read(source));
+	}
+
+	/**
+	 * @param source 원본 이미지 스트림 (닫는 것은 호출자 책임)
+	 * @return 크기별 JPEG (읽을 수 없는 형식이거나 너무 크면 빈 맵)
+	 */
+	public Map<ImageVariant, byte[]> resize(InputStream source) throws IOException {
+		BufferedInputStream buffered = new BufferedInputStream(source, EXIF_SCAN_LIMIT);
+		buffered.mark(EXIF_SCAN_LIMIT);
+		byte[] head = buffered.readNBytes(EXIF_SCAN_LIMIT);
+		buffered.reset();
+		return resize(buffered, ExifOrientation.read(head));
+	}
+
+	private Map<ImageVariant, byte[]> resize(InputStream source, int orientation) throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+			if (!readers.hasNext()) {
+				log.warn("[Image] 지원하지 않는 이미지 형식");
+				return Collections.emptyMap();
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+				int width = reader.getWidth(0);
+				int height = reader.getHeight(0);
+				if ((long)width * height > properties.maxSourcePixels()) {
+					log.warn("[Image] 원본 화소 수 초과로 변환 생략: {}x{}", width, height);
+					return Collections.emptyMap();
+				}
+				ImageReadParam param = reader.getDefaultReadParam();
+				int subsampling = Math.max(1, width / (ImageVariant.DETAIL.getMaxWidth() * 2));
+				param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+				BufferedImage image = orient(toRgb(reader.read(0, param)), orientation);
+
+				Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+				for (ImageVariant variant : ImageVariant.values()) {
+					image = scaleToWidth(image, variant.getMaxWidth());
+					variants.put(variant, encode(image));
+				}
+				return variants;
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	/**
+	 * 절반씩 줄이다가 마지막에 목표 너비로 맞춤 (한 번에 크게 줄일 때 생기는 계단 현상 방지)
+	 */
+	static BufferedImage scaleToWidth(BufferedImage image, int maxWidth) {
+		BufferedImage current = image;
+		while (current.getWidth() > maxWidth) {
+			int width = Math.max(maxWidth, current.getWidth() / 2);
+			int height = Math.max(1, (int)Math.round((double)current.getHeight() * width / current.getWidth()));
+			BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+			Graphics2D graphics = scaled.createGraphics();
+			try {
+				graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				graphics.drawImage(current, 0, 0, width, height, null);
+			} finally {
+				graphics.dispose();
+			}
+			current = scaled;
+		}
+		return current;
+	}
+
+	/**
+	 * EXIF 방향 값(1~8)에 따라 회전·반전
+	 */
+	static BufferedImage orient(BufferedImage image, int orientation) {
+		if (orientation < 2 || orientation > 8) {
+			return image;
+		}
+		int width = image.getWidth();
+		int height = image.getHeight();
+		boolean swap = orientation >= 5;
+		AffineTransform transform = new AffineTransform();
+		switch (orientation) {
+			case 2 -> {
+				transform.translate(width, 0);
+				transform.scale(-1, 1);
+			}
+			case 3 -> {
+				transform.translate(width, height);
+				transform.rotate(Math.PI);
+			}
+			case 4 -> {
+				transform.translate(0, height);
+				transform.scale(1, -1);
+			}
+			case 5 -> {
+				transform.rotate(-Math.PI / 2);
+				transform.scale(-1, 1);
+			}
+			case 6 -> {
+				transform.translate(height, 0);
+				transform.rotate(Math.PI / 2);
+			}
+			case 7 -> {
+				transform.translate(height, width);
+				transform.scale(-1, -1);
+				transform.rotate(-Math.PI / 2);
+				transform.scale(-1, 1);
+			}
+			default -> {
+				transform.translate(0, width);
+				transform.rotate(-Math.PI / 2);
+			}
+		}
+		BufferedImage oriented = new BufferedImage(swap ? height : width, swap ? width : height,
+			BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = oriented.createGraphics();
+		try {
+			graphics.drawImage(image, transform, null);
+		} finally {
+			graphics.dispose();
+		}
+		return oriented;
+	}
+
+	/**
+	 * 팔레트·흑백·투명 이미지를 흰 배경의 RGB 로 변환 (JPEG 인코더 입력 형식)
+	 */
+	private static BufferedImage toRgb(BufferedImage image) {
+		if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+			return image;
+		}
+		BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = rgb.createGraphics();
+		try {
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+			graphics.drawImage(image, 0, 0, null);
+		} finally {
+			graphics.dispose();
+		}
+		return rgb;
+	}
+
+	private byte[] encode(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName(OUTPUT_FORMAT).next();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (MemoryCacheImageOutputStream imageOutput = new MemoryCacheImageOutputStream(output)) {
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(properties.jpegQuality());
+			writer.setOutput(imageOutput);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return output.toByteArray();
+	}
+
+	/**
+	 * JPEG APP1(Exif) 세그먼트의 IFD0 에서 방향 태그(0x0112)만 읽음 (없으면 1)
+	 */
+	static final class ExifOrientation {
+
+		private static final int ORIENTATION_TAG = 0x0112;
+
+		private ExifOrientation() {
+		}
+
+		static int read(byte[] data) {
+			if (data.length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != 0xD8) {
+				return 1;
+			}
+			int offset = 2;
+			while (offset + 4 <= data.length && (data[offset] & 0xFF) == 0xFF) {
+				int marker = data[offset + 1] & 0xFF;
+				int length = unsignedShort(data, offset + 2, true);
+				if (marker == 0xDA || length < 2) {
+					break;
+				}
+				if (marker == 0xE1 && isExif(data, offset + 4)) {
+					return readTiff(data, offset + 10, Math.min(data.length, offset + 2 + length));
+				}
+				offset += 2 + length;
+			}
+			return 1;
+		}
+
+		private static boolean isExif(byte[] data, int offset) {
+			return offset + 6 <= data.length && data[offset] == 'E' && data[offset + 1] == 'x'
+				&& data[offset + 2] == 'i' && data[offset + 3] == 'f' && data[offset + 4] == 0 && data[offset + 5] == 0;
+		}
+
+		private static int readTiff(byte[] data, int tiff, int end) {
+			if (tiff + 8 > end) {
+				return 1;
+			}
+			boolean bigEndian = data[tiff] == 'M';
+			int ifd = tiff + (int)unsignedInt(data, tiff + 4, bigEndian);
+			if (ifd + 2 > end || ifd < tiff) {
+				return 1;
+			}
+			int entries = unsignedShort(data, ifd, bigEndian);
+			for (int i = 0; i < entries; i++) {
+				int entry = ifd + 2 + i * 12;
+				if (entry + 12 > end) {
+					break;
+				}
+				if (unsignedShort(data, entry, bigEndian) == ORIENTATION_TAG) {
+					return unsignedShort(data, entry + 8, bigEndian);
+				}
+			}
+			return 1;
+		}
+
+		private static int unsignedShort(byte[] data, int offset, boolean bigEndian) {
+			int first = data[offset] & 0xFF;
+			int second = data[offset + 1] & 0xFF;
+			return bigEndian ? first << 8 | second : second << 8 | first;
+		}
+
+		private static long unsignedInt(byte[] data, int offset, boolean bigEndian) {
+			long high = unsignedShort(data, bigEndian ? offset : offset + 2, bigEndian);
+			long low = unsignedShort(data, bigEndian ? offset + 2 : offset, bigEndian);
+			return high << 16 | low;
+		}
+	}
+}
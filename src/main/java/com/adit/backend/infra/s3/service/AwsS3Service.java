@@ -3,23 +3,36 @@ package com.adit.backend.infra.s3.service;
 import static com.adit.backend.global.error.GlobalErrorCode.*;
 import static com.adit.backend.global.util.ImageUtil.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.stream.IntStream;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.adit.backend.domain.image.entity.Image;
+import com.adit.backend.domain.image.entity.ImageVariants;
+import com.adit.backend.domain.image.enums.ImageVariant;
 import com.adit.backend.global.util.ImageUtil;
 import com.adit.backend.infra.s3.exception.S3Exception;
+import com.adit.backend.infra.s3.image.ImageProcessingProperties;
+import com.adit.backend.infra.s3.image.ImageResizer;
+import com.adit.backend.infra.s3.upload.ImportedImage;
+import com.adit.backend.infra.s3.upload.PresignedUpload;
+import com.adit.backend.infra.s3.upload.PresignedUploader;
+import com.adit.backend.infra.s3.upload.StoredObject;
+import com.adit.backend.infra.s3.upload.StreamingS3Uploader;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3URI;
@@ -27,6 +40,7 @@ import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +54,11 @@ public class AwsS3Service {
 	private final AmazonS3 amazonS3;
 	private final AmazonS3Client s3Client;
 	private final Executor imageUploadExecutor;
+	private final StreamingS3Uploader streamingS3Uploader;
+	private final PresignedUploader presignedUploader;
+	private final ImageResizer imageResizer;
+	private final ImageProcessingProperties imageProcessingProperties;
+	private final Executor imageProcessingExecutor;
 
 	@Value("${cloud.aws.s3.bucket}")
 	private String bucket;
@@ -62,18 +81,9 @@ public class AwsS3Service {
 					String originalFilename = ImageUtil.extractFileName(normalizedUrl);
 					String fileName = createFileName(originalFilename, dirName, contentType);
 
-					// ObjectMetadata 설정
-					ObjectMetadata metadata = new ObjectMetadata();
-					metadata.setContentType(contentType);
-					long contentLength = connection.getContentLengthLong();
-					if (contentLength > 0) {
-						metadata.setContentLength(contentLength);
-					}
-
-					// InputStream으로 S3에 멀티파트 업로드
+					// 풀 버퍼로 파트 단위 스트리밍 업로드 (길이를 알면 그만큼만 버퍼 사용)
 					try (InputStream inputStream = connection.getInputStream()) {
-						amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, metadata)
-							.withCannedAcl(CannedAccessControlList.PublicRead));
+						streamingS3Uploader.upload(fileName, inputStream, connection.getContentLengthLong(), contentType);
 						log.info("[S3] 파일 업로드 성공: 파일명 = {}", fileName);
 					}
 
@@ -94,6 +104,45 @@ public class AwsS3Service {
 			);
 	}
 
+	/**
+	 * 원격 이미지를 본문 SHA-256 키로 가져옴 (같은 내용의 객체가 이미 있으면 새로 저장하지 않음)
+	 */
+	@Async("imageUploadExecutor")
+	public CompletableFuture<List<ImportedImage>> importFiles(List<String> imageUrlList, String dirName) {
+		log.info("[S3] 콘텐츠 해시 업로드 시작 : {}", imageUrlList);
+
+		List<CompletableFuture<ImportedImage>> futureList = imageUrlList.stream()
+			.map(imageUrl -> CompletableFuture.supplyAsync(() -> importFile(imageUrl, dirName), imageUploadExecutor)
+				.thenCompose(imported -> createVariants(imported.url()).thenApply(imported::withVariantUrls)))
+			.toList();
+
+		return CompletableFuture.allOf(futureList.toArray(new CompletableFuture[0]))
+			.thenApply(voidResult -> futureList.stream()
+				.map(CompletableFuture::join)
+				.toList()
+			);
+	}
+
+	private ImportedImage importFile(String imageUrl, String dirName) {
+		try {
+			String normalizedUrl = ImageUtil.normalizeUrl(imageUrl);
+			URLConnection connection = new URL(normalizedUrl).openConnection();
+			connection.setConnectTimeout(5000);
+			connection.setReadTimeout(5000);
+
+			try (InputStream inputStream = connection.getInputStream()) {
+				StoredObject stored = streamingS3Uploader.uploadContentAddressed(
+					contentHash -> createContentFileName(dirName, contentHash), inputStream,
+					connection.getContentLengthLong(), connection.getContentType());
+				log.info("[S3] 파일 업로드 성공: 파일명 = {}, 재사용 = {}", stored.key(), stored.reused());
+				return new ImportedImage(normalizedUrl, getUrlFromBucket(stored.key()), stored, Map.of());
+			}
+		} catch (IOException e) {
+			log.error("[S3] 파일 업로드 실패: URL = {}, dirName = {}", imageUrl, dirName, e);
+			throw new S3Exception(S3_UPLOAD_FAILED);
+		}
+	}
+
 	@Async("imageUploadExecutor")
 	public CompletableFuture<List<Image>> uploadFiles(List<MultipartFile> newFiles, String dirName) {
 		log.info("[S3] MultipartFile 업로드 시작: {}", newFiles.size());
@@ -113,11 +162,15 @@ public class AwsS3Service {
 					amazonS3.putObject(new PutObjectRequest(bucket, fileName, file.getInputStream(), metadata)
 						.withCannedAcl(CannedAccessControlList.PublicRead));
 
-					return Image.builder().url(getUrlFromBucket(fileName)).build();
+					return getUrlFromBucket(fileName);
 				} catch (Exception e) {
 					throw new S3Exception(S3_UPLOAD_FAILED);
 				}
-			}, imageUploadExecutor))
+			}, imageUploadExecutor)
+				.thenCompose(url -> createVariants(url, file).thenApply(variantUrls -> Image.builder()
+					.url(url)
+					.variants(ImageVariants.from(variantUrls))
+					.build())))
 			.toList();
 
 		return CompletableFuture.allOf(futureList.toArray(new CompletableFuture[0]))
@@ -127,16 +180,46 @@ public class AwsS3Service {
 			);
 	}
 
+	// 클라이언트가 S3 에 바로 올릴 업로드 URL 발급
+	public PresignedUpload issueUpload(Long userId, String contentType, long size) {
+		return presignedUploader.issue(userId, contentType, size);
+	}
+
+	/**
+	 * 클라이언트가 직접 올린 객체를 확인해 dirName 아래로 옮기고 크기별 이미지를 만든 뒤 Image 반환 (저장은 호출자가 수행)
+	 * <p>
+	 * 크기 변환에 실패해도 옮긴 객체로 완료한다 (클라이언트는 원본 URL 사용).
+	 */
+	public CompletableFuture<Image> completeUpload(Long userId, String key, String dirName) {
+		String url = getUrlFromBucket(presignedUploader.complete(userId, key, dirName));
+		return createVariants(url).exceptionally(e -> {
+			log.warn("[S3] 이미지 크기 변환 실패, 원본만 사용: url = {}", url, e);
+			return Map.of();
+		}).thenApply(variantUrls -> Image.builder()
+			.url(url)
+			.variants(ImageVariants.from(variantUrls))
+			.build());
+	}
+
 	// 기존 이미지 제거 후 동일 경로에 새 이미지 업데이트 후 URL 반환
 	@Async("imageUploadExecutor")
 	public CompletableFuture<String> updateImage(String oldImageUrl, MultipartFile newImage) {
+		return updateImage(oldImageUrl, newImage, true);
+	}
+
+	// deleteOld 가 false 이면 다른 이미지가 함께 쓰는 객체이므로 기존 이미지를 남겨 둠
+	@Async("imageUploadExecutor")
+	public CompletableFuture<String> updateImage(String oldImageUrl, MultipartFile newImage, boolean deleteOld) {
 		return CompletableFuture.supplyAsync(() -> {
 			try {
-				// 기존 이미지 삭제
 				AmazonS3URI oldS3Uri = new AmazonS3URI(oldImageUrl);
 				String oldKey = oldS3Uri.getKey();
-				amazonS3.deleteObject(new DeleteObjectRequest(bucket, oldKey));
-				log.info("[S3] 기존 이미지 삭제 완료: key = {}", oldKey);
+				if (deleteOld) {
+					// 기존 이미지 삭제
+					amazonS3.deleteObject(new DeleteObjectRequest(bucket, oldKey));
+					deleteVariants(oldKey);
+					log.info("[S3] 기존 이미지 삭제 완료: key = {}", oldKey);
+				}
 
 				// 새 이미지 업로드
 				String dirName = ImageUtil.extractPathWithoutFileName(oldKey);
@@ -202,6 +285,7 @@ public class AwsS3Service {
 			AmazonS3URI s3Uri = new AmazonS3URI(fileUrl);
 			String key = s3Uri.getKey();
 			amazonS3.deleteObject(new DeleteObjectRequest(bucket, key));
+			deleteVariants(key);
 			log.info("[S3] 파일 삭제 완료: 파일명 = {}, 버킷 이름 = {}", key, bucket);
 		} catch (Exception e) {
 			log.info("[S3] 파일 삭제 실패: 경로 = {}", fileUrl);
@@ -209,9 +293,103 @@ public class AwsS3Service {
 		}
 	}
 
+	/**
+	 * 저장된 이미지의 크기별 JPEG 를 만들어 원본 키 옆에 저장하고 URL 반환 (변환 전용 실행기에서 수행)
+	 * <p>
+	 * 원본은 S3 에서 스트림으로 읽어 디코딩하며 maxSourceSize 를 넘으면 변환하지 않는다.
+	 * 콘텐츠 해시 키처럼 이미 변환한 적이 있으면 다시 만들지 않는다. 변환에 실패해도 업로드는 성공으로 두고
+	 * 빈 맵을 반환하며, 이 경우 클라이언트는 원본 URL 을 사용한다.
+	 */
+	public CompletableFuture<Map<ImageVariant, String>> createVariants(String imageUrl) {
+		return createVariants(imageUrl, this::openSource);
+	}
+
+	/**
+	 * 방금 올린 파일에서 바로 변환 (S3 에서 다시 내려받지 않음)
+	 */
+	public CompletableFuture<Map<ImageVariant, String>> createVariants(String imageUrl, MultipartFile source) {
+		return createVariants(imageUrl, key -> source.getInputStream());
+	}
+
+	private CompletableFuture<Map<ImageVariant, String>> createVariants(String imageUrl, SourceOpener opener) {
+		if (!imageProcessingProperties.enabled()) {
+			return CompletableFuture.completedFuture(Map.of());
+		}
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				String key = new AmazonS3URI(imageUrl).getKey();
+				Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+				if (variantsExist(key)) {
+					for (ImageVariant variant : ImageVariant.values()) {
+						variantUrls.put(variant, getUrlFromBucket(createVariantFileName(key, variant.getSuffix())));
+					}
+					return variantUrls;
+				}
+				Map<ImageVariant, byte[]> variants;
+				try (InputStream source = opener.open(key)) {
+					if (source == null) {
+						return Map.of();
+					}
+					variants = imageResizer.resize(source);
+				}
+				for (Map.Entry<ImageVariant, byte[]> entry : variants.entrySet()) {
+					String variantKey = createVariantFileName(key, entry.getKey().getSuffix());
+					ObjectMetadata metadata = new ObjectMetadata();
+					metadata.setContentType(MediaType.IMAGE_JPEG_VALUE);
+					metadata.setContentLength(entry.getValue().length);
+					amazonS3.putObject(new PutObjectRequest(bucket, variantKey,
+						new ByteArrayInputStream(entry.getValue()), metadata)
+						.withCannedAcl(CannedAccessControlList.PublicRead));
+					variantUrls.put(entry.getKey(), getUrlFromBucket(variantKey));
+				}
+				log.info("[S3] 이미지 크기 변환 완료: key = {}", key);
+				return variantUrls;
+			} catch (IOException | RuntimeException e) {
+				log.warn("[S3] 이미지 크기 변환 실패, 원본만 사용: url = {}", imageUrl, e);
+				return Map.of();
+			}
+		}, imageProcessingExecutor);
+	}
+
+	/**
+	 * 변환할 원본을 S3 에서 스트림으로 엶 (maxSourceSize 를 넘으면 내려받지 않고 null)
+	 */
+	private InputStream openSource(String key) throws IOException {
+		S3Object object = amazonS3.getObject(bucket, key);
+		long size = object.getObjectMetadata().getContentLength();
+		if (size > imageProcessingProperties.maxSourceSize().toBytes()) {
+			object.getObjectContent().abort();
+			object.close();
+			log.warn("[S3] 원본 크기 초과로 변환 생략: key = {}, size = {}", key, size);
+			return null;
+		}
+		return object.getObjectContent();
+	}
+
+	private boolean variantsExist(String key) {
+		for (ImageVariant variant : ImageVariant.values()) {
+			if (!amazonS3.doesObjectExist(bucket, createVariantFileName(key, variant.getSuffix()))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void deleteVariants(String key) {
+		for (ImageVariant variant : ImageVariant.values()) {
+			amazonS3.deleteObject(new DeleteObjectRequest(bucket, createVariantFileName(key, variant.getSuffix())));
+		}
+	}
+
 	private String getUrlFromBucket(String fileName) {
 		return s3Client.getUrl(bucket, fileName).toString();
 	}
 
+	@FunctionalInterface
+	private interface SourceOpener {
+
+		InputStream open(String key) throws IOException;
+	}
+
 }
 
@@ -0,0 +1,83 @@
+package com.adit.backend.infra.s3.upload;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * 채워진 버퍼 조각들을 복사 없이 순서대로 읽는 스트림
+ * <p>
+ * SDK 가 재시도 시 처음부터 다시 읽을 수 있도록 mark/reset 을 지원한다.
+ */
+class ChunkInputStream extends InputStream {
+
+	private final List<ByteBuffer> chunks;
+	private int index;
+	private int markIndex;
+	private int markPosition;
+
+	/**
+	 * @param chunks flip 되어 읽을 준비가 된 버퍼 조각들
+	 */
+	ChunkInputStream(List<ByteBuffer> chunks) {
+		this.chunks = chunks.stream().map(ByteBuffer::duplicate).toList();
+	}
+
+	@Override
+	public int read() {
+		ByteBuffer current = current();
+		return current == null ? -1 : current.get() & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] buffer, int offset, int length) {
+		if (length == 0) {
+			return 0;
+		}
+		ByteBuffer current = current();
+		if (current == null) {
+			return -1;
+		}
+		int read = Math.min(length, current.remaining());
+		current.get(buffer, offset, read);
+		return read;
+	}
+
+	@Override
+	public int available() {
+		long remaining = 0;
+		for (int i = index; i < chunks.size(); i++) {
+			remaining += chunks.get(i).remaining();
+		}
+		return (int)Math.min(Integer.MAX_VALUE, remaining);
+	}
+
+	@Override
+	public boolean markSupported() {
+		return true;
+	}
+
+	@Override
+	public synchronized void mark(int readLimit) {
+		markIndex = index;
+		markPosition = index < chunks.size() ? chunks.get(index).position() : 0;
+	}
+
+	@Override
+	public synchronized void reset() {
+		for (int i = markIndex + 1; i < chunks.size(); i++) {
+			chunks.get(i).rewind();
+		}
+		index = markIndex;
+		if (index < chunks.size()) {
+			chunks.get(index).position(markPosition);
+		}
+	}
+
+	private ByteBuffer current() {
+		while (index < chunks.size() && !chunks.get(index).hasRemaining()) {
+			index++;
+		}
+		return index < chunks.size() ? chunks.get(index) : null;
+	}
+}
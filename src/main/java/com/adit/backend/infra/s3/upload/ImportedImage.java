@@ -0,0 +1,20 @@
+package com.adit.backend.infra.s3.upload;
+
+import java.util.Map;
+
+import com.adit.backend.domain.image.enums.ImageVariant;
+
+/**
+ * 원격 이미지를 콘텐츠 해시 키로 가져온 결과
+ *
+ * @param sourceUrl   원본 URL (정규화 기준)
+ * @param url         저장된 객체 URL
+ * @param stored      업로드 결과 (본문 해시, 재사용 여부)
+ * @param variantUrls 크기별 변환 이미지 URL (변환 실패 시 비어 있음)
+ */
+public record ImportedImage(String sourceUrl, String url, StoredObject stored, Map<ImageVariant, String> variantUrls) {
+
+	public ImportedImage withVariantUrls(Map<ImageVariant, String> variantUrls) {
+		return new ImportedImage(sourceUrl, url, stored, variantUrls);
+	}
+}
@@ -0,0 +1,14 @@
+package com.adit.backend.infra.s3.upload;
+
+import java.time.Instant;
+
+/**
+ * 발급한 직접 업로드 정보
+ *
+ * @param key         업로드할 임시 객체 키 (완료 요청에 그대로 전달)
+ * @param uploadUrl   PUT 으로 본문을 보낼 presigned URL
+ * @param contentType 업로드 요청에 반드시 같은 값으로 보내야 하는 Content-Type (서명에 포함)
+ * @param expiresAt   uploadUrl 만료 시각
+ */
+public record PresignedUpload(String key, String uploadUrl, String contentType, Instant expiresAt) {
+}
@@ -0,0 +1,23 @@
+package com.adit.backend.infra.s3.upload;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 클라이언트 직접 업로드(presigned URL) 설정 (cloud.aws.s3.presigned.*)
+ *
+ * @param expiry              발급한 업로드 URL 의 유효 시간
+ * @param maxObjectSize       업로드 완료 시 허용하는 최대 크기 (presigned PUT 은 크기를 제한할 수 없어 완료 시 확인)
+ * @param allowedContentTypes 발급을 허용하는 Content-Type
+ */
+@ConfigurationProperties(prefix = "cloud.aws.s3.presigned")
+public record PresignedUploadProperties(
+	@DefaultValue("10m") Duration expiry,
+	@DefaultValue("20MB") DataSize maxObjectSize,
+	@DefaultValue({"image/jpeg", "image/png", "image/gif", "image/webp", "image/heic"}) List<String> allowedContentTypes
+) {
+}
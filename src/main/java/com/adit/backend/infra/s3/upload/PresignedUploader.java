@@ -0,0 +1,188 @@
+package com.adit.backend.infra.s3.upload;
+
+import static com.adit.backend.global.error.GlobalErrorCode.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+
+import com.adit.backend.global.util.ImageUtil;
+import com.adit.backend.infra.s3.exception.S3Exception;
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클라이언트가 애플리케이션 서버를 거치지 않고 S3 에 바로 올리는 업로드 (presigned PUT)
+ * <p>
+ * 업로드 URL 은 사용자별 임시 경로(UPLOAD/{ownerId}/)에만 발급하고 Content-Type 을 서명에 포함한다. 완료 요청이 오면
+ * 객체의 크기·형식과 앞부분 바이트(이미지 시그니처)가 Content-Type 과 맞는지 확인한 뒤 공개 경로로 서버 측 복사하고
+ * 임시 객체를 지운다.
+ * 완료되지 않은 임시 객체는 버킷 수명 주기 규칙(UPLOAD/ 접두사)으로 정리한다.
+ */
+@Slf4j
+public class PresignedUploader {
+
+	private static final String UPLOAD_DIR = "UPLOAD";
+	private static final int SIGNATURE_LENGTH = 12;
+	// ftyp 상자의 주 브랜드 중 HEIF 이미지(영상 MP4·MOV 등 제외)
+	private static final Set<String> HEIF_BRANDS = Set.of("heic", "heix", "mif1", "msf1");
+	private static final String AVIF_BRAND = "avif";
+
+	private final AmazonS3 amazonS3;
+	private final String bucket;
+	private final PresignedUploadProperties properties;
+
+	public PresignedUploader(AmazonS3 amazonS3, String bucket, PresignedUploadProperties properties) {
+		this.amazonS3 = amazonS3;
+		this.bucket = bucket;
+		this.properties = properties;
+	}
+
+	/**
+	 * 업로드 URL 발급
+	 *
+	 * @param ownerId     업로드하는 사용자 (완료 요청 때 같은 사용자인지 확인)
+	 * @param contentType 업로드할 파일 형식
+	 * @param size        업로드할 파일 크기 (클라이언트가 알린 값, 완료 시 실제 크기를 다시 확인)
+	 */
+	public PresignedUpload issue(Long ownerId, String contentType, long size) {
+		if (contentType == null || !properties.allowedContentTypes().contains(contentType.toLowerCase())) {
+			throw new S3Exception(S3_INVALID_FILE);
+		}
+		if (size <= 0 || size > properties.maxObjectSize().toBytes()) {
+			throw new S3Exception(S3_UPLOAD_TOO_LARGE);
+		}
+		String key = uploadPrefix(ownerId) + UUID.randomUUID() + ImageUtil.getFileExtension("", contentType);
+		Instant expiresAt = Instant.now().plus(properties.expiry());
+		GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+			.withExpiration(Date.from(expiresAt))
+			.withContentType(contentType);
+		URL uploadUrl = amazonS3.generatePresignedUrl(request);
+		log.info("[S3] 직접 업로드 URL 발급: key = {}, 크기 = {}", key, size);
+		return new PresignedUpload(key, uploadUrl.toString(), contentType, expiresAt);
+	}
+
+	/**
+	 * 업로드된 임시 객체를 확인하고 dirName 아래 공개 객체로 옮김
+	 *
+	 * @param ownerId 업로드 URL 을 발급받은 사용자
+	 * @param key     발급 때 받은 임시 객체 키
+	 * @param dirName 옮길 경로
+	 * @return 옮긴 객체 키
+	 */
+	public String complete(Long ownerId, String key, String dirName) {
+		String prefix = uploadPrefix(ownerId);
+		if (key == null || !key.startsWith(prefix) || key.indexOf('/', prefix.length()) != -1) {
+			throw new S3Exception(FORBIDDEN_ERROR);
+		}
+		try {
+			ObjectMetadata metadata = getMetadata(key);
+			if (metadata.getContentLength() > properties.maxObjectSize().toBytes()) {
+				reject(key, "크기 초과: " + metadata.getContentLength() + "B");
+				throw new S3Exception(S3_UPLOAD_TOO_LARGE);
+			}
+			String contentType = metadata.getContentType();
+			if (contentType == null || !properties.allowedContentTypes().contains(contentType.toLowerCase())
+				|| !isImage(readSignature(key), contentType)) {
+				reject(key, "이미지가 아님: " + contentType);
+				throw new S3Exception(S3_INVALID_FILE);
+			}
+
+			String targetKey = dirName + "/" + key.substring(prefix.length());
+			amazonS3.copyObject(new CopyObjectRequest(bucket, key, bucket, targetKey)
+				.withCannedAccessControlList(CannedAccessControlList.PublicRead));
+			amazonS3.deleteObject(bucket, key);
+			log.info("[S3] 직접 업로드 완료: key = {}, 크기 = {}B", targetKey, metadata.getContentLength());
+			return targetKey;
+		} catch (IOException | AmazonClientException e) {
+			log.error("[S3] 직접 업로드 확인 실패: key = {}", key, e);
+			throw new S3Exception(S3_UPLOAD_FAILED);
+		}
+	}
+
+	private ObjectMetadata getMetadata(String key) {
+		try {
+			return amazonS3.getObjectMetadata(bucket, key);
+		} catch (AmazonS3Exception e) {
+			if (e.getStatusCode() == 404) {
+				throw new S3Exception(S3_UPLOAD_NOT_FOUND);
+			}
+			throw e;
+		}
+	}
+
+	// 앞부분만 범위 요청으로 읽음 (본문 전체를 애플리케이션으로 가져오지 않음)
+	private byte[] readSignature(String key) throws IOException {
+		try (S3Object object = amazonS3.getObject(
+			new GetObjectRequest(bucket, key).withRange(0, SIGNATURE_LENGTH - 1));
+			 InputStream content = object.getObjectContent()) {
+			return content.readNBytes(SIGNATURE_LENGTH);
+		}
+	}
+
+	private void reject(String key, String reason) {
+		log.warn("[S3] 직접 업로드 거부: key = {}, {}", key, reason);
+		amazonS3.deleteObject(bucket, key);
+	}
+
+	private static String uploadPrefix(Long ownerId) {
+		return UPLOAD_DIR + "/" + ownerId + "/";
+	}
+
+	/**
+	 * 시그니처로 판별한 형식이 Content-Type 과 같은지 (Content-Type 만 바꾼 다른 파일 차단, HEIC 와 HEIF 는 같은 형식으로 봄)
+	 */
+	static boolean isImage(byte[] head, String contentType) {
+		String detected = detectContentType(head);
+		return detected != null && detected.equals(normalize(contentType));
+	}
+
+	/**
+	 * JPEG, PNG, GIF, WebP, HEIF(ftyp 주 브랜드 heic·heix·mif1·msf1), AVIF 시그니처로 형식 판별 (그 밖의 형식이면 null)
+	 */
+	static String detectContentType(byte[] head) {
+		if (head.length >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+			return "image/jpeg";
+		}
+		if (head.length >= 4 && (head[0] & 0xFF) == 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G') {
+			return "image/png";
+		}
+		if (head.length >= 4 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F' && head[3] == '8') {
+			return "image/gif";
+		}
+		if (head.length >= 12 && head[0] == 'R' && head[1] == 'I' && head[2] == 'F' && head[3] == 'F'
+			&& head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+			return "image/webp";
+		}
+		if (head.length >= 12 && head[4] == 'f' && head[5] == 't' && head[6] == 'y' && head[7] == 'p') {
+			String brand = new String(head, 8, 4, StandardCharsets.US_ASCII);
+			if (HEIF_BRANDS.contains(brand)) {
+				return "image/heic";
+			}
+			if (AVIF_BRAND.equals(brand)) {
+				return "image/avif";
+			}
+		}
+		return null;
+	}
+
+	private static String normalize(String contentType) {
+		String normalized = contentType.toLowerCase();
+		return normalized.equals("image/heif") ? "image/heic" : normalized;
+	}
+}
@@ -0,0 +1,40 @@
+package com.adit.backend.infra.s3.upload;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 원격 이미지 스트리밍 업로드 설정 (cloud.aws.s3.upload.*)
+ *
+ * @param chunkSize      풀에서 빌려 쓰는 버퍼 한 조각의 크기
+ * @param partSize       멀티파트 업로드 파트 크기 (S3 는 마지막 파트를 제외하고 5MB 이상, chunkSize 의 배수로 올림)
+ * @param maxInFlight    모든 업로드가 동시에 점유할 수 있는 버퍼 메모리 상한
+ * @param acquireTimeout 버퍼를 기다리는 최대 시간 (초과 시 업로드 실패)
+ * @param maxObjectSize  원격 이미지 최대 크기 (초과 시 업로드 중단)
+ */
+@ConfigurationProperties(prefix = "cloud.aws.s3.upload")
+public record S3UploadProperties(
+	@DefaultValue("256KB") DataSize chunkSize,
+	@DefaultValue("5MB") DataSize partSize,
+	@DefaultValue("64MB") DataSize maxInFlight,
+	@DefaultValue("30s") Duration acquireTimeout,
+	@DefaultValue("30MB") DataSize maxObjectSize
+) {
+
+	/**
+	 * 파트 하나를 채우는 데 필요한 버퍼 조각 수
+	 */
+	public int chunksPerPart() {
+		return (int)Math.max(1, (partSize.toBytes() + chunkSize.toBytes() - 1) / chunkSize.toBytes());
+	}
+
+	/**
+	 * 풀 전체 버퍼 조각 수 (최소 한 파트 분량)
+	 */
+	public int maxChunks() {
+		return (int)Math.max(chunksPerPart(), maxInFlight.toBytes() / chunkSize.toBytes());
+	}
+}
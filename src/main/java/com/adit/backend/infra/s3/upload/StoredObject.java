@@ -0,0 +1,12 @@
+package com.adit.backend.infra.s3.upload;
+
+/**
+ * 업로드 결과
+ *
+ * @param key         저장된 객체 키
+ * @param contentHash 본문 SHA-256 (16진수)
+ * @param size        본문 크기
+ * @param reused      같은 내용의 객체가 이미 있어 새로 저장하지 않았는지 여부
+ */
+public record StoredObject(String key, String contentHash, long size, boolean reused) {
+}
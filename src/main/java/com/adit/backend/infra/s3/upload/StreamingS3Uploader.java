@@ -0,0 +1,334 @@
+package com.adit.backend.infra.s3.upload;
+
+import static com.adit.backend.global.error.GlobalErrorCode.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.adit.backend.infra.s3.exception.S3Exception;
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 길이를 모르는 원격 스트림을 전체를 메모리에 모으지 않고 S3 에 업로드
+ * <p>
+ * 풀에서 빌린 버퍼 조각에 파트 크기만큼 읽고, 파트가 차면 멀티파트 업로드로 보낸 뒤 같은 조각을 다음 파트에 재사용한다.
+ * 첫 파트를 채우기 전에 스트림이 끝나면 정확한 길이로 한 번에 putObject 한다.
+ * 업로드 하나가 쥐는 버퍼는 최대 한 파트 분량이며, 원본 길이를 알고 파트보다 작으면 그 길이만큼만 빌린다.
+ * 본문이 알려준 길이보다 길면 읽은 앞부분을 힙에 옮기고 빌린 조각을 반납한 뒤 한 파트 분량을 새로 빌린다.
+ * 읽는 동안 본문의 SHA-256 을 함께 계산한다.
+ */
+@Slf4j
+public class StreamingS3Uploader {
+
+	private static final String TEMP_KEY_PREFIX = "upload-";
+
+	private final AmazonS3 amazonS3;
+	private final String bucket;
+	private final S3UploadProperties properties;
+	private final UploadBufferPool bufferPool;
+
+	public StreamingS3Uploader(AmazonS3 amazonS3, String bucket, S3UploadProperties properties,
+		UploadBufferPool bufferPool) {
+		this.amazonS3 = amazonS3;
+		this.bucket = bucket;
+		this.properties = properties;
+		this.bufferPool = bufferPool;
+	}
+
+	/**
+	 * 정해진 키로 업로드
+	 *
+	 * @param key           저장할 객체 키
+	 * @param source        원본 스트림 (닫는 것은 호출자 책임)
+	 * @param contentLength 원본 길이 (모르면 0 이하)
+	 * @param contentType   Content-Type
+	 */
+	public StoredObject upload(String key, InputStream source, long contentLength, String contentType) {
+		return upload(key, null, source, contentLength, contentType);
+	}
+
+	/**
+	 * 본문의 SHA-256 으로 키를 정해 업로드 (같은 내용의 객체가 이미 있으면 저장하지 않고 재사용)
+	 * <p>
+	 * 한 파트 이하는 해시를 계산한 뒤 바로 저장하고, 그보다 크면 임시 키로 멀티파트 업로드한 뒤
+	 * 해시 키로 서버 측 복사한다. 이미 있는 내용이면 멀티파트 업로드를 취소한다.
+	 *
+	 * @param keyForHash 해시(16진수)로 객체 키를 만드는 함수
+	 */
+	public StoredObject uploadContentAddressed(Function<String, String> keyForHash, InputStream source,
+		long contentLength, String contentType) {
+		return upload(null, keyForHash, source, contentLength, contentType);
+	}
+
+	private StoredObject upload(String fixedKey, Function<String, String> keyForHash, InputStream source,
+		long contentLength, String contentType) {
+		String name = fixedKey != null ? fixedKey : "(content-addressed)";
+		long maxObjectSize = properties.maxObjectSize().toBytes();
+		if (contentLength > maxObjectSize) {
+			log.warn("[S3] 최대 크기 초과로 업로드 거절: key = {}, contentLength = {}", name, contentLength);
+			throw new S3Exception(S3_INVALID_FILE);
+		}
+		int chunksPerPart = properties.chunksPerPart();
+		List<ByteBuffer> chunks = acquire(contentLength > 0
+			? (int)Math.min(chunksPerPart, contentLength / bufferPool.chunkSize() + 1) : chunksPerPart);
+		PushbackInputStream input = new PushbackInputStream(source, 1);
+		ReadableByteChannel channel = Channels.newChannel(input);
+		MessageDigest digest = sha256();
+		String uploadKey = null;
+		String uploadId = null;
+		boolean completed = false;
+		try {
+			List<PartETag> partETags = new ArrayList<>();
+			long total = 0;
+			while (true) {
+				long filled = fill(channel, chunks);
+				boolean last = filled < capacity(chunks) || isEnd(input);
+				if (!last && chunks.size() < chunksPerPart) {
+					// 알려준 길이보다 본문이 긴 경우: 조각을 쥔 채 더 기다리면 다른 업로드와 서로 일부만 쥔 채 멈출 수 있으므로
+					// 읽은 앞부분을 힙으로 옮기고 조각을 모두 반납한 뒤 한 파트 분량을 한 번에 다시 빌린다
+					byte[] head = copy(chunks, filled);
+					bufferPool.release(chunks);
+					chunks = List.of();
+					chunks = acquire(chunksPerPart);
+					filled = refill(channel, chunks, head);
+					last = filled < capacity(chunks) || isEnd(input);
+				}
+				total += filled;
+				if (total > maxObjectSize) {
+					log.warn("[S3] 최대 크기 초과로 업로드 중단: key = {}, 읽은 크기 = {}", name, total);
+					throw new S3Exception(S3_INVALID_FILE);
+				}
+				update(digest, chunks);
+				if (uploadId == null && last) {
+					String contentHash = HexFormat.of().formatHex(digest.digest());
+					String key = fixedKey != null ? fixedKey : keyForHash.apply(contentHash);
+					boolean reused = fixedKey == null && amazonS3.doesObjectExist(bucket, key);
+					if (!reused) {
+						putObject(key, chunks, filled, contentType);
+					}
+					return new StoredObject(key, contentHash, total, reused);
+				}
+				if (uploadId == null) {
+					uploadKey = fixedKey != null ? fixedKey : keyForHash.apply(TEMP_KEY_PREFIX + UUID.randomUUID());
+					uploadId = initiate(uploadKey, contentType);
+				}
+				partETags.add(uploadPart(uploadKey, uploadId, partETags.size() + 1, chunks, filled, last));
+				if (last) {
+					break;
+				}
+			}
+			String contentHash = HexFormat.of().formatHex(digest.digest());
+			String key = fixedKey != null ? fixedKey : keyForHash.apply(contentHash);
+			if (fixedKey == null && amazonS3.doesObjectExist(bucket, key)) {
+				abort(uploadKey, uploadId);
+				completed = true;
+				return new StoredObject(key, contentHash, total, true);
+			}
+			amazonS3.completeMultipartUpload(
+				new CompleteMultipartUploadRequest(bucket, uploadKey, uploadId, partETags));
+			completed = true;
+			log.debug("[S3] 멀티파트 업로드 완료: key = {}, parts = {}, size = {}", uploadKey, partETags.size(), total);
+			if (!key.equals(uploadKey)) {
+				move(uploadKey, key);
+			}
+			return new StoredObject(key, contentHash, total, false);
+		} catch (IOException | AmazonClientException e) {
+			log.error("[S3] 스트리밍 업로드 실패: key = {}", name, e);
+			throw new S3Exception(S3_UPLOAD_FAILED);
+		} finally {
+			if (uploadId != null && !completed) {
+				abort(uploadKey, uploadId);
+			}
+			bufferPool.release(chunks);
+		}
+	}
+
+	private List<ByteBuffer> acquire(int count) {
+		try {
+			List<ByteBuffer> chunks = bufferPool.acquire(count, properties.acquireTimeout());
+			if (chunks == null) {
+				log.error("[S3] 업로드 버퍼 대기 시간 초과: 요청 {}개, 사용 중 {}/{}", count, bufferPool.inUse(),
+					bufferPool.maxChunks());
+				throw new S3Exception(S3_UPLOAD_FAILED);
+			}
+			return chunks;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new S3Exception(S3_UPLOAD_FAILED);
+		}
+	}
+
+	/**
+	 * 조각들을 처음부터 채우고 읽기 모드로 전환, 읽은 바이트 수 반환 (다 채우지 못했으면 스트림 끝)
+	 */
+	private static long fill(ReadableByteChannel channel, List<ByteBuffer> chunks) throws IOException {
+		for (ByteBuffer chunk : chunks) {
+			chunk.clear();
+		}
+		return fillRemaining(channel, chunks);
+	}
+
+	/**
+	 * 앞서 읽은 내용(head)을 조각 앞부분에 옮겨 쓰고 나머지를 스트림에서 채움, 채운 전체 바이트 수 반환
+	 */
+	private static long refill(ReadableByteChannel channel, List<ByteBuffer> chunks, byte[] head)
+		throws IOException {
+		int offset = 0;
+		for (ByteBuffer chunk : chunks) {
+			chunk.clear();
+			int length = Math.min(chunk.remaining(), head.length - offset);
+			chunk.put(head, offset, length);
+			offset += length;
+		}
+		return fillRemaining(channel, chunks);
+	}
+
+	private static long fillRemaining(ReadableByteChannel channel, List<ByteBuffer> chunks) throws IOException {
+		long filled = 0;
+		boolean end = false;
+		for (ByteBuffer chunk : chunks) {
+			while (!end && chunk.hasRemaining()) {
+				end = channel.read(chunk) < 0;
+			}
+			filled += chunk.position();
+			chunk.flip();
+		}
+		return filled;
+	}
+
+	private static byte[] copy(List<ByteBuffer> chunks, long size) {
+		byte[] copy = new byte[(int)size];
+		int offset = 0;
+		for (ByteBuffer chunk : chunks) {
+			int length = chunk.remaining();
+			chunk.duplicate().get(copy, offset, length);
+			offset += length;
+		}
+		return copy;
+	}
+
+	private static long capacity(List<ByteBuffer> chunks) {
+		long capacity = 0;
+		for (ByteBuffer chunk : chunks) {
+			capacity += chunk.capacity();
+		}
+		return capacity;
+	}
+
+	/**
+	 * 버퍼를 가득 채운 직후 스트림이 끝났는지 한 바이트 읽어 확인 (남은 바이트는 되돌림)
+	 */
+	private static boolean isEnd(PushbackInputStream input) throws IOException {
+		int next = input.read();
+		if (next < 0) {
+			return true;
+		}
+		input.unread(next);
+		return false;
+	}
+
+	private void putObject(String key, List<ByteBuffer> chunks, long size, String contentType) {
+		ObjectMetadata metadata = metadata(contentType);
+		metadata.setContentLength(size);
+		PutObjectRequest request = new PutObjectRequest(bucket, key, new ChunkInputStream(chunks), metadata)
+			.withCannedAcl(CannedAccessControlList.PublicRead);
+		request.getRequestClientOptions().setReadLimit(readLimit(size));
+		amazonS3.putObject(request);
+	}
+
+	private String initiate(String key, String contentType) {
+		return amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata(contentType))
+			.withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+	}
+
+	private PartETag uploadPart(String key, String uploadId, int partNumber, List<ByteBuffer> chunks, long size,
+		boolean last) {
+		UploadPartRequest request = new UploadPartRequest()
+			.withBucketName(bucket)
+			.withKey(key)
+			.withUploadId(uploadId)
+			.withPartNumber(partNumber)
+			.withPartSize(size)
+			.withInputStream(new ChunkInputStream(chunks))
+			.withLastPart(last);
+		request.getRequestClientOptions().setReadLimit(readLimit(size));
+		return amazonS3.uploadPart(request).getPartETag();
+	}
+
+	/**
+	 * 임시 키로 올린 객체를 해시 키로 서버 측 복사 후 임시 객체 삭제
+	 */
+	private void move(String from, String to) {
+		try {
+			amazonS3.copyObject(new CopyObjectRequest(bucket, from, bucket, to)
+				.withCannedAccessControlList(CannedAccessControlList.PublicRead));
+		} finally {
+			try {
+				amazonS3.deleteObject(bucket, from);
+			} catch (AmazonClientException e) {
+				log.warn("[S3] 임시 객체 삭제 실패: key = {}", from, e);
+			}
+		}
+	}
+
+	private void abort(String key, String uploadId) {
+		try {
+			amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+			log.info("[S3] 멀티파트 업로드 취소: key = {}", key);
+		} catch (AmazonClientException e) {
+			log.warn("[S3] 멀티파트 업로드 취소 실패: key = {}, uploadId = {}", key, uploadId, e);
+		}
+	}
+
+	private static void update(MessageDigest digest, List<ByteBuffer> chunks) {
+		for (ByteBuffer chunk : chunks) {
+			digest.update(chunk.duplicate());
+		}
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static ObjectMetadata metadata(String contentType) {
+		ObjectMetadata metadata = new ObjectMetadata();
+		if (contentType != null) {
+			metadata.setContentType(contentType);
+		}
+		return metadata;
+	}
+
+	/**
+	 * 재시도 시 처음부터 다시 읽을 수 있도록 mark 범위를 본문 전체로 지정
+	 */
+	private static int readLimit(long size) {
+		return (int)Math.min(Integer.MAX_VALUE, size + 1);
+	}
+}
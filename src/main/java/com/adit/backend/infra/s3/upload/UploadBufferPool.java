@@ -0,0 +1,67 @@
+package com.adit.backend.infra.s3.upload;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드용 고정 크기 버퍼 풀 (힙 밖 direct 버퍼, 처음 필요할 때 만들고 반납 후 재사용)
+ * <p>
+ * 빌려 간 조각 수를 세마포어로 제한하므로 실행기의 동시 업로드 수와 관계없이 업로드 버퍼 메모리는
+ * chunkSize * maxChunks 를 넘지 않는다. 업로드 하나에 필요한 조각을 한 번에 빌리므로 일부만 쥔 채 서로 기다리지 않는다.
+ */
+public class UploadBufferPool {
+
+	private final int chunkSize;
+	private final int maxChunks;
+	private final Semaphore permits;
+	private final Queue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+
+	public UploadBufferPool(int chunkSize, int maxChunks) {
+		this.chunkSize = chunkSize;
+		this.maxChunks = maxChunks;
+		this.permits = new Semaphore(maxChunks, true);
+	}
+
+	/**
+	 * 비어 있는 버퍼 조각 count 개를 한 번에 빌림 (timeout 안에 얻지 못하면 null)
+	 */
+	public List<ByteBuffer> acquire(int count, Duration timeout) throws InterruptedException {
+		if (count > maxChunks || !permits.tryAcquire(count, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+			return null;
+		}
+		List<ByteBuffer> chunks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			ByteBuffer buffer = free.poll();
+			chunks.add(buffer != null ? buffer.clear() : ByteBuffer.allocateDirect(chunkSize));
+		}
+		return chunks;
+	}
+
+	public void release(List<ByteBuffer> chunks) {
+		for (ByteBuffer chunk : chunks) {
+			free.offer(chunk.clear());
+		}
+		permits.release(chunks.size());
+	}
+
+	public int chunkSize() {
+		return chunkSize;
+	}
+
+	public int maxChunks() {
+		return maxChunks;
+	}
+
+	/**
+	 * 현재 빌려 간 조각 수
+	 */
+	public int inUse() {
+		return maxChunks - permits.availablePermits();
+	}
+}
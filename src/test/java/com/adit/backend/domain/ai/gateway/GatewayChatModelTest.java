@@ -0,0 +1,263 @@
+package com.adit.backend.domain.ai.gateway;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+
+import com.adit.backend.domain.ai.exception.AiException;
+import com.adit.backend.domain.ai.util.TokenEstimator;
+import com.adit.backend.global.error.GlobalErrorCode;
+
+/**
+ * 게이트웨이 회로 차단·분당 한도·재시도 확인 (시계는 테스트가 직접 움직이고, 제공자는 미리 정한 순서대로 응답)
+ */
+class GatewayChatModelTest {
+
+	private static final Prompt PROMPT = new Prompt("성수동 카페 요약");
+	private static final ChatResponse RESPONSE = new ChatResponse(List.of(new Generation(new AssistantMessage("{}"))));
+	private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+	private final AtomicLong now = new AtomicLong();
+	private final ScriptedChatModel provider = new ScriptedChatModel();
+	private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void circuitOpensAfterConsecutiveTransientFailuresAndRejectsWithoutCallingProvider() {
+		GatewayChatModel gateway = gateway(properties(4, Duration.ofSeconds(1), 100, 1), 0);
+		openCircuit(gateway);
+
+		assertErrorCode(GlobalErrorCode.AI_PROVIDER_UNAVAILABLE, () -> gateway.call(PROMPT));
+		assertEquals(3, provider.calls.get());
+	}
+
+	@Test
+	void halfOpenCircuitLetsOneTrialThroughAndClosesOnSuccess() {
+		GatewayChatModel gateway = gateway(properties(4, Duration.ofSeconds(1), 100, 1), 0);
+		openCircuit(gateway);
+
+		now.addAndGet(OPEN_DURATION.toNanos() - 1);
+		assertErrorCode(GlobalErrorCode.AI_PROVIDER_UNAVAILABLE, () -> gateway.call(PROMPT));
+		now.addAndGet(1);
+		provider.respond(() -> RESPONSE).respond(() -> RESPONSE);
+
+		assertEquals(RESPONSE, gateway.call(PROMPT));
+		assertEquals(RESPONSE, gateway.call(PROMPT));
+		assertEquals(5, provider.calls.get());
+	}
+
+	@Test
+	void failedTrialReopensCircuit() {
+		GatewayChatModel gateway = gateway(properties(4, Duration.ofSeconds(1), 100, 1), 0);
+		openCircuit(gateway);
+		now.addAndGet(OPEN_DURATION.toNanos());
+		provider.respond(ScriptedChatModel::unavailable);
+
+		assertThrows(TransientAiException.class, () -> gateway.call(PROMPT));
+		assertErrorCode(GlobalErrorCode.AI_PROVIDER_UNAVAILABLE, () -> gateway.call(PROMPT));
+		assertEquals(4, provider.calls.get());
+	}
+
+	@Test
+	void rateLimitRejectsWhenRefillWaitExceedsAcquireTimeout() {
+		GatewayChatModel gateway = gateway(properties(4, Duration.ofSeconds(1), 2, 1), 0);
+		provider.respond(() -> RESPONSE).respond(() -> RESPONSE).respond(() -> RESPONSE);
+		gateway.call(PROMPT);
+		gateway.call(PROMPT);
+
+		// 분당 2건이면 다음 1건은 30초 뒤에 채워진다
+		assertErrorCode(GlobalErrorCode.AI_SERVER_BUSY, () -> gateway.call(PROMPT));
+		assertEquals(2, provider.calls.get());
+
+		now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+		assertEquals(RESPONSE, gateway.call(PROMPT));
+	}
+
+	@Test
+	void rateLimitWaitsForRefillWithinAcquireTimeout() {
+		// 분당 60000 토큰 = 1ms 에 1토큰, 두 번째 호출은 50토큰이 모자라 약 50ms 를 기다린다
+		int tokensPerMinute = 60_000;
+		int completionTokens = (tokensPerMinute + 50) / 2 - TokenEstimator.estimate(PROMPT.getContents());
+		AiGatewayProperties properties = new AiGatewayProperties(4, Duration.ofSeconds(1), 100, tokensPerMinute, 1,
+			Duration.ofMillis(1), Duration.ofMillis(1), 3, OPEN_DURATION,
+			new AiGatewayProperties.Mock(false, Duration.ZERO, 0.0));
+		GatewayChatModel gateway = gateway(properties, completionTokens);
+		provider.respond(() -> RESPONSE).respond(() -> RESPONSE);
+		gateway.call(PROMPT);
+
+		long started = System.nanoTime();
+		assertEquals(RESPONSE, gateway.call(PROMPT));
+		assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(50));
+	}
+
+	@Test
+	void reservationIsRefundedWhenConcurrentCallPermitTimesOut() throws Exception {
+		GatewayChatModel gateway = gateway(properties(1, Duration.ofMillis(100), 2, 1), 0);
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		provider.respond(() -> {
+			entered.countDown();
+			await(release);
+			return RESPONSE;
+		}).respond(() -> RESPONSE);
+		CompletableFuture<ChatResponse> first = CompletableFuture.supplyAsync(() -> gateway.call(PROMPT), executor);
+		assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+		// 분당 2건 중 두 번째 예약은 동시 호출 허가를 기다리다 포기하면 되돌려져야 한다
+		assertErrorCode(GlobalErrorCode.AI_SERVER_BUSY, () -> gateway.call(PROMPT));
+		release.countDown();
+		assertEquals(RESPONSE, first.get(5, TimeUnit.SECONDS));
+
+		assertEquals(RESPONSE, gateway.call(PROMPT));
+		assertEquals(2, provider.calls.get());
+	}
+
+	@Test
+	void retrySchedulerResubmitsEachAttemptAfterTransientFailure() throws Exception {
+		AiGatewayProperties properties = properties(4, Duration.ofSeconds(1), 100, 3);
+		GatewayChatModel gateway = gateway(properties, 0);
+		provider.respond(ScriptedChatModel::unavailable).respond(ScriptedChatModel::rateLimited)
+			.respond(() -> RESPONSE);
+		AtomicInteger submissions = new AtomicInteger();
+		Executor counting = task -> {
+			submissions.incrementAndGet();
+			executor.execute(task);
+		};
+
+		ChatResponse response = new RetryScheduler(properties).submit(() -> gateway.call(PROMPT), counting)
+			.get(5, TimeUnit.SECONDS);
+
+		assertEquals(RESPONSE, response);
+		assertEquals(3, provider.calls.get());
+		assertEquals(3, submissions.get());
+	}
+
+	@Test
+	void retrySchedulerStopsAtMaxAttempts() {
+		AiGatewayProperties properties = properties(4, Duration.ofSeconds(1), 100, 2);
+		GatewayChatModel gateway = gateway(properties, 0);
+		provider.respond(ScriptedChatModel::unavailable).respond(ScriptedChatModel::unavailable)
+			.respond(() -> RESPONSE);
+
+		CompletableFuture<ChatResponse> result = new RetryScheduler(properties).submit(() -> gateway.call(PROMPT),
+			executor);
+
+		ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(TransientAiException.class, exception.getCause());
+		assertEquals(2, provider.calls.get());
+	}
+
+	@Test
+	void retrySchedulerDoesNotRetryClientErrors() {
+		AiGatewayProperties properties = properties(4, Duration.ofSeconds(1), 100, 3);
+		GatewayChatModel gateway = gateway(properties, 0);
+		provider.respond(() -> {
+			throw new NonTransientAiException("400 - invalid request");
+		}).respond(() -> RESPONSE);
+
+		CompletableFuture<ChatResponse> result = new RetryScheduler(properties).submit(() -> gateway.call(PROMPT),
+			executor);
+
+		ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(NonTransientAiException.class, exception.getCause());
+		assertEquals(1, provider.calls.get());
+	}
+
+	private GatewayChatModel gateway(AiGatewayProperties properties, int completionTokens) {
+		return new GatewayChatModel(provider, properties, new RetryScheduler(properties), completionTokens, now::get);
+	}
+
+	/**
+	 * 회로를 여는 연속 실패 횟수는 3
+	 */
+	private static AiGatewayProperties properties(int maxConcurrentCalls, Duration acquireTimeout,
+		int requestsPerMinute, int maxAttempts) {
+		return new AiGatewayProperties(maxConcurrentCalls, acquireTimeout, requestsPerMinute, 1_000_000, maxAttempts,
+			Duration.ofMillis(1), Duration.ofMillis(5), 3, OPEN_DURATION,
+			new AiGatewayProperties.Mock(false, Duration.ZERO, 0.0));
+	}
+
+	private void openCircuit(GatewayChatModel gateway) {
+		for (int failure = 0; failure < 3; failure++) {
+			provider.respond(ScriptedChatModel::unavailable);
+			assertThrows(TransientAiException.class, () -> gateway.call(PROMPT));
+		}
+	}
+
+	private static void assertErrorCode(GlobalErrorCode expected, Runnable call) {
+		AiException exception = assertThrows(AiException.class, call::run);
+		assertEquals(expected, exception.getErrorCode());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 호출마다 미리 넣어 둔 응답을 순서대로 돌려주는 제공자
+	 */
+	private static final class ScriptedChatModel implements ChatModel {
+
+		private final Queue<Supplier<ChatResponse>> script = new ArrayDeque<>();
+		private final AtomicInteger calls = new AtomicInteger();
+
+		private ScriptedChatModel respond(Supplier<ChatResponse> response) {
+			synchronized (script) {
+				script.add(response);
+			}
+			return this;
+		}
+
+		@Override
+		public ChatResponse call(Prompt prompt) {
+			calls.incrementAndGet();
+			Supplier<ChatResponse> next;
+			synchronized (script) {
+				next = script.poll();
+			}
+			if (next == null) {
+				throw new IllegalStateException("예상하지 못한 제공자 호출");
+			}
+			return next.get();
+		}
+
+		private static ChatResponse unavailable() {
+			throw new TransientAiException("503 - service unavailable");
+		}
+
+		private static ChatResponse rateLimited() {
+			throw new NonTransientAiException("429 - rate limit exceeded");
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.adit.backend.domain.ai.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.adit.backend.domain.ai.dto.response.ContentListResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 같은 URL 의 동시 요약 요청이 모델 호출 하나를 공유하면서도 호출자마다 독립된 결과 future 를 받는지 확인
+ */
+class SummaryCacheServiceTest {
+
+	private static final String URL = "https://blog.naver.com/sample/223";
+	private static final String PROMPT_VERSION = "v1";
+
+	private SummaryCacheService service;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+		when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+		service = new SummaryCacheService(redisTemplate, new ObjectMapper(), new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(service, "enabled", true);
+		ReflectionTestUtils.setField(service, "ttl", Duration.ofHours(12));
+	}
+
+	@Test
+	void cancellingOneCallerDoesNotCancelSharedLoad() {
+		CompletableFuture<ContentListResponse> load = new CompletableFuture<>();
+		AtomicInteger loads = new AtomicInteger();
+
+		CompletableFuture<ContentListResponse> first = service.getOrLoad(URL, PROMPT_VERSION, () -> {
+			loads.incrementAndGet();
+			return load;
+		});
+		CompletableFuture<ContentListResponse> second = service.getOrLoad(URL, PROMPT_VERSION, () -> {
+			loads.incrementAndGet();
+			return load;
+		});
+		second.cancel(true);
+		CompletableFuture<ContentListResponse> third = service.getOrLoad(URL, PROMPT_VERSION, () -> {
+			loads.incrementAndGet();
+			return load;
+		});
+		ContentListResponse response = new ContentListResponse(List.of(), List.of());
+		load.complete(response);
+
+		assertEquals(1, loads.get());
+		assertSame(response, first.join());
+		assertSame(response, third.join());
+		assertTrue(second.isCancelled());
+	}
+
+	@Test
+	void completingOneCallerDoesNotCompleteOthers() {
+		CompletableFuture<ContentListResponse> load = new CompletableFuture<>();
+		CompletableFuture<ContentListResponse> first = service.getOrLoad(URL, PROMPT_VERSION, () -> load);
+		CompletableFuture<ContentListResponse> second = service.getOrLoad(URL, PROMPT_VERSION, () -> load);
+
+		first.complete(null);
+
+		assertFalse(second.isDone());
+		ContentListResponse response = new ContentListResponse(List.of(), List.of());
+		load.complete(response);
+		assertSame(response, second.join());
+	}
+}
@@ -0,0 +1,63 @@
+package com.adit.backend.domain.ai.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 스트리밍 응답 조각에서 대상 배열의 원소만 잘라내는지 확인
+ */
+class JsonArrayStreamParserTest {
+
+	private static final String KEY = "contentResponseList";
+
+	@Test
+	void skipsOtherArrayFieldsBeforeTargetArray() {
+		String response = "```json\n{\"imageSrcList\": [\"https://a/1.jpg\", {\"x\": 1}], \"meta\": {\"tags\": [{\"t\": 1}]},"
+			+ " \"contentResponseList\": [{\"name\": \"A\"}, {\"name\": \"B\", \"list\": [{\"c\": 2}]}]}\n```";
+
+		List<String> items = feedInPieces(new JsonArrayStreamParser(KEY), response, 3);
+
+		assertEquals(List.of("{\"name\": \"A\"}", "{\"name\": \"B\", \"list\": [{\"c\": 2}]}"), items);
+	}
+
+	@Test
+	void keyTextInsideStringValueIsNotTreatedAsKey() {
+		String response = "{\"note\": \"contentResponseList: [\", \"other\": [{\"no\": 1}],"
+			+ " \"contentResponseList\" : [{\"name\": \"ok\"}]}";
+
+		assertEquals(List.of("{\"name\": \"ok\"}"), feedInPieces(new JsonArrayStreamParser(KEY), response, 1));
+	}
+
+	@Test
+	void topLevelArrayIsUsedDirectly() {
+		JsonArrayStreamParser parser = new JsonArrayStreamParser(KEY);
+
+		List<String> items = feedInPieces(parser, "[{\"name\": \"[x]\\\"}\"}, {\"name\": \"y\"}] trailing", 2);
+
+		assertEquals(List.of("{\"name\": \"[x]\\\"}\"}", "{\"name\": \"y\"}"), items);
+		assertTrue(parser.isFinished());
+	}
+
+	@Test
+	void stopsAtEndOfTargetArray() {
+		JsonArrayStreamParser parser = new JsonArrayStreamParser(KEY);
+
+		List<String> items = feedInPieces(parser,
+			"{\"contentResponseList\": [{\"name\": \"A\"}], \"imageSrcList\": [{\"name\": \"B\"}]}", 5);
+
+		assertEquals(List.of("{\"name\": \"A\"}"), items);
+		assertTrue(parser.isFinished());
+	}
+
+	private static List<String> feedInPieces(JsonArrayStreamParser parser, String response, int size) {
+		List<String> items = new ArrayList<>();
+		for (int start = 0; start < response.length(); start += size) {
+			items.addAll(parser.feed(response.substring(start, Math.min(response.length(), start + size))));
+		}
+		return items;
+	}
+}
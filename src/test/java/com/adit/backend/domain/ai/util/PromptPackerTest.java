@@ -0,0 +1,106 @@
+package com.adit.backend.domain.ai.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.adit.backend.infra.crawler.util.TextChunker;
+
+/**
+ * 본문을 토큰 예산 안의 조각으로 순서대로 묶고, 문장 경계 없이 긴 청크는 잘라 넣는지 확인
+ */
+class PromptPackerTest {
+
+	private static final int TOKEN_BUDGET = 400;
+	private static final int OVERHEAD = 100;
+	private static final int BUDGET = TOKEN_BUDGET - OVERHEAD;
+
+	private PromptPacker packer;
+
+	@BeforeEach
+	void setUp() {
+		packer = new PromptPacker(TextChunker.of(500));
+		ReflectionTestUtils.setField(packer, "tokenBudget", TOKEN_BUDGET);
+		ReflectionTestUtils.setField(packer, "maxParts", 100);
+	}
+
+	@Test
+	void contentWithinBudgetIsOnePart() {
+		String content = sentences(3);
+
+		assertEquals(List.of(content), packer.pack(content, OVERHEAD));
+	}
+
+	@Test
+	void sentencesArePackedInOrderWithinBudget() {
+		String content = sentences(200);
+
+		List<String> parts = packer.pack(content, OVERHEAD);
+
+		assertTrue(parts.size() > 1);
+		assertWithinBudget(parts, BUDGET);
+		assertEquals(content, String.join(" ", parts));
+	}
+
+	@Test
+	void oversizedChunkWithoutBoundaryIsHardSplit() {
+		String content = "가".repeat(700);
+
+		List<String> parts = packer.pack(content, OVERHEAD);
+
+		assertEquals(List.of("가".repeat(BUDGET), "가".repeat(BUDGET), "가".repeat(100)), parts);
+	}
+
+	@Test
+	void oversizedChunkIsSplitAtWhitespaceWithoutBreakingSurrogatePairs() {
+		String content = IntStream.range(0, 200)
+			.mapToObj(i -> "이모지😊포함단어")
+			.collect(Collectors.joining(" "));
+
+		List<String> parts = packer.pack(content, OVERHEAD);
+
+		assertTrue(parts.size() > 1);
+		assertWithinBudget(parts, BUDGET);
+		assertEquals(content, String.join(" ", parts));
+		parts.forEach(part -> assertTrue(part.endsWith("포함단어"), part));
+	}
+
+	@Test
+	void partsBeyondMaxPartsAreDropped() {
+		ReflectionTestUtils.setField(packer, "maxParts", 2);
+		String content = sentences(200);
+
+		List<String> parts = packer.pack(content, OVERHEAD);
+
+		assertEquals(2, parts.size());
+		assertWithinBudget(parts, BUDGET);
+		assertTrue(content.startsWith(String.join(" ", parts)));
+	}
+
+	@Test
+	void overheadBeyondBudgetFallsBackToMinimumPartTokens() {
+		String content = sentences(100);
+
+		List<String> parts = packer.pack(content, TOKEN_BUDGET * 10);
+
+		assertWithinBudget(parts, PromptPacker.MIN_PART_TOKENS);
+		assertEquals(content, String.join(" ", parts));
+	}
+
+	private static String sentences(int count) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> String.format("성수동 카페 후기의 %03d 번째 문장입니다.", i))
+			.collect(Collectors.joining(" "));
+	}
+
+	private static void assertWithinBudget(List<String> parts, int budget) {
+		parts.forEach(part -> assertTrue(TokenEstimator.estimate(part) <= budget,
+			() -> TokenEstimator.estimate(part) + " > " + budget));
+	}
+}
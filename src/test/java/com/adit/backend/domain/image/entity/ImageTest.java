@@ -0,0 +1,52 @@
+package com.adit.backend.domain.image.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.adit.backend.domain.image.enums.ImageStatus;
+
+/**
+ * 원격 이미지 가져오기 상태 전이 확인
+ */
+class ImageTest {
+
+	private static final Duration BACKOFF = Duration.ofSeconds(30);
+
+	@Test
+	void pendingImageKeepsSourceUrlUntilImported() {
+		Image image = Image.pending("https://example.com/a.jpg");
+
+		assertTrue(image.isPending());
+		assertEquals("https://example.com/a.jpg", image.getUrl());
+
+		image.completeImport("https://bucket/CONTENT/hash", null);
+
+		assertTrue(image.isReady());
+		assertEquals("https://bucket/CONTENT/hash", image.getUrl());
+		assertEquals("https://example.com/a.jpg", image.getSourceUrl());
+		assertNull(image.getNextImportAt());
+	}
+
+	@Test
+	void failedImportBacksOffExponentiallyThenGivesUp() {
+		Image image = Image.pending("https://example.com/a.jpg");
+
+		LocalDateTime before = LocalDateTime.now();
+		image.failImport(3, BACKOFF);
+		assertFalse(image.getNextImportAt().isBefore(before.plus(BACKOFF)));
+
+		before = LocalDateTime.now();
+		image.failImport(3, BACKOFF);
+		assertFalse(image.getNextImportAt().isBefore(before.plus(BACKOFF.multipliedBy(2))));
+		assertEquals(ImageStatus.PENDING, image.getStatus());
+
+		image.failImport(3, BACKOFF);
+		assertEquals(ImageStatus.FAILED, image.getStatus());
+		assertEquals(3, image.getImportAttempts());
+		assertNull(image.getNextImportAt());
+	}
+}
@@ -0,0 +1,110 @@
+package com.adit.backend.domain.image.importer;
+
+import static com.adit.backend.domain.image.enums.Directory.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import com.adit.backend.domain.image.entity.Image;
+import com.adit.backend.domain.image.entity.ImageSource;
+import com.adit.backend.domain.image.enums.ImageStatus;
+import com.adit.backend.domain.image.service.command.ImageImportCommandService;
+import com.adit.backend.global.util.ImageUtil;
+import com.adit.backend.infra.s3.service.AwsS3Service;
+import com.adit.backend.infra.s3.upload.ImportedImage;
+import com.adit.backend.infra.s3.upload.StoredObject;
+
+/**
+ * 이미 가져온 원본 URL(URL 해시 매핑 적중)은 다운로드 없이 완료하고, 나머지만 가져오는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageImportWorkerTest {
+
+	private static final String KNOWN_URL = "https://example.com/known.jpg";
+	private static final String NEW_URL = "https://example.com/new.jpg";
+	private static final String KNOWN_OBJECT_URL = "https://bucket/CONTENT/known";
+	private static final String NEW_OBJECT_URL = "https://bucket/CONTENT/new";
+
+	@Mock
+	private ImageImportCommandService imageImportCommandService;
+	@Mock
+	private AwsS3Service s3Service;
+	@Mock
+	private TaskScheduler taskScheduler;
+
+	private ImageImportWorker worker;
+
+	@BeforeEach
+	void setUp() {
+		worker = new ImageImportWorker(imageImportCommandService, s3Service,
+			new ImageImportProperties(10, Duration.ofSeconds(2), 3, Duration.ofSeconds(30), Duration.ofMinutes(5)),
+			taskScheduler);
+	}
+
+	@Test
+	void knownSourceCompletesWithoutDownload() {
+		Image known = pending(1L, KNOWN_URL);
+		Image fresh = pending(2L, NEW_URL);
+		ImageSource knownSource = source(KNOWN_URL, KNOWN_OBJECT_URL);
+		ImageSource newSource = source(NEW_URL, NEW_OBJECT_URL);
+		ImportedImage imported = new ImportedImage(NEW_URL, NEW_OBJECT_URL,
+			new StoredObject("CONTENT/new", "d".repeat(64), 3, false), Map.of());
+		when(imageImportCommandService.claim()).thenReturn(List.of(known, fresh));
+		when(imageImportCommandService.findSources(List.of(KNOWN_URL, NEW_URL)))
+			.thenReturn(Map.of(KNOWN_URL, knownSource));
+		when(s3Service.importFiles(List.of(NEW_URL), CONTENT.getPath()))
+			.thenReturn(CompletableFuture.completedFuture(List.of(imported)));
+		when(imageImportCommandService.saveSource(imported)).thenReturn(newSource);
+
+		worker.drain();
+
+		verify(imageImportCommandService).complete(1L, knownSource);
+		verify(imageImportCommandService).complete(2L, newSource);
+		verify(s3Service, never()).importFiles(eq(List.of(KNOWN_URL)), anyString());
+		verify(imageImportCommandService, never()).fail(anyLong());
+	}
+
+	@Test
+	void sameSourceUrlInOneBatchIsLookedUpOnce() {
+		Image first = pending(1L, KNOWN_URL);
+		Image second = pending(2L, KNOWN_URL);
+		ImageSource knownSource = source(KNOWN_URL, KNOWN_OBJECT_URL);
+		when(imageImportCommandService.claim()).thenReturn(List.of(first, second));
+		when(imageImportCommandService.findSources(List.of(KNOWN_URL))).thenReturn(Map.of(KNOWN_URL, knownSource));
+
+		worker.drain();
+
+		verify(imageImportCommandService).complete(1L, knownSource);
+		verify(imageImportCommandService).complete(2L, knownSource);
+		verifyNoInteractions(s3Service);
+	}
+
+	private static Image pending(Long id, String sourceUrl) {
+		return Image.builder()
+			.id(id)
+			.url(sourceUrl)
+			.sourceUrl(sourceUrl)
+			.status(ImageStatus.PENDING)
+			.build();
+	}
+
+	private static ImageSource source(String sourceUrl, String url) {
+		return ImageSource.builder()
+			.sourceUrlHash(ImageUtil.hashUrl(sourceUrl))
+			.sourceUrl(sourceUrl)
+			.contentHash("b".repeat(64))
+			.url(url)
+			.build();
+	}
+}
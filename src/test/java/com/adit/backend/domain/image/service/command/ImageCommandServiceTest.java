@@ -0,0 +1,138 @@
+package com.adit.backend.domain.image.service.command;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.adit.backend.domain.event.repository.UserEventRepository;
+import com.adit.backend.domain.image.converter.ImageConverter;
+import com.adit.backend.domain.image.entity.Image;
+import com.adit.backend.domain.image.repository.ImageRepository;
+import com.adit.backend.domain.image.repository.ImageSourceRepository;
+import com.adit.backend.domain.image.service.query.ImageQueryService;
+import com.adit.backend.domain.place.repository.UserPlaceRepository;
+import com.adit.backend.infra.s3.service.AwsS3Service;
+
+/**
+ * 콘텐츠 해시로 공유하는 S3 객체를 마지막으로 쓰는 이미지가 사라질 때만 객체와 원본 URL 매핑을 지우는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageCommandServiceTest {
+
+	private static final String OBJECT_URL = "https://bucket.s3.amazonaws.com/CONTENT/" + "c".repeat(64) + ".jpg";
+	private static final String NEW_OBJECT_URL = "https://bucket.s3.amazonaws.com/PLACE/new.jpg";
+
+	@Mock
+	private ImageRepository imageRepository;
+	@Mock
+	private ImageSourceRepository imageSourceRepository;
+	@Mock
+	private ImageConverter imageConverter;
+	@Mock
+	private AwsS3Service s3Service;
+	@Mock
+	private ImageQueryService imageQueryService;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+	@Mock
+	private UserPlaceRepository userPlaceRepository;
+	@Mock
+	private UserEventRepository userEventRepository;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private ImageCommandService service;
+	private Image image;
+
+	@BeforeEach
+	void setUp() {
+		service = new ImageCommandService(imageRepository, imageSourceRepository, imageConverter, s3Service,
+			imageQueryService, eventPublisher, userPlaceRepository, userEventRepository, transactionTemplate);
+		image = Image.builder().id(1L).url(OBJECT_URL).build();
+	}
+
+	@Test
+	void deleteKeepsObjectSharedWithAnotherImage() {
+		when(imageQueryService.getImageById(1L)).thenReturn(image);
+		when(imageRepository.findAllByUrlForUpdate(OBJECT_URL))
+			.thenReturn(List.of(image, Image.builder().id(2L).url(OBJECT_URL).build()));
+
+		service.deleteImage(1L);
+
+		verify(imageSourceRepository).findAllByUrlForUpdate(OBJECT_URL);
+		verify(imageSourceRepository, never()).deleteAllByUrl(any());
+		verify(s3Service, never()).deleteFile(any());
+		verify(imageRepository).delete(image);
+	}
+
+	@Test
+	void deleteOfLastReferenceRemovesObjectAndMapping() {
+		when(imageQueryService.getImageById(1L)).thenReturn(image);
+		when(imageRepository.findAllByUrlForUpdate(OBJECT_URL)).thenReturn(List.of(image));
+
+		service.deleteImage(1L);
+
+		// 매핑 행을 먼저 잠근 뒤 이미지 행을 확인하고, 매핑과 객체를 함께 지운다
+		InOrder inOrder = inOrder(imageSourceRepository, imageRepository, s3Service);
+		inOrder.verify(imageSourceRepository).findAllByUrlForUpdate(OBJECT_URL);
+		inOrder.verify(imageRepository).findAllByUrlForUpdate(OBJECT_URL);
+		inOrder.verify(imageSourceRepository).deleteAllByUrl(OBJECT_URL);
+		inOrder.verify(s3Service).deleteFile(OBJECT_URL);
+		inOrder.verify(imageRepository).delete(image);
+	}
+
+	@Test
+	void deleteOfPendingImageLeavesObjectsAlone() {
+		Image pending = Image.pending("https://example.com/a.jpg");
+		when(imageQueryService.getImageById(1L)).thenReturn(pending);
+
+		service.deleteImage(1L);
+
+		verifyNoInteractions(imageSourceRepository, s3Service);
+		verify(imageRepository, never()).findAllByUrlForUpdate(any());
+		verify(imageRepository).delete(pending);
+	}
+
+	@Test
+	void updateKeepsObjectSharedWithAnotherImage() {
+		MockMultipartFile file = new MockMultipartFile("file", "new.jpg", "image/jpeg", new byte[] {1, 2, 3});
+		when(imageQueryService.getImageById(1L)).thenReturn(image);
+		when(imageRepository.findAllByUrlForUpdate(OBJECT_URL))
+			.thenReturn(List.of(image, Image.builder().id(2L).url(OBJECT_URL).build()));
+		when(s3Service.updateImage(OBJECT_URL, file, false)).thenReturn(CompletableFuture.completedFuture(NEW_OBJECT_URL));
+		when(s3Service.createVariants(NEW_OBJECT_URL, file)).thenReturn(CompletableFuture.completedFuture(Map.of()));
+
+		service.updateImage(1L, file);
+
+		assertEquals(NEW_OBJECT_URL, image.getUrl());
+		verify(imageSourceRepository, never()).deleteAllByUrl(any());
+	}
+
+	@Test
+	void updateOfLastReferenceReleasesOldObjectAndMapping() {
+		MockMultipartFile file = new MockMultipartFile("file", "new.jpg", "image/jpeg", new byte[] {1, 2, 3});
+		when(imageQueryService.getImageById(1L)).thenReturn(image);
+		when(imageRepository.findAllByUrlForUpdate(OBJECT_URL)).thenReturn(List.of(image));
+		when(s3Service.updateImage(OBJECT_URL, file, true)).thenReturn(CompletableFuture.completedFuture(NEW_OBJECT_URL));
+		when(s3Service.createVariants(NEW_OBJECT_URL, file)).thenReturn(CompletableFuture.completedFuture(Map.of()));
+
+		service.updateImage(1L, file);
+
+		assertEquals(NEW_OBJECT_URL, image.getUrl());
+		verify(imageSourceRepository).deleteAllByUrl(OBJECT_URL);
+	}
+}
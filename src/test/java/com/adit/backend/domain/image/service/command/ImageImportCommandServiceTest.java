@@ -0,0 +1,185 @@
+package com.adit.backend.domain.image.service.command;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.adit.backend.domain.image.entity.Image;
+import com.adit.backend.domain.image.entity.ImageSource;
+import com.adit.backend.domain.image.enums.ImageStatus;
+import com.adit.backend.domain.image.importer.ImageImportProperties;
+import com.adit.backend.domain.image.repository.ImageRepository;
+import com.adit.backend.domain.image.repository.ImageSourceRepository;
+import com.adit.backend.global.util.ImageUtil;
+import com.adit.backend.infra.s3.upload.ImportedImage;
+import com.adit.backend.infra.s3.upload.StoredObject;
+
+/**
+ * 지연 가져오기의 점유·완료·실패(재시도 간격) 상태 기록 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageImportCommandServiceTest {
+
+	private static final String SOURCE_URL = "https://example.com/a.jpg";
+	private static final Duration BACKOFF = Duration.ofSeconds(30);
+	private static final Duration LEASE = Duration.ofMinutes(5);
+
+	@Mock
+	private ImageRepository imageRepository;
+	@Mock
+	private ImageSourceRepository imageSourceRepository;
+
+	private ImageImportCommandService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new ImageImportCommandService(imageRepository, imageSourceRepository,
+			new ImageImportProperties(10, Duration.ofSeconds(2), 3, BACKOFF, LEASE));
+	}
+
+	@Test
+	void claimLeasesDuePendingImagesForOneBatch() {
+		Image image = Image.pending(SOURCE_URL);
+		when(imageRepository.findImportable(eq(ImageStatus.PENDING), any(LocalDateTime.class),
+			eq(PageRequest.of(0, 10)))).thenReturn(List.of(image));
+
+		LocalDateTime before = LocalDateTime.now();
+		List<Image> claimed = service.claim();
+
+		assertEquals(List.of(image), claimed);
+		assertFalse(image.getNextImportAt().isBefore(before.plus(LEASE)));
+		assertTrue(image.isPending());
+		assertEquals(0, image.getImportAttempts());
+	}
+
+	@Test
+	void completeAttachesObjectTheLockedMappingPointsTo() {
+		Image image = Image.pending(SOURCE_URL);
+		ImageSource saved = source("https://bucket/CONTENT/new");
+		ImageSource current = source("https://bucket/CONTENT/first");
+		when(imageRepository.findById(1L)).thenReturn(Optional.of(image));
+		when(imageSourceRepository.findBySourceUrlHashForUpdate(saved.getSourceUrlHash()))
+			.thenReturn(Optional.of(current));
+
+		service.complete(1L, saved);
+
+		// 동시에 같은 URL 을 가져와 먼저 저장된 매핑이 있으면 그 객체를 쓴다
+		assertTrue(image.isReady());
+		assertEquals("https://bucket/CONTENT/first", image.getUrl());
+		assertNull(image.getNextImportAt());
+	}
+
+	@Test
+	void completeRequeuesWhenMappingWasDeletedMeanwhile() {
+		Image image = Image.pending(SOURCE_URL);
+		image.claimImport(LEASE);
+		ImageSource saved = source("https://bucket/CONTENT/hash");
+		when(imageRepository.findById(1L)).thenReturn(Optional.of(image));
+		when(imageSourceRepository.findBySourceUrlHashForUpdate(saved.getSourceUrlHash()))
+			.thenReturn(Optional.empty());
+
+		service.complete(1L, saved);
+
+		assertTrue(image.isPending());
+		assertEquals(SOURCE_URL, image.getUrl());
+		assertEquals(0, image.getImportAttempts());
+		assertFalse(image.getNextImportAt().isAfter(LocalDateTime.now()));
+	}
+
+	@Test
+	void completeIgnoresImagesNoLongerPending() {
+		Image image = Image.pending(SOURCE_URL);
+		image.completeImport("https://bucket/CONTENT/hash", null);
+		when(imageRepository.findById(1L)).thenReturn(Optional.of(image));
+
+		service.complete(1L, source("https://bucket/CONTENT/other"));
+
+		assertEquals("https://bucket/CONTENT/hash", image.getUrl());
+		verifyNoInteractions(imageSourceRepository);
+	}
+
+	@Test
+	void failBacksOffExponentiallyUntilMaxAttempts() {
+		Image image = Image.pending(SOURCE_URL);
+		when(imageRepository.findById(1L)).thenReturn(Optional.of(image));
+
+		LocalDateTime before = LocalDateTime.now();
+		service.fail(1L);
+		assertEquals(1, image.getImportAttempts());
+		assertFalse(image.getNextImportAt().isBefore(before.plus(BACKOFF)));
+		assertTrue(image.getNextImportAt().isBefore(LocalDateTime.now().plus(BACKOFF.multipliedBy(2))));
+
+		before = LocalDateTime.now();
+		service.fail(1L);
+		assertEquals(ImageStatus.PENDING, image.getStatus());
+		assertFalse(image.getNextImportAt().isBefore(before.plus(BACKOFF.multipliedBy(2))));
+
+		service.fail(1L);
+		assertEquals(ImageStatus.FAILED, image.getStatus());
+		assertNull(image.getNextImportAt());
+
+		// FAILED 이후의 실패 기록은 무시
+		service.fail(1L);
+		assertEquals(3, image.getImportAttempts());
+	}
+
+	@Test
+	void failIgnoresDeletedImages() {
+		when(imageRepository.findById(1L)).thenReturn(Optional.empty());
+
+		assertDoesNotThrow(() -> service.fail(1L));
+	}
+
+	@Test
+	void findSourcesMapsUrlHashHitsBackToSourceUrl() {
+		String otherUrl = "https://example.com/b.jpg";
+		ImageSource known = ImageSource.builder()
+			.sourceUrlHash(ImageUtil.hashUrl(SOURCE_URL))
+			.sourceUrl(SOURCE_URL)
+			.contentHash("b".repeat(64))
+			.url("https://bucket/CONTENT/hash")
+			.build();
+		when(imageSourceRepository.findAllBySourceUrlHashIn(
+			Set.of(ImageUtil.hashUrl(SOURCE_URL), ImageUtil.hashUrl(otherUrl)))).thenReturn(List.of(known));
+
+		Map<String, ImageSource> sources = service.findSources(List.of(SOURCE_URL, otherUrl));
+
+		assertEquals(Map.of(SOURCE_URL, known), sources);
+	}
+
+	@Test
+	void saveSourceMapsUrlHashToStoredObject() {
+		ImportedImage imported = new ImportedImage(SOURCE_URL, "https://bucket/CONTENT/hash",
+			new StoredObject("CONTENT/hash", "d".repeat(64), 3, true), Map.of());
+
+		ImageSource saved = service.saveSource(imported);
+
+		verify(imageSourceRepository).insertIgnore(saved);
+		assertEquals(ImageUtil.hashUrl(SOURCE_URL), saved.getSourceUrlHash());
+		assertEquals("d".repeat(64), saved.getContentHash());
+		assertEquals("https://bucket/CONTENT/hash", saved.getUrl());
+	}
+
+	private static ImageSource source(String url) {
+		return ImageSource.builder()
+			.sourceUrlHash("a".repeat(64))
+			.sourceUrl(SOURCE_URL)
+			.contentHash("b".repeat(64))
+			.url(url)
+			.build();
+	}
+}
@@ -0,0 +1,76 @@
+package com.adit.backend.global.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * AI 실행기가 플랫폼·가상 스레드 모드 모두 동시 실행 20 + 대기 100 을 넘는 작업을 제출 시점에 거절하는지 확인
+ */
+class AsyncConfigTest {
+
+	private static final int AI_CONCURRENCY = 20;
+	private static final int AI_ADMITTED = AI_CONCURRENCY + 100;
+
+	@ParameterizedTest(name = "virtualThreads = {0}")
+	@ValueSource(booleans = {false, true})
+	void aiExecutorRejectsWorkWhenSaturated(boolean virtualThreads) throws Exception {
+		AsyncConfig config = new AsyncConfig(new MockEnvironment());
+		ReflectionTestUtils.setField(config, "aiConcurrency", AI_CONCURRENCY);
+		Executor executor = config.aiTaskExecutor(virtualThreads);
+		CountDownLatch started = new CountDownLatch(AI_CONCURRENCY);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch finished = new CountDownLatch(AI_ADMITTED);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		try {
+			for (int i = 0; i < AI_ADMITTED; i++) {
+				executor.execute(() -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					started.countDown();
+					try {
+						release.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					running.decrementAndGet();
+					finished.countDown();
+				});
+			}
+			assertTrue(started.await(10, TimeUnit.SECONDS));
+
+			assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+			}));
+
+			release.countDown();
+			assertTrue(finished.await(10, TimeUnit.SECONDS));
+			assertEquals(AI_CONCURRENCY, maxRunning.get());
+
+			// 작업이 끝나면 다시 받는다
+			CountDownLatch accepted = new CountDownLatch(1);
+			executor.execute(accepted::countDown);
+			assertTrue(accepted.await(10, TimeUnit.SECONDS));
+		} finally {
+			release.countDown();
+			shutdown(executor);
+		}
+	}
+
+	private static void shutdown(Executor executor) throws Exception {
+		if (executor instanceof ThreadPoolTaskExecutor pool) {
+			pool.shutdown();
+		} else if (executor instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+}
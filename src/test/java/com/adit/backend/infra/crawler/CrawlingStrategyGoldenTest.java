@@ -0,0 +1,59 @@
+package com.adit.backend.infra.crawler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.infra.crawler.support.CrawlerFixtures;
+import com.adit.backend.infra.crawler.support.CrawlerTestContext;
+
+/**
+ * 저장 페이지에 대한 플랫폼별 extractContents 결과가 기대값(golden)과 같은지 확인
+ */
+class CrawlingStrategyGoldenTest {
+
+	private static CrawlerTestContext context;
+
+	@BeforeAll
+	static void setUp() {
+		context = CrawlerTestContext.create(false);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		context.close();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"naver", "tistory", "brunch", "generic"})
+	void extractContentsMatchesGolden(String page) {
+		Document document = CrawlerFixtures.document(page);
+
+		CrawlCompletionResponse response = context.strategyFor(CrawlerFixtures.originUrl(page))
+			.extractContents(document);
+
+		String actual = CrawlerFixtures.render(response);
+		if (CrawlerFixtures.updateGolden()) {
+			CrawlerFixtures.writeGolden(page, actual);
+			return;
+		}
+		assertEquals(CrawlerFixtures.golden(page), actual);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"naver", "tistory", "brunch", "generic"})
+	void extractContentsIsRepeatable(String page) {
+		String url = CrawlerFixtures.originUrl(page);
+
+		String first = CrawlerFixtures.render(context.strategyFor(url).extractContents(CrawlerFixtures.document(page)));
+		String second = CrawlerFixtures.render(context.strategyFor(url).extractContents(CrawlerFixtures.document(page)));
+
+		// 선택자 메모나 학습된 스킨이 다음 추출 결과에 영향을 주지 않아야 한다
+		assertEquals(first, second);
+	}
+}
@@ -0,0 +1,144 @@
+package com.adit.backend.infra.crawler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.select.Evaluator;
+import org.junit.jupiter.api.Test;
+
+import com.adit.backend.infra.crawler.platform.GenericWebCrawlingStrategy;
+import com.adit.backend.infra.crawler.support.CrawlerFixtures;
+
+/**
+ * 일반 웹 페이지 스트리밍 추출 확인 (중첩 블록은 순서가 전체 파싱과 다를 수 있어 기대값 파일 대신 전체 파싱 결과·불변 조건으로 검증)
+ */
+class StreamingExtractorTest {
+
+	private static final SinglePassExtractor.Plan PLAN = new SinglePassExtractor.Plan(
+		WebContentCrawler.compile(GenericWebCrawlingStrategy.TITLE_TAG),
+		WebContentCrawler.compile(GenericWebCrawlingStrategy.TEXT_TAG),
+		GenericWebCrawlingStrategy.MINIMUM_RECOGNIZED_CHARACTER, true);
+	private static final Evaluator CONTENT = WebContentCrawler.compile(GenericWebCrawlingStrategy.CONTENT_TAG);
+
+	@Test
+	void extractsTitleImagesAndPlacesLikeFullParse() throws IOException {
+		StringBuilder body = new StringBuilder();
+
+		SinglePassExtractor.Page page = extract(Integer.MAX_VALUE, body);
+
+		String golden = CrawlerFixtures.golden("generic");
+		assertTrue(golden.startsWith(WebContentCrawler.preprocessText("제목: " + page.title()) + "\n"));
+		assertEquals(goldenImages(golden), page.imageSrcList());
+		assertTrue(page.placeInfo().contains("을지면옥"));
+		assertTrue(body.toString().contains("메밀 향이 진하고"));
+	}
+
+	@Test
+	void dropsScriptStyleAndUnnecessarySubtrees() throws IOException {
+		StringBuilder body = new StringBuilder();
+
+		extract(Integer.MAX_VALUE, body);
+
+		String text = body.toString();
+		assertFalse(text.contains("googletag"));
+		assertFalse(text.contains("window.__a"));
+		assertFalse(text.contains("padding"));
+		assertFalse(text.contains("추천 글 제목"));
+	}
+
+	@Test
+	void stopsReadingOnceTextBudgetIsReached() throws IOException {
+		StringBuilder full = new StringBuilder();
+		extract(Integer.MAX_VALUE, full);
+		StringBuilder limited = new StringBuilder();
+
+		SinglePassExtractor.Page page = extract(200, limited);
+
+		assertTrue(limited.length() >= 200);
+		assertTrue(limited.length() < full.length());
+		assertTrue(full.toString().startsWith(limited.toString()));
+		assertFalse(page.title().isEmpty());
+	}
+
+	@Test
+	void bodyMatchesFullParseOfGenericPage() throws IOException {
+		StringBuilder streamed = new StringBuilder();
+		extract(Integer.MAX_VALUE, streamed);
+		Document document = CrawlerFixtures.document("generic");
+		StringBuilder parsed = new StringBuilder();
+
+		SinglePassExtractor.extract(document, document.body(), document.select(CONTENT), PLAN, parsed);
+
+		// 본문 블록을 감싼 div 의 나머지 텍스트(작성자, 공유 버튼)는 전체 파싱과 같이 본문에서 빠진다
+		assertEquals(parsed.toString(), streamed.toString());
+		assertFalse(streamed.toString().contains("공유하기"));
+	}
+
+	@Test
+	void wrapperTextIsKeptOnlyWhenWrapperHasNoParagraph() throws IOException {
+		StringBuilder body = new StringBuilder();
+
+		extract("""
+			<html><head><title>제목</title></head><body>
+			<div class="post"><span>글쓴이 동네 맛집 기록 · 공유하기</span><section><p>섹션 안의 본문 문단입니다.</p></section></div>
+			<div class="card"><span>문단 없는 카드의 설명 문구</span><ul><li>목록 항목 하나</li></ul></div>
+			</body></html>
+			""", Integer.MAX_VALUE, body);
+
+		assertEquals("섹션 안의 본문 문단입니다.\n문단 없는 카드의 설명 문구 목록 항목 하나\n", body.toString());
+	}
+
+	@Test
+	void textOutsideAnyBlockDoesNotCountTowardLimit() throws IOException {
+		String menu = IntStream.range(0, 200)
+			.mapToObj(i -> "<li><a href=\"/c/" + i + "\">카테고리 메뉴 " + i + "</a></li>")
+			.collect(Collectors.joining());
+		StringBuilder body = new StringBuilder();
+
+		extract("<html><body><nav><ul>" + menu + "</ul></nav><article><p>메뉴 뒤에 오는 본문 문단입니다.</p>"
+			+ "<p>두 번째 본문 문단입니다.</p></article></body></html>", 15, body);
+
+		assertEquals("메뉴 뒤에 오는 본문 문단입니다.\n", body.toString());
+	}
+
+	@Test
+	void textWaitingForOpenBlockCountsTowardLimit() throws IOException {
+		String spans = IntStream.range(0, 500)
+			.mapToObj(i -> "<span>문단 없는 블록 문장 " + i + ". </span>")
+			.collect(Collectors.joining());
+		StringBuilder body = new StringBuilder();
+
+		extract("<html><body><div class=\"content\">" + spans + "</div></body></html>", 200, body);
+
+		// 블록이 닫히기 전에 한도에 도달하면 지금까지의 블록 텍스트를 쓰고 읽기를 멈춘다
+		assertTrue(body.length() >= 200);
+		assertTrue(body.length() < 400);
+		assertTrue(body.toString().startsWith("문단 없는 블록 문장 0."));
+	}
+
+	private static SinglePassExtractor.Page extract(int maxTextLength, StringBuilder body) throws IOException {
+		return extract(new String(CrawlerFixtures.html("generic"), StandardCharsets.UTF_8), maxTextLength, body);
+	}
+
+	private static SinglePassExtractor.Page extract(String html, int maxTextLength, StringBuilder body)
+		throws IOException {
+		try (Reader reader = new StringReader(html)) {
+			return StreamingExtractor.extract(reader, CrawlerFixtures.originUrl("generic"), PLAN, CONTENT,
+				maxTextLength, body);
+		}
+	}
+
+	private static List<String> goldenImages(String golden) {
+		String images = golden.substring(golden.indexOf("=== images ===") + "=== images ===".length()).strip();
+		return Arrays.asList(images.split("\n"));
+	}
+}
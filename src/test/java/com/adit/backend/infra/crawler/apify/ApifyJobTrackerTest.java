@@ -0,0 +1,135 @@
+package com.adit.backend.infra.crawler.apify;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.infra.crawler.exception.CrawlingException;
+import com.adit.backend.infra.crawler.support.CrawlerStubServer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * Apify 작업 추적 확인 (로컬 stub 서버가 작업 실행·상태·결과 API 를 흉내, 조회 간격은 밀리초 단위)
+ */
+class ApifyJobTrackerTest {
+
+	private static final String RUN = "{\"data\":{\"id\":\"run-1\",\"defaultDatasetId\":\"ds-1\",\"status\":\"READY\"}}";
+	private static final String ITEMS = "[{\"caption\":\"성수 카페\",\"images\":[\"https://cdn/1.jpg\"]}]";
+
+	private final Queue<String> statuses = new ArrayDeque<>();
+	private final AtomicInteger statusPolls = new AtomicInteger();
+	private final AtomicInteger itemRequests = new AtomicInteger();
+	private CrawlerStubServer stub;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		stub = CrawlerStubServer.start(Duration.ZERO)
+			.route("/acts/task/runs", exchange -> respond(exchange, 201, RUN))
+			.route("/v2/actor-runs/run-1", exchange -> {
+				statusPolls.incrementAndGet();
+				String status;
+				synchronized (statuses) {
+					status = statuses.size() > 1 ? statuses.poll() : statuses.peek();
+				}
+				respond(exchange, 200, "{\"data\":{\"id\":\"run-1\",\"status\":\"" + status + "\"}}");
+			})
+			.route("/v2/datasets/ds-1/items", exchange -> {
+				itemRequests.incrementAndGet();
+				respond(exchange, 200, ITEMS);
+			});
+	}
+
+	@AfterEach
+	void tearDown() {
+		stub.close();
+	}
+
+	@Test
+	void pollsRunningJobUntilSucceededThenFetchesDatasetOnce() {
+		statuses.addAll(List.of("READY", "RUNNING", "RUNNING", "SUCCEEDED"));
+
+		JsonNode output = tracker(Duration.ofSeconds(5)).submit("https://www.instagram.com/p/abc").join();
+
+		assertEquals("성수 카페", output.get(0).get("caption").asText());
+		assertEquals(4, statusPolls.get());
+		assertEquals(1, itemRequests.get());
+	}
+
+	@Test
+	void failedRunFailsWithoutWaitingForTimeout() {
+		statuses.addAll(List.of("RUNNING", "FAILED"));
+
+		CompletableFuture<JsonNode> result = tracker(Duration.ofMinutes(1)).submit("https://www.instagram.com/p/abc");
+
+		assertError(GlobalErrorCode.INSTAGRAM_JOB_FAILED, result);
+		assertEquals(2, statusPolls.get());
+		assertEquals(0, itemRequests.get());
+	}
+
+	@Test
+	void runThatNeverFinishesTimesOut() {
+		statuses.add("RUNNING");
+
+		CompletableFuture<JsonNode> result = tracker(Duration.ofMillis(200)).submit("https://www.instagram.com/p/abc");
+
+		assertError(GlobalErrorCode.INSTAGRAM_JOB_TIMEOUT, result);
+		assertTrue(statusPolls.get() >= 2);
+		assertEquals(0, itemRequests.get());
+	}
+
+	@Test
+	void jobPermitIsReleasedAfterCompletion() {
+		statuses.add("SUCCEEDED");
+		ApifyJobTracker tracker = tracker(Duration.ofSeconds(5), 1);
+
+		tracker.submit("https://www.instagram.com/p/a").join();
+
+		assertDoesNotThrow(() -> tracker.submit("https://www.instagram.com/p/b").join());
+	}
+
+	private ApifyJobTracker tracker(Duration timeout) {
+		return tracker(timeout, 10);
+	}
+
+	private ApifyJobTracker tracker(Duration timeout, int maxConcurrentJobs) {
+		ApifyProperties properties = new ApifyProperties("token", stub.baseUrl() + "/acts/task/runs",
+			stub.baseUrl() + "/v2", Duration.ofMillis(10), Duration.ofMillis(40), 2.0, timeout, Duration.ofSeconds(2),
+			maxConcurrentJobs);
+		return new ApifyJobTracker(properties, new ObjectMapper(), HttpClient.newHttpClient());
+	}
+
+	private static void assertError(GlobalErrorCode expected, CompletableFuture<JsonNode> result) {
+		CompletionException exception = assertThrows(CompletionException.class, result::join);
+		CrawlingException cause = assertInstanceOf(CrawlingException.class, exception.getCause());
+		assertEquals(expected, cause.getErrorCode());
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		try (exchange) {
+			exchange.getRequestBody().readAllBytes();
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(status, bytes.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(bytes);
+			}
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package com.adit.backend.infra.crawler.platform;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.infra.crawler.http.CrawlerHttpClient;
+import com.adit.backend.infra.crawler.http.FetchResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PostView 빠른 경로의 요청 횟수와 결과 지표(hit / fallback / unmatched)를 크롤링 한 번에 한 번만 기록하는지 확인
+ */
+class NaverCrawlingStrategyTest {
+
+	private static final String FAST_PATH_METRIC = "crawler.naver.fast-path";
+	private static final String BLOG_URL = "https://blog.naver.com/sample/223";
+	private static final String POST_VIEW_URL =
+		"https://blog.naver.com/PostView.naver?blogId=sample&logNo=223&redirect=Dlog&widgetTypeCall=true&directAccess=false";
+	private static final String IFRAME_URL = "https://blog.naver.com/PostView.naver?blogId=sample&logNo=223";
+	private static final String POST_VIEW_PAGE = """
+		<html><body><div class="se-main-container"><p>성수동 카페에 다녀온 후기를 남깁니다.</p></div></body></html>
+		""";
+	private static final String EMPTY_POST_VIEW_PAGE = """
+		<html><body><div class="error">일시적인 오류</div></body></html>
+		""";
+	private static final String OUTER_PAGE = """
+		<html><body><iframe id="mainFrame" src="/PostView.naver?blogId=sample&logNo=223"></iframe></body></html>
+		""";
+
+	private CrawlerHttpClient httpClient;
+	private MeterRegistry meterRegistry;
+	private NaverCrawlingStrategy strategy;
+
+	@BeforeEach
+	void setUp() {
+		httpClient = mock(CrawlerHttpClient.class);
+		meterRegistry = new SimpleMeterRegistry();
+		strategy = new NaverCrawlingStrategy(httpClient, meterRegistry);
+	}
+
+	@Test
+	void postViewWithContentIsFetchedOnce() throws IOException {
+		respond(POST_VIEW_URL, POST_VIEW_PAGE);
+
+		CrawlCompletionResponse response = crawl(BLOG_URL);
+
+		assertTrue(response.crawlingData().contains("성수동 카페"));
+		verify(httpClient).fetch(POST_VIEW_URL, NaverCrawlingStrategy.PLATFORM);
+		verifyNoMoreInteractions(httpClient);
+		assertFastPath(1, 0, 0);
+	}
+
+	@Test
+	void postViewWithoutContentFallsBackToIframeOnce() throws IOException {
+		respond(POST_VIEW_URL, EMPTY_POST_VIEW_PAGE);
+		respond(BLOG_URL, OUTER_PAGE);
+		respond(IFRAME_URL, POST_VIEW_PAGE);
+
+		CrawlCompletionResponse response = crawl(BLOG_URL);
+
+		// iframe 문서는 빠른 경로를 다시 거치지 않으므로 PostView 요청과 지표가 한 번씩만 남는다
+		assertTrue(response.crawlingData().contains("성수동 카페"));
+		verify(httpClient).fetch(POST_VIEW_URL, NaverCrawlingStrategy.PLATFORM);
+		verify(httpClient).fetch(BLOG_URL, NaverCrawlingStrategy.PLATFORM);
+		verify(httpClient).fetch(IFRAME_URL, NaverCrawlingStrategy.PLATFORM);
+		verifyNoMoreInteractions(httpClient);
+		assertFastPath(0, 1, 0);
+	}
+
+	@Test
+	void failedPostViewFallsBackToIframe() throws IOException {
+		when(httpClient.fetch(POST_VIEW_URL, NaverCrawlingStrategy.PLATFORM)).thenThrow(new IOException("HTTP 500"));
+		respond(BLOG_URL, OUTER_PAGE);
+		respond(IFRAME_URL, POST_VIEW_PAGE);
+
+		assertTrue(crawl(BLOG_URL).crawlingData().contains("성수동 카페"));
+		assertFastPath(0, 1, 0);
+	}
+
+	@Test
+	void unsupportedUrlSkipsFastPath() throws IOException {
+		String url = "https://blog.naver.com/sample";
+		respond(url, OUTER_PAGE);
+		respond(IFRAME_URL, POST_VIEW_PAGE);
+
+		assertTrue(crawl(url).crawlingData().contains("성수동 카페"));
+		verify(httpClient, never()).fetch(eq(POST_VIEW_URL), anyString());
+		assertFastPath(0, 0, 1);
+	}
+
+	private CrawlCompletionResponse crawl(String url) throws IOException {
+		Document document = strategy.getDocument(url);
+		return strategy.extractContents(document);
+	}
+
+	private void respond(String url, String html) throws IOException {
+		when(httpClient.fetch(url, NaverCrawlingStrategy.PLATFORM)).thenReturn(
+			new FetchResponse(URI.create(url), 200, "UTF-8", html.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private void assertFastPath(double hit, double fallback, double unmatched) {
+		assertEquals(hit, count("hit"));
+		assertEquals(fallback, count("fallback"));
+		assertEquals(unmatched, count("unmatched"));
+	}
+
+	private double count(String result) {
+		return meterRegistry.counter(FAST_PATH_METRIC, "result", result).count();
+	}
+}
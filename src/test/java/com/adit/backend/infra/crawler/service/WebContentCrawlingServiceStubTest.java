@@ -0,0 +1,80 @@
+package com.adit.backend.infra.crawler.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.infra.crawler.support.CrawlerFixtures;
+import com.adit.backend.infra.crawler.support.CrawlerStubServer;
+import com.adit.backend.infra.crawler.support.CrawlerTestContext;
+
+/**
+ * 로컬 stub 서버를 대상으로 crawlAsync 전체 경로(HTTP 수신, 파싱, 추출)를 확인
+ */
+class WebContentCrawlingServiceStubTest {
+
+	private static CrawlerStubServer stubServer;
+	private static CrawlerTestContext context;
+
+	@BeforeAll
+	static void setUp() throws Exception {
+		stubServer = CrawlerStubServer.start(Duration.ZERO);
+		context = CrawlerTestContext.create(false);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		context.close();
+		stubServer.close();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"naver", "tistory", "brunch", "generic"})
+	void crawlAsyncMatchesGolden(String page) throws Exception {
+		CrawlCompletionResponse response = context.crawlingService()
+			.crawlAsync(stubServer.url(page))
+			.get(10, TimeUnit.SECONDS);
+
+		assertEquals(CrawlerFixtures.golden(page), CrawlerFixtures.render(response));
+	}
+
+	@Test
+	void streamingGenericCrawlKeepsTitleAndImages() throws Exception {
+		try (CrawlerTestContext streaming = CrawlerTestContext.create(true)) {
+			CrawlCompletionResponse response = streaming.crawlingService()
+				.crawlAsync(stubServer.url("generic"))
+				.get(10, TimeUnit.SECONDS);
+
+			String golden = CrawlerFixtures.golden("generic");
+			assertTrue(response.crawlingData().startsWith(golden.substring(0, golden.indexOf('\n'))));
+			assertTrue(golden.endsWith(String.join("\n", response.imageSrcList()) + "\n"));
+		}
+	}
+
+	@Test
+	void concurrentRequestsForSameUrlShareOneFetch() throws Exception {
+		CrawlerStubServer slowServer = CrawlerStubServer.start(Duration.ofMillis(300));
+		try (slowServer) {
+			String url = slowServer.url("tistory");
+			List<CompletableFuture<CrawlCompletionResponse>> futures = IntStream.range(0, 8)
+				.mapToObj(i -> context.crawlingService().crawlAsync(url))
+				.toList();
+
+			for (CompletableFuture<CrawlCompletionResponse> future : futures) {
+				assertEquals(CrawlerFixtures.golden("tistory"), CrawlerFixtures.render(future.get(10, TimeUnit.SECONDS)));
+			}
+			assertEquals(1, slowServer.requestCount());
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package com.adit.backend.infra.crawler.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+
+/**
+ * 크롤러 테스트·벤치마크용 저장 페이지 (src/test/resources/pages)
+ * <p>
+ * 페이지마다 {name}.html 과 추출 결과 기대값 {name}.golden.txt 가 있다.
+ * 추출 로직을 의도적으로 바꾼 경우 -Dgolden.update=true 로 테스트를 실행하면 기대값을 다시 기록한다.
+ */
+public final class CrawlerFixtures {
+
+	public static final List<String> PAGES = List.of("naver", "tistory", "brunch", "generic");
+	public static final String GOLDEN_UPDATE_PROPERTY = "golden.update";
+	private static final String RESOURCE_DIR = "/pages/";
+	private static final Path SOURCE_DIR = Path.of("src", "test", "resources", "pages");
+	private static final String IMAGES_SEPARATOR = "\n=== images ===\n";
+
+	private CrawlerFixtures() {
+	}
+
+	/**
+	 * 페이지별 원래 URL 경로 (호스트 포함, 전략 선택 기준)
+	 */
+	public static String originPath(String page) {
+		return switch (page) {
+			case "naver" -> "blog.naver.com/sample/223344556677";
+			case "tistory" -> "travel-log.tistory.com/12";
+			case "brunch" -> "brunch.co.kr/@sample/34";
+			case "generic" -> "example-food.blog/2025/02/naengmyeon";
+			default -> throw new IllegalArgumentException("unknown page: " + page);
+		};
+	}
+
+	public static String originUrl(String page) {
+		return "https://" + originPath(page);
+	}
+
+	public static byte[] html(String page) {
+		return read(page + ".html");
+	}
+
+	public static Document document(String page) {
+		return Jsoup.parse(new String(html(page), StandardCharsets.UTF_8), originUrl(page));
+	}
+
+	public static String golden(String page) {
+		return new String(read(page + ".golden.txt"), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 기대값 파일 형식으로 변환 (본문, 구분선, 이미지 URL 한 줄씩)
+	 */
+	public static String render(CrawlCompletionResponse response) {
+		StringBuilder builder = new StringBuilder(response.crawlingData()).append(IMAGES_SEPARATOR);
+		for (String imageSrc : response.imageSrcList()) {
+			builder.append(imageSrc).append('\n');
+		}
+		return builder.toString();
+	}
+
+	public static boolean updateGolden() {
+		return Boolean.getBoolean(GOLDEN_UPDATE_PROPERTY);
+	}
+
+	public static void writeGolden(String page, String rendered) {
+		try {
+			Files.writeString(SOURCE_DIR.resolve(page + ".golden.txt"), rendered);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static byte[] read(String name) {
+		try (InputStream in = CrawlerFixtures.class.getResourceAsStream(RESOURCE_DIR + name)) {
+			if (in == null) {
+				throw new IllegalStateException("fixture not found: " + name);
+			}
+			return in.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
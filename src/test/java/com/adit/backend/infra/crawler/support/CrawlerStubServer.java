@@ -0,0 +1,110 @@
+package com.adit.backend.infra.crawler.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 저장 페이지를 응답하는 로컬 HTTP 서버 (네트워크 없이 crawlAsync 전체 경로 측정용)
+ * <p>
+ * 요청 경로의 첫 구간에 원래 호스트를 넣으면 해당 플랫폼 페이지를 응답한다.
+ * 예) /blog.naver.com/sample/1 -> naver.html, 그 밖의 경로 -> generic.html
+ * URL 에 원래 호스트 문자열이 들어가므로 플랫폼별 전략이 그대로 선택된다.
+ * 외부 API 흉내가 필요하면 {@link #route} 로 경로별 응답을 따로 등록한다.
+ */
+public final class CrawlerStubServer implements AutoCloseable {
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final Duration latency;
+	private final LongAdder requests = new LongAdder();
+
+	private CrawlerStubServer(Duration latency) throws IOException {
+		this.latency = latency;
+		this.executor = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "crawler-stub");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		this.server.createContext("/", this::handle);
+		this.server.setExecutor(executor);
+	}
+
+	/**
+	 * @param latency 응답 전 지연 (원격 서버 응답 시간 흉내)
+	 */
+	public static CrawlerStubServer start(Duration latency) throws IOException {
+		CrawlerStubServer stub = new CrawlerStubServer(latency);
+		stub.server.start();
+		return stub;
+	}
+
+	/**
+	 * 페이지를 응답하는 stub URL
+	 */
+	public String url(String page) {
+		return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/"
+			+ CrawlerFixtures.originPath(page);
+	}
+
+	/**
+	 * path 로 시작하는 요청을 handler 가 응답하도록 등록 (가장 긴 경로가 우선)
+	 */
+	public CrawlerStubServer route(String path, HttpHandler handler) {
+		server.createContext(path, handler);
+		return this;
+	}
+
+	/**
+	 * 서버 기본 URL (끝에 / 없음)
+	 */
+	public String baseUrl() {
+		return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+	}
+
+	public long requestCount() {
+		return requests.sum();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		requests.increment();
+		try (exchange) {
+			if (!latency.isZero()) {
+				Thread.sleep(latency.toMillis());
+			}
+			byte[] body = CrawlerFixtures.html(pageOf(exchange.getRequestURI().getPath()));
+			exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static String pageOf(String path) {
+		for (String page : CrawlerFixtures.PAGES) {
+			if (path.startsWith("/" + CrawlerFixtures.originPath(page).split("/")[0])) {
+				return page;
+			}
+		}
+		return "generic";
+	}
+}
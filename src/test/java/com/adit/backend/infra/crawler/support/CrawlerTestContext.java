@@ -0,0 +1,98 @@
+package com.adit.backend.infra.crawler.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.util.unit.DataSize;
+
+import com.adit.backend.infra.crawler.cache.CrawlCache;
+import com.adit.backend.infra.crawler.cache.CrawlCacheProperties;
+import com.adit.backend.infra.crawler.common.WebCrawlingStrategy;
+import com.adit.backend.infra.crawler.http.CrawlerHttpClient;
+import com.adit.backend.infra.crawler.http.CrawlerHttpProperties;
+import com.adit.backend.infra.crawler.http.CrawlerStreamProperties;
+import com.adit.backend.infra.crawler.platform.BrunchCrawlingStrategy;
+import com.adit.backend.infra.crawler.platform.GenericWebCrawlingStrategy;
+import com.adit.backend.infra.crawler.platform.InstagramCrawlingStrategy;
+import com.adit.backend.infra.crawler.platform.NaverCrawlingStrategy;
+import com.adit.backend.infra.crawler.platform.TistoryCrawlingStrategy;
+import com.adit.backend.infra.crawler.service.WebContentCrawlingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 스프링 컨텍스트 없이 구성한 크롤러 (HTTP 클라이언트, 플랫폼 전략, 크롤링 서비스)
+ * <p>
+ * 측정 결과가 캐시에 가려지지 않도록 크롤링 결과 캐시는 끈다. Instagram(Apify) 은 구성하지 않는다.
+ * 생성자가 protected 인 빈은 익명 하위 클래스로 생성한다.
+ */
+public final class CrawlerTestContext implements AutoCloseable {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ExecutorService crawlingTaskExecutor = Executors.newCachedThreadPool();
+	private final List<WebCrawlingStrategy> strategies;
+	private final WebContentCrawlingService crawlingService;
+
+	private CrawlerTestContext(boolean streaming) {
+		CrawlerHttpProperties httpProperties = new CrawlerHttpProperties(Duration.ofSeconds(2), Duration.ofSeconds(5),
+			Duration.ofSeconds(10), DataSize.ofMegabytes(5), Map.of());
+		CrawlerStreamProperties streamProperties = new CrawlerStreamProperties(streaming, 20_000,
+			DataSize.ofMegabytes(3));
+		CrawlerHttpClient httpClient = new CrawlerHttpClient(httpProperties) {
+		};
+		InstagramCrawlingStrategy instagram = new InstagramCrawlingStrategy(httpClient, null) {
+		};
+		this.strategies = List.of(
+			new NaverCrawlingStrategy(httpClient, meterRegistry) {
+			},
+			new TistoryCrawlingStrategy(httpClient) {
+			},
+			new BrunchCrawlingStrategy(httpClient) {
+			},
+			instagram,
+			new GenericWebCrawlingStrategy(httpClient, streamProperties) {
+			});
+
+		CrawlCacheProperties cacheProperties = new CrawlCacheProperties(false, DataSize.ofMegabytes(1), Duration.ZERO,
+			"crawl:", Map.of());
+		CrawlCache crawlCache = new CrawlCache(cacheProperties, null, new ObjectMapper(), meterRegistry);
+		this.crawlingService = new WebContentCrawlingService(strategies, instagram, crawlCache, crawlingTaskExecutor,
+			meterRegistry) {
+		};
+	}
+
+	/**
+	 * @param streaming 일반 웹 페이지 스트리밍 파싱 사용 여부 (crawler.stream.enabled)
+	 */
+	public static CrawlerTestContext create(boolean streaming) {
+		return new CrawlerTestContext(streaming);
+	}
+
+	/**
+	 * URL 을 처리할 전략 (크롤링 서비스와 같은 기준으로 선택)
+	 */
+	public WebCrawlingStrategy strategyFor(String url) {
+		return strategies.stream()
+			.filter(strategy -> strategy.supports(url))
+			.findFirst()
+			.orElseThrow(() -> new IllegalArgumentException("no strategy for " + url));
+	}
+
+	public WebContentCrawlingService crawlingService() {
+		return crawlingService;
+	}
+
+	public MeterRegistry meterRegistry() {
+		return meterRegistry;
+	}
+
+	@Override
+	public void close() {
+		crawlingTaskExecutor.shutdownNow();
+	}
+}
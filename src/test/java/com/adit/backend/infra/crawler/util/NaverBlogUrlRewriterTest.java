@@ -0,0 +1,51 @@
+package com.adit.backend.infra.crawler.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * 지원하는 네이버 블로그 URL 형식만 PostView URL 로 바꾸는지 확인
+ */
+class NaverBlogUrlRewriterTest {
+
+	private static final String POST_VIEW_URL =
+		"https://blog.naver.com/PostView.naver?blogId=sample&logNo=223&redirect=Dlog&widgetTypeCall=true&directAccess=false";
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"https://blog.naver.com/sample/223",
+		"https://blog.naver.com/sample/223/",
+		"https://m.blog.naver.com/sample/223",
+		"https://blog.naver.com/PostView.naver?blogId=sample&logNo=223",
+		"https://blog.naver.com/PostView.nhn?blogId=sample&logNo=223",
+		"https://m.blog.naver.com/PostView.naver?logNo=223&blogId=sample",
+		"https://blog.naver.com/sample?Redirect=Log&logNo=223",
+		"  https://BLOG.naver.com/sample/223  "
+	})
+	void rewritesSupportedForms(String url) {
+		assertEquals(Optional.of(POST_VIEW_URL), NaverBlogUrlRewriter.toPostViewUrl(url));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"https://blog.naver.com/sample",
+		"https://blog.naver.com/sample/abc",
+		"https://blog.naver.com/sample/223/extra",
+		"https://blog.naver.com/PostView.naver?blogId=sample",
+		"https://blog.naver.com/PostView.naver?logNo=223",
+		"https://blog.naver.com/PostView.jsp?blogId=sample&logNo=223",
+		"https://blog.naver.com/PostView.naver?blogId=a%22b&logNo=223",
+		"https://blog.naver.com/sample?Redirect=Log&logNo=22x",
+		"https://cafe.naver.com/sample/223",
+		"https://blog.naver.com.example.com/sample/223",
+		"https://example.com/blog.naver.com/sample/223",
+		"not a url"
+	})
+	void leavesOtherUrlsUnmatched(String url) {
+		assertEquals(Optional.empty(), NaverBlogUrlRewriter.toPostViewUrl(url));
+	}
+}
@@ -0,0 +1,106 @@
+package com.adit.backend.infra.crawler.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * 문장 경계 청크 분할과 (start, end) 구간 묶음, 본문 뷰 반환 확인
+ */
+class TextChunkerTest {
+
+	@ParameterizedTest
+	@CsvSource({
+		"0, 0",
+		"0, 1",
+		"5, 500",
+		"65535, 65536",
+		"2147483646, 2147483647",
+		"2147483647, 0"
+	})
+	void packedRangeRoundTrips(int start, int end) {
+		long range = TextChunker.pack(start, end);
+
+		// 끝 표시(-1)와 겹치지 않도록 항상 0 이상
+		assertTrue(range >= 0);
+		assertEquals(start, TextChunker.start(range));
+		assertEquals(end, TextChunker.end(range));
+	}
+
+	@Test
+	void sentencesAreGroupedUpToChunkSize() {
+		assertEquals(List.of("One. Two.", "Three.", "Four."), chunks("One. Two. Three. Four.", 10));
+	}
+
+	@Test
+	void terminatorWithoutFollowingWhitespaceIsNotBoundary() {
+		assertEquals(List.of("Pi is 3.14 ok.", "Next."), chunks("Pi is 3.14 ok. Next.", 5));
+	}
+
+	@Test
+	void lastSentenceEndsAtEndOfText() {
+		assertEquals(List.of("Hi!", "Yo!"), chunks("Hi! Yo!\n", 3));
+		assertEquals(List.of("Hi!", "Yo"), chunks("  Hi!\t Yo", 3));
+	}
+
+	@Test
+	void textWithoutTerminatorIsOneChunk() {
+		String text = "가".repeat(1000);
+
+		assertEquals(List.of(text), chunks(text, 100));
+	}
+
+	@Test
+	void emptyOrBlankTextHasNoChunks() {
+		assertEquals(List.of(), chunks(null, 10));
+		assertEquals(List.of(), chunks("", 10));
+		assertEquals(List.of(), chunks(" \n\t ", 10));
+	}
+
+	@Test
+	void spliteratorStaysExhausted() {
+		TextChunker.ChunkSpliterator spliterator = new TextChunker.ChunkSpliterator("One. Two.", 3);
+		List<CharSequence> chunks = new ArrayList<>();
+
+		while (spliterator.tryAdvance(chunks::add)) {
+		}
+
+		assertEquals(2, chunks.size());
+		assertFalse(spliterator.tryAdvance(chunk -> fail("청크가 더 나오면 안 됨")));
+	}
+
+	@Test
+	void chunksAreViewsOverText() {
+		StringBuilder text = new StringBuilder("첫 문장. 둘째 문장.");
+		Iterator<CharSequence> chunks = TextChunker.of(5).chunkIterator(text);
+		CharSequence first = chunks.next();
+		CharSequence second = chunks.next();
+
+		assertInstanceOf(CharBuffer.class, first);
+		assertEquals("첫 문장.", first.toString());
+		text.setCharAt(0, '새');
+		text.setCharAt(6, '셋');
+
+		// 본문을 복사하지 않으므로 원본 변경이 그대로 보인다
+		assertEquals("새 문장.", first.toString());
+		assertEquals("셋째 문장.", second.toString());
+	}
+
+	@Test
+	void rejectsNonPositiveChunkSize() {
+		assertThrows(IllegalArgumentException.class, () -> TextChunker.of(0));
+	}
+
+	private static List<String> chunks(String text, int chunkSize) {
+		List<String> chunks = new ArrayList<>();
+		TextChunker.of(chunkSize).chunkIterator(text).forEachRemaining(chunk -> chunks.add(chunk.toString()));
+		return chunks;
+	}
+}
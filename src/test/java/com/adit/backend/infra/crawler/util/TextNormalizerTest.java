@@ -0,0 +1,116 @@
+package com.adit.backend.infra.crawler.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+
+import com.adit.backend.infra.crawler.support.CrawlerFixtures;
+
+/**
+ * TextNormalizer 가 대체한 기존 replaceAll 체인과 같은 결과를 내는지 확인
+ */
+class TextNormalizerTest {
+
+	private static final List<String> EDGE_INPUTS = List.of(
+		"",
+		" ",
+		"   앞뒤 공백   ",
+		"\t\n 탭과 줄바꿈으로 둘러싼 본문 \r\n\t",
+		"첫 줄\r\n둘째 줄\r\n\r\n셋째 줄",
+		"빈 줄\n\n\n\n여러 개\n \n \n끝",
+		"윈도우\r\r\n\r\n줄바꿈",
+		"줄바꿈 사이 공백\n  \n탭\t\t문자",
+		"NBSP\u00A0사이\u00A0\u00A0공백",
+		"제로\u200B폭\u200C문자\u200D와\uFEFFBOM",
+		"좁은\u202F공백과\u2007숫자 공백",
+		"유니코드 줄\u2028구분\u2029문단\u0085다음 줄",
+		"(괄호\u2028안) [대괄호\u0085안]",
+		"이모지 \uD83D\uDE0A\uD83D\uDC4D 와 기호 ★☆ ♥",
+		"짝 없는 서로게이트 \uD83D 와 \uDE0A",
+		"하이픈-대시–엠대시— 구분",
+		"링크 https://blog.naver.com/sample/1?a=b#frag 끝",
+		"#해시태그 #성수카페 본문",
+		"{{template}} 본문 {{ 닫히지 않은",
+		"저작자 표시 변경 금지 불가\n공지 목록 전체보기\n댓글쓰기 이전 다음 URL 복사 신고하기",
+		"<b>태그</b> 1 < 2 > 0",
+		"수식 ½ ² ③ 과 ①"
+	);
+
+	private static final String[] FRAGMENTS = {
+		"오늘은 성수동에 다녀왔어요. ", "[광고] ", "(내돈내산) ", "주소: 서울 성동구 12 ", "https://a.b/c ",
+		"#성수카페 ", "\uD83D\uDE0A ", "★☆ ", "\n\n", "\r\n", "11:00 - 21:00\n", "{{t}} ", "공지 목록 전체\n",
+		"   \t ", "\u00A0", "\u200B", "\u2028", "(", ")", "[", "]", "Lorem ipsum. "
+	};
+
+	@Test
+	void matchesLegacyChainOnEdgeInputs() {
+		for (String input : EDGE_INPUTS) {
+			assertEquals(legacy(input), TextNormalizer.normalize(input), () -> "input: " + escape(input));
+		}
+	}
+
+	@Test
+	void matchesLegacyChainOnFixturePages() {
+		for (String page : CrawlerFixtures.PAGES) {
+			Document document = CrawlerFixtures.document(page);
+			for (String input : List.of(document.body().wholeText(), document.body().text(), document.html())) {
+				assertEquals(legacy(input), TextNormalizer.normalize(input), page);
+			}
+		}
+	}
+
+	@Test
+	void matchesLegacyChainOnRandomCombinations() {
+		Random random = new Random(20250101L);
+		for (int i = 0; i < 2000; i++) {
+			StringBuilder builder = new StringBuilder();
+			int count = 1 + random.nextInt(12);
+			for (int j = 0; j < count; j++) {
+				builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+			}
+			String input = builder.toString();
+			assertEquals(legacy(input), TextNormalizer.normalize(input), () -> "input: " + escape(input));
+		}
+	}
+
+	@Test
+	void nullBecomesEmpty() {
+		assertEquals("", TextNormalizer.normalize(null));
+	}
+
+	/**
+	 * user-001 이전 WebContentCrawler.preprocessText 의 체인 그대로
+	 */
+	private static String legacy(String text) {
+		return text
+			.replaceAll("\\{\\{[^}]+\\}\\}", "")
+			.replaceAll("저작자[^\\n]*변경[^\\n]*불가", "")
+			.replaceAll("공지\\s*목록[^\\n]*\\n?", "")
+			.replaceAll("댓글쓰기[^\\n]*다음", "")
+			.replaceAll("URL[^\\n]*신고하기", "")
+			.replaceAll("\\[.*?\\]", "")
+			.replaceAll("\\(.*?\\)", "")
+			.replaceAll("[\\uD83C-\\uDBFF\\uDC00-\\uDFFF]", "")
+			.replaceAll("[\\u2600-\\u27BF]", "")
+			.replaceAll("[^\\p{L}\\p{N}\\p{P}\\s]", "")
+			.replaceAll("\\b(https?|ftp|file)://\\S+\\b", "")
+			.replaceAll("<[^>]+>", "")
+			.replaceAll("#\\w+", "")
+			.replaceAll("\\[.*?\\]", "")
+			.replaceAll("\\(.*?\\)", "")
+			.replaceAll("[\\p{So}\\p{Sk}]", "")
+			.replaceAll("[\\r\\n]+", "\n")
+			.replaceAll("\\s{2,}", " ")
+			.trim();
+	}
+
+	private static String escape(String text) {
+		StringBuilder builder = new StringBuilder();
+		text.chars().forEach(ch -> builder.append(ch < 0x20 || ch > 0x7E ? String.format("\\u%04X", ch) : (char)ch));
+		return builder.toString();
+	}
+}
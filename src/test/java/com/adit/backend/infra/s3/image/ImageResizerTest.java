@@ -0,0 +1,156 @@
+package com.adit.backend.infra.s3.image;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import com.adit.backend.domain.image.enums.ImageVariant;
+
+/**
+ * 크기별 변환, 방향 보정, 투명 배경 처리 확인
+ */
+class ImageResizerTest {
+
+	private final ImageResizer resizer = new ImageResizer(
+		new ImageProcessingProperties(true, 1, 10, 0.8f, 40_000_000L, DataSize.ofMegabytes(30)));
+
+	@Test
+	void producesEachVariantWithinItsWidthKeepingAspectRatio() throws IOException {
+		byte[] source = encode(image(3000, 1500, BufferedImage.TYPE_INT_RGB, Color.BLUE), "png");
+
+		Map<ImageVariant, byte[]> variants = resizer.resize(source);
+
+		assertEquals(ImageVariant.values().length, variants.size());
+		for (ImageVariant variant : ImageVariant.values()) {
+			BufferedImage decoded = decode(variants.get(variant));
+			assertEquals(variant.getMaxWidth(), decoded.getWidth());
+			assertEquals(variant.getMaxWidth() / 2, decoded.getHeight(), 1);
+		}
+		assertTrue(variants.get(ImageVariant.THUMBNAIL).length < variants.get(ImageVariant.DETAIL).length);
+	}
+
+	@Test
+	void doesNotUpscaleSmallImages() throws IOException {
+		byte[] source = encode(image(500, 300, BufferedImage.TYPE_INT_RGB, Color.RED), "jpeg");
+
+		Map<ImageVariant, byte[]> variants = resizer.resize(source);
+
+		assertEquals(500, decode(variants.get(ImageVariant.DETAIL)).getWidth());
+		assertEquals(500, decode(variants.get(ImageVariant.LIST)).getWidth());
+		assertEquals(ImageVariant.THUMBNAIL.getMaxWidth(), decode(variants.get(ImageVariant.THUMBNAIL)).getWidth());
+	}
+
+	@Test
+	void flattensTransparencyOntoWhite() throws IOException {
+		byte[] source = encode(image(100, 100, BufferedImage.TYPE_INT_ARGB, new Color(0, 0, 0, 0)), "png");
+
+		BufferedImage detail = decode(resizer.resize(source).get(ImageVariant.DETAIL));
+
+		Color center = new Color(detail.getRGB(50, 50));
+		assertTrue(center.getRed() > 240 && center.getGreen() > 240 && center.getBlue() > 240);
+	}
+
+	@Test
+	void appliesExifOrientation() throws IOException {
+		byte[] source = withExifOrientation(encode(image(400, 200, BufferedImage.TYPE_INT_RGB, Color.GREEN), "jpeg"), 6);
+
+		BufferedImage detail = decode(resizer.resize(source).get(ImageVariant.DETAIL));
+
+		assertEquals(200, detail.getWidth());
+		assertEquals(400, detail.getHeight());
+	}
+
+	@Test
+	void streamedSourceAppliesExifOrientation() throws IOException {
+		byte[] source = withExifOrientation(encode(image(400, 200, BufferedImage.TYPE_INT_RGB, Color.GREEN), "jpeg"), 6);
+
+		BufferedImage detail;
+		try (InputStream input = new ByteArrayInputStream(source)) {
+			detail = decode(resizer.resize(input).get(ImageVariant.DETAIL));
+		}
+
+		assertEquals(200, detail.getWidth());
+		assertEquals(400, detail.getHeight());
+	}
+
+	@Test
+	void orientationTransformsMovePixelsToExpectedCorners() {
+		BufferedImage source = image(3, 2, BufferedImage.TYPE_INT_RGB, Color.BLACK);
+		source.setRGB(0, 0, Color.WHITE.getRGB());
+
+		// 원본 왼쪽 위 픽셀이 방향 값별로 이동해야 하는 위치 (x, y)
+		int[][] expected = {{0, 0}, {2, 0}, {2, 1}, {0, 1}, {0, 0}, {1, 0}, {1, 2}, {0, 2}};
+		for (int orientation = 1; orientation <= 8; orientation++) {
+			BufferedImage oriented = ImageResizer.orient(source, orientation);
+			int[] corner = expected[orientation - 1];
+			assertEquals(Color.WHITE.getRGB(), oriented.getRGB(corner[0], corner[1]), "orientation " + orientation);
+		}
+	}
+
+	@Test
+	void unreadableBytesProduceNoVariants() throws IOException {
+		assertTrue(resizer.resize("not an image".getBytes()).isEmpty());
+	}
+
+	@Test
+	void oversizedSourceIsSkipped() throws IOException {
+		ImageResizer strict = new ImageResizer(new ImageProcessingProperties(true, 1, 10, 0.8f, 100L,
+			DataSize.ofMegabytes(30)));
+
+		assertTrue(strict.resize(encode(image(20, 20, BufferedImage.TYPE_INT_RGB, Color.RED), "png")).isEmpty());
+	}
+
+	private static BufferedImage image(int width, int height, int type, Color color) {
+		BufferedImage image = new BufferedImage(width, height, type);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, color.getRGB());
+			}
+		}
+		return image;
+	}
+
+	private static byte[] encode(BufferedImage image, String format) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ImageIO.write(image, format, output);
+		return output.toByteArray();
+	}
+
+	private static BufferedImage decode(byte[] data) throws IOException {
+		return ImageIO.read(new ByteArrayInputStream(data));
+	}
+
+	/**
+	 * SOI 바로 뒤에 방향 태그 하나만 담은 Exif(APP1, big-endian) 세그먼트 삽입
+	 */
+	private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+		byte[] tiff = {
+			'M', 'M', 0, 42, 0, 0, 0, 8,
+			0, 1,
+			0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte)orientation, 0, 0,
+			0, 0, 0, 0
+		};
+		int length = 2 + 6 + tiff.length;
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		output.write(jpeg, 0, 2);
+		output.write(0xFF);
+		output.write(0xE1);
+		output.write(length >> 8);
+		output.write(length & 0xFF);
+		output.writeBytes(new byte[] {'E', 'x', 'i', 'f', 0, 0});
+		output.writeBytes(tiff);
+		output.write(jpeg, 2, jpeg.length - 2);
+		return output.toByteArray();
+	}
+}
@@ -0,0 +1,210 @@
+package com.adit.backend.infra.s3.upload;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.infra.s3.exception.S3Exception;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.CopyObjectResult;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+
+/**
+ * 직접 업로드 URL 발급과 완료 확인 (로컬 MinIO 엔드포인트 설정의 실제 클라이언트로 서명, 객체는 인메모리 S3)
+ */
+class PresignedUploaderTest {
+
+	private static final PresignedUploadProperties PROPERTIES = new PresignedUploadProperties(Duration.ofMinutes(10),
+		DataSize.ofKilobytes(1), List.of("image/jpeg", "image/png", "image/heic"));
+	private static final byte[] JPEG = {(byte)0xFF, (byte)0xD8, (byte)0xFF, (byte)0xE0, 0, 16, 'J', 'F', 'I', 'F', 0,
+		1, 1, 0};
+	private static final byte[] HEIC = {0, 0, 0, 24, 'f', 't', 'y', 'p', 'h', 'e', 'i', 'c', 0, 0, 0, 0};
+	private static final byte[] MP4 = {0, 0, 0, 24, 'f', 't', 'y', 'p', 'i', 's', 'o', 'm', 0, 0, 2, 0};
+
+	private final InMemoryS3 s3 = new InMemoryS3();
+	private final PresignedUploader uploader = new PresignedUploader(s3, "bucket", PROPERTIES);
+
+	@Test
+	void issuedUrlIsSignedPutToOwnerUploadPath() {
+		PresignedUpload upload = uploader.issue(7L, "image/jpeg", 500);
+
+		assertTrue(upload.key().matches("UPLOAD/7/[0-9a-f-]{36}\\.jpg"), upload.key());
+		assertTrue(upload.uploadUrl().startsWith("http://localhost:9000/bucket/" + upload.key() + "?"));
+		// 만료 시각은 발급 시점 기준이라 서명 시점에는 1초 이내로 줄어들 수 있음
+		assertTrue(upload.uploadUrl().matches(".*[?&]X-Amz-Expires=(599|600)(&.*)?"), upload.uploadUrl());
+		assertTrue(upload.uploadUrl().contains("X-Amz-SignedHeaders=content-type%3Bhost"));
+		assertEquals("image/jpeg", upload.contentType());
+	}
+
+	@Test
+	void issueRejectsUnsupportedTypeAndOversizedFile() {
+		assertError(GlobalErrorCode.S3_INVALID_FILE, () -> uploader.issue(7L, "application/pdf", 500));
+		assertError(GlobalErrorCode.S3_UPLOAD_TOO_LARGE, () -> uploader.issue(7L, "image/png", 2048));
+	}
+
+	@Test
+	void completeMovesVerifiedObjectToPublicPath() {
+		PresignedUpload upload = uploader.issue(7L, "image/jpeg", JPEG.length);
+		s3.put(upload.key(), JPEG, "image/jpeg");
+
+		String key = uploader.complete(7L, upload.key(), "PLACE");
+
+		assertEquals("PLACE/" + upload.key().substring("UPLOAD/7/".length()), key);
+		assertArrayEquals(JPEG, s3.objects.get(key));
+		assertFalse(s3.objects.containsKey(upload.key()));
+		assertEquals(CannedAccessControlList.PublicRead, s3.lastCopyAcl);
+	}
+
+	@Test
+	void completeRejectsOtherUsersUpload() {
+		PresignedUpload upload = uploader.issue(7L, "image/jpeg", JPEG.length);
+		s3.put(upload.key(), JPEG, "image/jpeg");
+
+		assertError(GlobalErrorCode.FORBIDDEN_ERROR, () -> uploader.complete(8L, upload.key(), "PLACE"));
+		assertError(GlobalErrorCode.FORBIDDEN_ERROR, () -> uploader.complete(7L, "UPLOAD/7/../8/x.jpg", "PLACE"));
+		assertTrue(s3.objects.containsKey(upload.key()));
+	}
+
+	@Test
+	void completeFailsWhenNothingWasUploaded() {
+		PresignedUpload upload = uploader.issue(7L, "image/jpeg", JPEG.length);
+
+		assertError(GlobalErrorCode.S3_UPLOAD_NOT_FOUND, () -> uploader.complete(7L, upload.key(), "PLACE"));
+	}
+
+	@Test
+	void completeDeletesOversizedOrNonImageObject() {
+		PresignedUpload large = uploader.issue(7L, "image/jpeg", 100);
+		byte[] oversized = Arrays.copyOf(JPEG, 2048);
+		s3.put(large.key(), oversized, "image/jpeg");
+		PresignedUpload disguised = uploader.issue(7L, "image/png", 100);
+		s3.put(disguised.key(), "<html></html>".getBytes(), "image/png");
+
+		assertError(GlobalErrorCode.S3_UPLOAD_TOO_LARGE, () -> uploader.complete(7L, large.key(), "PLACE"));
+		assertError(GlobalErrorCode.S3_INVALID_FILE, () -> uploader.complete(7L, disguised.key(), "PLACE"));
+		assertTrue(s3.objects.isEmpty());
+	}
+
+	@Test
+	void completeAcceptsHeifBrandUploadedAsHeic() {
+		PresignedUpload upload = uploader.issue(7L, "image/heic", HEIC.length);
+		s3.put(upload.key(), HEIC, "image/heic");
+
+		String key = uploader.complete(7L, upload.key(), "EVENT");
+
+		assertArrayEquals(HEIC, s3.objects.get(key));
+	}
+
+	@Test
+	void completeRejectsSignatureThatDoesNotMatchContentType() {
+		PresignedUpload video = uploader.issue(7L, "image/heic", MP4.length);
+		s3.put(video.key(), MP4, "image/heic");
+		PresignedUpload mislabeled = uploader.issue(7L, "image/png", JPEG.length);
+		s3.put(mislabeled.key(), JPEG, "image/png");
+
+		// ftyp 상자라도 주 브랜드가 HEIF 가 아니면(MP4) 이미지가 아니고, 실제 형식과 Content-Type 이 달라도 거부
+		assertError(GlobalErrorCode.S3_INVALID_FILE, () -> uploader.complete(7L, video.key(), "PLACE"));
+		assertError(GlobalErrorCode.S3_INVALID_FILE, () -> uploader.complete(7L, mislabeled.key(), "PLACE"));
+		assertTrue(s3.objects.isEmpty());
+	}
+
+	@Test
+	void detectsContentTypeFromSignature() {
+		byte[] avif = {0, 0, 0, 28, 'f', 't', 'y', 'p', 'a', 'v', 'i', 'f'};
+		byte[] mif1 = {0, 0, 0, 28, 'f', 't', 'y', 'p', 'm', 'i', 'f', '1'};
+
+		assertEquals("image/jpeg", PresignedUploader.detectContentType(JPEG));
+		assertEquals("image/heic", PresignedUploader.detectContentType(mif1));
+		assertEquals("image/avif", PresignedUploader.detectContentType(avif));
+		assertNull(PresignedUploader.detectContentType(MP4));
+		assertTrue(PresignedUploader.isImage(mif1, "image/heif"));
+	}
+
+	private static void assertError(GlobalErrorCode expected, Runnable action) {
+		S3Exception exception = assertThrows(S3Exception.class, action::run);
+		assertEquals(expected, exception.getErrorCode());
+	}
+
+	/**
+	 * 객체를 메모리에 두는 S3 (서명은 로컬 엔드포인트로 설정한 실제 클라이언트에 위임)
+	 */
+	private static final class InMemoryS3 extends AbstractAmazonS3 {
+
+		private final AmazonS3 signer = AmazonS3ClientBuilder.standard()
+			.withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("minio", "minio123")))
+			.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration("http://localhost:9000", "us-east-1"))
+			.withPathStyleAccessEnabled(true)
+			.build();
+		private final Map<String, byte[]> objects = new HashMap<>();
+		private final Map<String, String> contentTypes = new HashMap<>();
+		private CannedAccessControlList lastCopyAcl;
+
+		private void put(String key, byte[] data, String contentType) {
+			objects.put(key, data);
+			contentTypes.put(key, contentType);
+		}
+
+		@Override
+		public URL generatePresignedUrl(GeneratePresignedUrlRequest request) {
+			return signer.generatePresignedUrl(request);
+		}
+
+		@Override
+		public ObjectMetadata getObjectMetadata(String bucketName, String key) {
+			if (!objects.containsKey(key)) {
+				AmazonS3Exception notFound = new AmazonS3Exception("Not Found");
+				notFound.setStatusCode(404);
+				throw notFound;
+			}
+			ObjectMetadata metadata = new ObjectMetadata();
+			metadata.setContentLength(objects.get(key).length);
+			metadata.setContentType(contentTypes.get(key));
+			return metadata;
+		}
+
+		@Override
+		public S3Object getObject(GetObjectRequest request) {
+			byte[] data = objects.get(request.getKey());
+			long[] range = request.getRange();
+			S3Object object = new S3Object();
+			object.setObjectContent(new ByteArrayInputStream(data, (int)range[0],
+				(int)Math.min(data.length, range[1] + 1) - (int)range[0]));
+			return object;
+		}
+
+		@Override
+		public CopyObjectResult copyObject(CopyObjectRequest request) {
+			put(request.getDestinationKey(), objects.get(request.getSourceKey()),
+				contentTypes.get(request.getSourceKey()));
+			lastCopyAcl = request.getCannedAccessControlList();
+			return new CopyObjectResult();
+		}
+
+		@Override
+		public void deleteObject(String bucketName, String key) {
+			objects.remove(key);
+			contentTypes.remove(key);
+		}
+	}
+}
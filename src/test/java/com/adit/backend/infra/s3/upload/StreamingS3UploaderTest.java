@@ -0,0 +1,345 @@
+package com.adit.backend.infra.s3.upload;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import com.adit.backend.infra.s3.exception.S3Exception;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.CopyObjectResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+/**
+ * 스트리밍 업로드 확인 (요청을 기록하는 인메모리 S3 사용, 파트 크기는 작게 설정)
+ */
+class StreamingS3UploaderTest {
+
+	private static final int CHUNK = 1024;
+	private static final int PART = 4 * CHUNK;
+	private static final S3UploadProperties PROPERTIES = new S3UploadProperties(DataSize.ofBytes(CHUNK),
+		DataSize.ofBytes(PART), DataSize.ofBytes(4L * PART), Duration.ofMillis(200), DataSize.ofBytes(8L * PART));
+
+	private final RecordingS3 s3 = new RecordingS3();
+	private final UploadBufferPool pool = new UploadBufferPool(CHUNK, PROPERTIES.maxChunks());
+	private final StreamingS3Uploader uploader = new StreamingS3Uploader(s3, "bucket", PROPERTIES, pool);
+
+	@Test
+	void smallStreamIsSinglePutWithExactLength() {
+		byte[] data = bytes(PART - 100);
+
+		uploader.upload("small.jpg", new ByteArrayInputStream(data), -1, "image/jpeg");
+
+		assertEquals(1, s3.puts.size());
+		assertEquals(data.length, s3.putLengths.get(0));
+		assertArrayEquals(data, s3.puts.get(0));
+		assertEquals(0, s3.initiated.get());
+		assertEquals(0, pool.inUse());
+	}
+
+	@Test
+	void knownLengthBorrowsOnlyWhatItNeeds() {
+		byte[] data = bytes(CHUNK + 10);
+		int[] borrowed = new int[1];
+		InputStream source = new ByteArrayInputStream(data) {
+			@Override
+			public synchronized int read(byte[] buffer, int offset, int length) {
+				borrowed[0] = Math.max(borrowed[0], pool.inUse());
+				return super.read(buffer, offset, length);
+			}
+		};
+
+		uploader.upload("known.jpg", source, data.length, "image/jpeg");
+
+		assertEquals(2, borrowed[0]);
+		assertArrayEquals(data, s3.puts.get(0));
+	}
+
+	@Test
+	void largeStreamIsUploadedInPartsAndReassemblesExactly() {
+		byte[] data = bytes(3 * PART + 123);
+
+		uploader.upload("large.jpg", new ByteArrayInputStream(data), -1, "image/jpeg");
+
+		assertEquals(0, s3.puts.size());
+		assertEquals(4, s3.parts.size());
+		assertTrue(s3.lastPartFlags.get(3));
+		assertArrayEquals(data, s3.completedObject());
+		assertEquals(0, s3.aborted.get());
+		assertEquals(0, pool.inUse());
+	}
+
+	@Test
+	void exactPartSizedStreamIsSinglePut() {
+		byte[] data = bytes(PART);
+
+		uploader.upload("exact.jpg", new ByteArrayInputStream(data), -1, "image/jpeg");
+
+		assertEquals(1, s3.puts.size());
+		assertArrayEquals(data, s3.puts.get(0));
+	}
+
+	@Test
+	void failureMidStreamAbortsMultipartAndReleasesBuffers() {
+		InputStream failing = new SequenceInputStream(new ByteArrayInputStream(bytes(2 * PART)), new InputStream() {
+			@Override
+			public int read() throws IOException {
+				throw new IOException("connection reset");
+			}
+		});
+
+		assertThrows(S3Exception.class, () -> uploader.upload("broken.jpg", failing, -1, "image/jpeg"));
+
+		assertEquals(1, s3.initiated.get());
+		assertEquals(1, s3.aborted.get());
+		assertEquals(0, pool.inUse());
+	}
+
+	@Test
+	void oversizedStreamIsRejected() {
+		byte[] data = bytes(8 * PART + 1);
+
+		assertThrows(S3Exception.class,
+			() -> uploader.upload("huge.jpg", new ByteArrayInputStream(data), -1, "image/jpeg"));
+		assertThrows(S3Exception.class,
+			() -> uploader.upload("huge.jpg", new ByteArrayInputStream(data), data.length, "image/jpeg"));
+
+		assertEquals(1, s3.aborted.get());
+		assertEquals(0, pool.inUse());
+	}
+
+	@Test
+	void exhaustedPoolFailsAfterTimeout() throws InterruptedException {
+		List<ByteBuffer> held = pool.acquire(pool.maxChunks(), Duration.ZERO);
+
+		assertThrows(S3Exception.class,
+			() -> uploader.upload("wait.jpg", new ByteArrayInputStream(bytes(10)), 10, "image/jpeg"));
+
+		pool.release(held);
+		assertEquals(0, pool.inUse());
+	}
+
+	@Test
+	void bodiesLongerThanAnnouncedDoNotHoldBuffersWhileWaitingForMore() throws Exception {
+		// 풀은 한 파트 분량뿐이고, 두 업로드가 각자 두 조각을 빌린 상태에서 알려준 길이보다 긴 본문을 만난다
+		UploadBufferPool onePartPool = new UploadBufferPool(CHUNK, PROPERTIES.chunksPerPart());
+		StreamingS3Uploader onePartUploader = new StreamingS3Uploader(s3, "bucket", PROPERTIES, onePartPool);
+		CyclicBarrier bothBorrowed = new CyclicBarrier(2);
+		byte[] first = bytes(3 * CHUNK);
+		byte[] second = bytes(3 * CHUNK + 1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			CompletableFuture<StoredObject> firstUpload = CompletableFuture.supplyAsync(() -> onePartUploader.upload(
+				"first.jpg", afterBarrier(first, bothBorrowed), CHUNK + 10, "image/jpeg"), executor);
+			CompletableFuture<StoredObject> secondUpload = CompletableFuture.supplyAsync(() -> onePartUploader.upload(
+				"second.jpg", afterBarrier(second, bothBorrowed), CHUNK + 10, "image/jpeg"), executor);
+
+			assertEquals(first.length, firstUpload.get(5, TimeUnit.SECONDS).size());
+			assertEquals(second.length, secondUpload.get(5, TimeUnit.SECONDS).size());
+		} finally {
+			executor.shutdownNow();
+		}
+		assertArrayEquals(first, s3.objects.get("first.jpg"));
+		assertArrayEquals(second, s3.objects.get("second.jpg"));
+		assertEquals(0, onePartPool.inUse());
+	}
+
+	@Test
+	void contentAddressedUploadStoresSameBytesOnce() {
+		byte[] data = bytes(PART - 1);
+
+		StoredObject first = uploader.uploadContentAddressed(hash -> "CONTENT/" + hash + ".jpg",
+			new ByteArrayInputStream(data), data.length, "image/jpeg");
+		StoredObject second = uploader.uploadContentAddressed(hash -> "CONTENT/" + hash + ".jpg",
+			new ByteArrayInputStream(data), -1, "image/jpeg");
+
+		assertFalse(first.reused());
+		assertTrue(second.reused());
+		assertEquals(first.key(), second.key());
+		assertEquals("CONTENT/" + sha256(data) + ".jpg", first.key());
+		assertEquals(1, s3.puts.size());
+		assertEquals(0, pool.inUse());
+	}
+
+	@Test
+	void largeContentAddressedUploadIsMovedToHashKeyOrAbortedWhenDuplicate() {
+		byte[] data = bytes(2 * PART + 7);
+
+		StoredObject first = uploader.uploadContentAddressed(hash -> "CONTENT/" + hash,
+			new ByteArrayInputStream(data), -1, "image/jpeg");
+		StoredObject second = uploader.uploadContentAddressed(hash -> "CONTENT/" + hash,
+			new ByteArrayInputStream(data), -1, "image/jpeg");
+
+		assertEquals("CONTENT/" + sha256(data), first.key());
+		assertFalse(first.reused());
+		assertTrue(second.reused());
+		assertEquals(Set.of(first.key()), s3.objects.keySet());
+		assertArrayEquals(data, s3.objects.get(first.key()));
+		assertEquals(1, s3.aborted.get());
+		assertEquals(0, pool.inUse());
+	}
+
+	private static String sha256(byte[] data) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 두 업로드가 모두 첫 버퍼를 빌린 뒤에 읽기 시작하는 스트림
+	 */
+	private static InputStream afterBarrier(byte[] data, CyclicBarrier barrier) {
+		return new ByteArrayInputStream(data) {
+			private boolean started;
+
+			@Override
+			public synchronized int read(byte[] buffer, int offset, int length) {
+				if (!started) {
+					started = true;
+					try {
+						barrier.await(5, TimeUnit.SECONDS);
+					} catch (Exception e) {
+						throw new IllegalStateException(e);
+					}
+				}
+				return super.read(buffer, offset, length);
+			}
+		};
+	}
+
+	private static byte[] bytes(int size) {
+		byte[] data = new byte[size];
+		new Random(size).nextBytes(data);
+		return data;
+	}
+
+	/**
+	 * 받은 요청과 본문을 기록하는 S3 (사용하지 않는 API 는 UnsupportedOperationException)
+	 */
+	private static final class RecordingS3 extends AbstractAmazonS3 {
+
+		private final List<byte[]> puts = new ArrayList<>();
+		private final List<Long> putLengths = new ArrayList<>();
+		private final List<byte[]> parts = new ArrayList<>();
+		private final List<Boolean> lastPartFlags = new ArrayList<>();
+		private final List<PartETag> completedParts = new ArrayList<>();
+		private final AtomicInteger initiated = new AtomicInteger();
+		private final AtomicInteger aborted = new AtomicInteger();
+		private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+		@Override
+		public synchronized PutObjectResult putObject(PutObjectRequest request) {
+			byte[] object = readAll(request.getInputStream());
+			putLengths.add(request.getMetadata().getContentLength());
+			puts.add(object);
+			objects.put(request.getKey(), object);
+			return new PutObjectResult();
+		}
+
+		@Override
+		public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+			initiated.incrementAndGet();
+			parts.clear();
+			lastPartFlags.clear();
+			InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+			result.setUploadId("upload-" + request.getKey());
+			return result;
+		}
+
+		@Override
+		public UploadPartResult uploadPart(UploadPartRequest request) {
+			byte[] part = readAll(request.getInputStream());
+			assertEquals(request.getPartSize(), part.length);
+			parts.add(part);
+			lastPartFlags.add(request.isLastPart());
+			UploadPartResult result = new UploadPartResult();
+			result.setPartNumber(request.getPartNumber());
+			result.setETag("etag-" + request.getPartNumber());
+			return result;
+		}
+
+		@Override
+		public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+			completedParts.addAll(request.getPartETags());
+			objects.put(request.getKey(), completedObject());
+			return new CompleteMultipartUploadResult();
+		}
+
+		@Override
+		public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+			aborted.incrementAndGet();
+		}
+
+		@Override
+		public boolean doesObjectExist(String bucketName, String key) {
+			return objects.containsKey(key);
+		}
+
+		@Override
+		public CopyObjectResult copyObject(CopyObjectRequest request) {
+			objects.put(request.getDestinationKey(), objects.get(request.getSourceKey()));
+			return new CopyObjectResult();
+		}
+
+		@Override
+		public void deleteObject(String bucketName, String key) {
+			objects.remove(key);
+		}
+
+		private byte[] completedObject() {
+			ByteArrayOutputStream object = new ByteArrayOutputStream();
+			for (PartETag partETag : completedParts) {
+					object.writeBytes(parts.get(partETag.getPartNumber() - 1));
+			}
+			return object.toByteArray();
+		}
+
+		private static byte[] readAll(InputStream input) {
+			try {
+				// SDK 재시도처럼 한 번 읽은 뒤 되돌려 다시 읽어도 같은 본문이어야 한다
+				input.mark(Integer.MAX_VALUE);
+				input.readAllBytes();
+				input.reset();
+				return input.readAllBytes();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}